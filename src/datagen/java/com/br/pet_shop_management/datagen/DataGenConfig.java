@@ -0,0 +1,56 @@
+package com.br.pet_shop_management.datagen;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Parâmetros da geração, lidos de system properties {@code datagen.*}.
+ * A mesma combinação de semente, tamanhos e datas sempre produz as mesmas linhas.
+ */
+record DataGenConfig(String jdbcUrl,
+                     String username,
+                     String password,
+                     long seed,
+                     int owners,
+                     int catalogItems,
+                     int appointments,
+                     LocalDate from,
+                     LocalDate to,
+                     LocalDate today,
+                     double customerSkew,
+                     double serviceSkew,
+                     BigDecimal cardInterestPerExtraInstallment,
+                     boolean truncate) {
+
+    static DataGenConfig fromSystemProperties() {
+        LocalDate today = LocalDate.parse(property("datagen.today", LocalDate.now().toString()));
+        DataGenConfig config = new DataGenConfig(
+                property("datagen.jdbc-url", "jdbc:postgresql://localhost:5432/petshop"),
+                property("datagen.username", "petshop_user"),
+                property("datagen.password", "petshop_pass"),
+                Long.parseLong(property("datagen.seed", "42")),
+                Integer.parseInt(property("datagen.owners", "100000")),
+                Integer.parseInt(property("datagen.catalog-items", "40")),
+                Integer.parseInt(property("datagen.appointments", "1000000")),
+                LocalDate.parse(property("datagen.from", today.minusYears(2).toString())),
+                LocalDate.parse(property("datagen.to", today.plusDays(60).toString())),
+                today,
+                Double.parseDouble(property("datagen.customer-skew", "0.7")),
+                Double.parseDouble(property("datagen.service-skew", "0.9")),
+                new BigDecimal(property("datagen.card-interest", "0.02")),
+                Boolean.parseBoolean(property("datagen.truncate", "true")));
+
+        if (config.owners() < 1 || config.catalogItems() < 1 || config.appointments() < 0) {
+            throw new IllegalArgumentException("owners and catalog-items must be at least 1; appointments must not be negative.");
+        }
+        if (!config.from().isBefore(config.to())) {
+            throw new IllegalArgumentException("datagen.from must be before datagen.to.");
+        }
+        return config;
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return (value == null || value.isBlank()) ? defaultValue : value.trim();
+    }
+}
@@ -0,0 +1,149 @@
+package com.br.pet_shop_management.datagen;
+
+import com.br.pet_shop_management.datagen.SyntheticDataset.IdBases;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Carrega a massa sintética via COPY em uma única transação: ou a base recebe tudo, ou nada.
+ * Agendamentos, itens e pagamentos são três passadas sobre a mesma semente, uma por tabela,
+ * porque cada conexão só mantém um COPY aberto por vez.
+ */
+public final class DataGenerator {
+    private static final String[] TABLES = {"owners", "pets", "catalog", "catalog_price_history", "appointments", "appointment_items", "payments"};
+
+    private DataGenerator() {}
+
+    public static void main(String[] args) throws Exception {
+        DataGenConfig config = DataGenConfig.fromSystemProperties();
+        System.out.printf("datagen: seed=%d, owners=%d, catalogItems=%d, appointments=%d, from=%s, to=%s, today=%s%n",
+                config.seed(), config.owners(), config.catalogItems(), config.appointments(),
+                config.from(), config.to(), config.today());
+
+        try (Connection connection = DriverManager.getConnection(config.jdbcUrl(), config.username(), config.password())) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set local synchronous_commit = off");
+                if (config.truncate()) {
+                    statement.execute("truncate table " + String.join(", ", TABLES) + " restart identity cascade");
+                }
+            }
+
+            IdBases ids = readIdBases(connection);
+            SyntheticDataset dataset = new SyntheticDataset(config, ids);
+            CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+            long started = System.nanoTime();
+
+            load(copy, "owners", "id, version, name, cpf, phone, email, address, status", dataset::writeOwners);
+            load(copy, "pets", "id, version, owner_id, owner_status, name, normalized_name, species, breed, size, birth_date, notes, allergies",
+                    dataset::writePets);
+            load(copy, "catalog", "id, version, name, description, duration_minutes, price_small, price_medium, price_large, status",
+                    dataset::writeCatalog);
+            load(copy, "catalog_price_history", "catalog_id, effective_from, price_small, price_medium, price_large",
+                    dataset::writeCatalogPriceHistory);
+
+            load(copy, "appointments", "id, version, owner_id, pet_id, scheduled_at, status, total_gross, closed_at",
+                    out -> dataset.forEachAppointment(appointment -> out
+                            .column(appointment.id)
+                            .column(0)
+                            .column(appointment.ownerId)
+                            .column(appointment.petId)
+                            .column(appointment.scheduledAt)
+                            .column(appointment.status)
+                            .column(appointment.totalGross)
+                            .column(appointment.closedAt)
+                            .endRow()));
+            load(copy, "appointment_items", "id, version, appointment_id, catalog_id, catalog_name, quantity, unit_price_applied, subtotal",
+                    out -> dataset.forEachAppointment(appointment -> {
+                        for (GeneratedAppointment.Item item : appointment.items) {
+                            out.column(item.id())
+                                    .column(0)
+                                    .column(appointment.id)
+                                    .column(item.catalogId())
+                                    .column(item.catalogName())
+                                    .column(item.quantity())
+                                    .column(item.unitPrice())
+                                    .column(item.subtotal())
+                                    .endRow();
+                        }
+                    }));
+            load(copy, "payments", "id, version, appointment_id, method, status, installments, final_amount, created_at",
+                    out -> dataset.forEachAppointment(appointment -> {
+                        GeneratedAppointment.Payment payment = appointment.payment;
+                        if (payment == null) return;
+                        out.column(payment.id())
+                                .column(0)
+                                .column(appointment.id)
+                                .column(payment.method())
+                                .column("APPROVED")
+                                .column(payment.installments())
+                                .column(payment.finalAmount())
+                                .column(payment.createdAt())
+                                .endRow();
+                    }));
+
+            try (Statement statement = connection.createStatement()) {
+                for (String table : TABLES) {
+                    // max(id) + incremento: nas sequences pooled (incremento 50) o valor é o topo do bloco
+                    statement.execute("select setval(seq, coalesce((select max(id) from " + table + "), 0) "
+                            + "+ (select seqincrement from pg_sequence where seqrelid = seq::regclass), false) "
+                            + "from pg_get_serial_sequence('" + table + "', 'id') as seq");
+                }
+                // Outros nós recarregam o snapshot do catálogo no próximo ciclo
+                statement.execute("""
+                        insert into catalog_version (id, version) values (1, 1)
+                        on conflict (id) do update set version = catalog_version.version + 1""");
+            }
+            connection.commit();
+
+            try (Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                for (String table : TABLES) {
+                    statement.execute("analyze " + table);
+                }
+            }
+
+            System.out.printf("datagen: done in %.1fs%n", (System.nanoTime() - started) / 1_000_000_000.0);
+        }
+    }
+
+    private static void load(CopyManager copy, String table, String columns, TableWriter writer) throws SQLException {
+        long started = System.nanoTime();
+        long rows;
+        try (CopyWriter out = new CopyWriter(copy, table, columns)) {
+            writer.write(out);
+            rows = out.rows();
+        }
+        double seconds = Math.max((System.nanoTime() - started) / 1_000_000_000.0, 1e-9);
+        System.out.printf("datagen: %-22s %,12d rows  %6.1fs  %,12.0f rows/s%n", table, rows, seconds, rows / seconds);
+    }
+
+    private static IdBases readIdBases(Connection connection) throws SQLException {
+        return new IdBases(
+                maxId(connection, "owners"),
+                maxId(connection, "pets"),
+                maxId(connection, "catalog"),
+                maxId(connection, "appointments"),
+                maxId(connection, "appointment_items"),
+                maxId(connection, "payments"));
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("select coalesce(max(id), 0) from " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface TableWriter {
+        void write(CopyWriter out) throws SQLException;
+    }
+}
@@ -0,0 +1,31 @@
+package com.br.pet_shop_management.datagen;
+
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.domain.enums.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Agendamento gerado com seus itens e pagamento. A instância é reaproveitada a cada linha
+ * para que a geração de milhões de agendamentos não dependa do GC.
+ */
+final class GeneratedAppointment {
+    long id;
+    long ownerId;
+    long petId;
+    LocalDateTime scheduledAt;
+    AppointmentStatus status;
+    BigDecimal totalGross;
+    LocalDateTime closedAt;
+    final List<Item> items = new ArrayList<>();
+    Payment payment;
+
+    record Item(long id, long catalogId, String catalogName, int quantity, BigDecimal unitPrice, BigDecimal subtotal) {
+    }
+
+    record Payment(long id, PaymentMethod method, int installments, BigDecimal finalAmount, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.br.pet_shop_management.datagen;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sazonalidade dos agendamentos: pico em dezembro e nas férias de julho, sábado como dia mais cheio,
+ * domingo quase vazio e horários de 30 em 30 minutos entre 8h e 18h. Amostragem por rejeição.
+ */
+final class Seasonality {
+    private static final double[] MONTH_WEIGHTS = {0.8, 0.75, 0.85, 0.9, 0.95, 1.0, 1.15, 1.0, 0.9, 0.95, 1.1, 1.45};
+    private static final double[] DAY_OF_WEEK_WEIGHTS = {0.9, 0.95, 1.0, 1.05, 1.3, 1.6, 0.2};
+    private static final double MAX_WEIGHT = 1.45 * 1.6;
+    private static final int FIRST_HOUR = 8;
+    private static final int SLOTS_PER_DAY = 20;
+
+    private final LocalDate from;
+    private final long days;
+
+    Seasonality(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.days = ChronoUnit.DAYS.between(from, to);
+    }
+
+    LocalDateTime sample(RandomGenerator random) {
+        while (true) {
+            LocalDate day = from.plusDays(random.nextLong(days));
+            double weight = MONTH_WEIGHTS[day.getMonthValue() - 1] * weight(day.getDayOfWeek());
+            if (random.nextDouble() * MAX_WEIGHT < weight) {
+                return day.atTime(FIRST_HOUR, 0).plusMinutes(30L * random.nextInt(SLOTS_PER_DAY));
+            }
+        }
+    }
+
+    private static double weight(DayOfWeek dayOfWeek) {
+        return DAY_OF_WEEK_WEIGHTS[dayOfWeek.getValue() - 1];
+    }
+}
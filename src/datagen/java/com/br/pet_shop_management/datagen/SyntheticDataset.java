@@ -0,0 +1,293 @@
+package com.br.pet_shop_management.datagen;
+
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.domain.enums.Breed;
+import com.br.pet_shop_management.domain.enums.PaymentMethod;
+import com.br.pet_shop_management.domain.enums.PetSize;
+import com.br.pet_shop_management.domain.enums.Species;
+import com.br.pet_shop_management.domain.enums.Status;
+import com.br.pet_shop_management.domain.pricing.PaymentPricing;
+import com.br.pet_shop_management.util.MoneyUtils;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Massa sintética determinística. Owners, pets e catálogo ficam em arrays compactos; agendamentos,
+ * itens e pagamentos são regerados a partir da mesma semente em cada passada, sem ficar em memória.
+ * Clientes e serviços seguem Zipf (poucos clientes fiéis concentram as visitas) e as datas seguem {@link Seasonality}.
+ */
+final class SyntheticDataset {
+    private static final String[] FIRST_NAMES = {"Ana", "Bruno", "Carla", "Diego", "Eduarda", "Felipe", "Gabriela", "Henrique",
+            "Isabela", "João", "Larissa", "Marcos", "Natália", "Otávio", "Paula", "Rafael", "Sofia", "Thiago", "Vanessa", "William"};
+    private static final String[] LAST_NAMES = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira",
+            "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa"};
+    private static final String[] PET_NAMES = {"Thor", "Luna", "Mel", "Bob", "Nina", "Max", "Lola", "Fred", "Amora", "Simba",
+            "Pipoca", "Toby", "Belinha", "Zeus", "Pandora", "Bidu", "Maya", "Chico", "Frida", "Paçoca"};
+    private static final String[] SERVICES = {"Banho", "Tosa", "Banho e tosa", "Hidratação", "Corte de unhas", "Limpeza de ouvidos",
+            "Escovação dental", "Consulta", "Vacina V10", "Vacina antirrábica", "Tosa higiênica", "Desembolo", "Banho medicamentoso",
+            "Aplicação de antipulgas", "Vermifugação", "Check-up"};
+    private static final PetSize[] SIZES = PetSize.values();
+
+    private final DataGenConfig config;
+    private final IdBases ids;
+    private final long appointmentSeed;
+    private final long petAttributesSeed;
+
+    private final BitSet inactiveOwners;
+    private final int[] petStart;
+    private final byte[] petSizes;
+    private final int[] ownerByRank;
+    private final CatalogItem[] catalog;
+    private final ZipfSampler customers;
+    private final ZipfSampler services;
+    private final Seasonality seasonality;
+
+    SyntheticDataset(DataGenConfig config, IdBases ids) {
+        this.config = config;
+        this.ids = ids;
+
+        SplittableRandom root = new SplittableRandom(config.seed());
+        SplittableRandom ownerRandom = root.split();
+        SplittableRandom petRandom = root.split();
+        SplittableRandom catalogRandom = root.split();
+        this.petAttributesSeed = root.nextLong();
+        this.appointmentSeed = root.nextLong();
+
+        int owners = config.owners();
+        this.inactiveOwners = new BitSet(owners);
+        this.petStart = new int[owners + 1];
+        for (int owner = 0; owner < owners; owner++) {
+            if (ownerRandom.nextInt(100) < 3) inactiveOwners.set(owner);
+            petStart[owner + 1] = petStart[owner] + petsFor(petRandom);
+        }
+
+        this.petSizes = new byte[petStart[owners]];
+        for (int pet = 0; pet < petSizes.length; pet++) {
+            petSizes[pet] = (byte) petRandom.nextInt(SIZES.length);
+        }
+
+        // Permutação: o cliente mais frequente não precisa ser o de menor id
+        this.ownerByRank = new int[owners];
+        for (int i = 0; i < owners; i++) ownerByRank[i] = i;
+        for (int i = owners - 1; i > 0; i--) {
+            int j = ownerRandom.nextInt(i + 1);
+            int swap = ownerByRank[i];
+            ownerByRank[i] = ownerByRank[j];
+            ownerByRank[j] = swap;
+        }
+
+        this.catalog = new CatalogItem[config.catalogItems()];
+        for (int i = 0; i < catalog.length; i++) {
+            catalog[i] = CatalogItem.random(i, catalogRandom);
+        }
+
+        this.customers = new ZipfSampler(owners, config.customerSkew());
+        this.services = new ZipfSampler(catalog.length, config.serviceSkew());
+        this.seasonality = new Seasonality(config.from(), config.to());
+    }
+
+    int petCount() {
+        return petSizes.length;
+    }
+
+    void writeOwners(CopyWriter out) throws SQLException {
+        for (int owner = 0; owner < config.owners(); owner++) {
+            long id = ids.owner() + owner + 1;
+            out.column(id)
+                    .column(0)
+                    .column(FIRST_NAMES[owner % FIRST_NAMES.length] + " " + LAST_NAMES[(owner / FIRST_NAMES.length) % LAST_NAMES.length])
+                    .column(String.format("%011d", 90_000_000_000L + id))
+                    .column(String.format("119%08d", id % 100_000_000))
+                    .column("cliente" + id + "@example.com")
+                    .column("Rua " + LAST_NAMES[owner % LAST_NAMES.length] + ", " + (1 + owner % 2000))
+                    .column(ownerStatus(owner))
+                    .endRow();
+        }
+    }
+
+    void writePets(CopyWriter out) throws SQLException {
+        SplittableRandom random = new SplittableRandom(petAttributesSeed);
+        List<Breed> dogs = Breed.groupedBySpecies().get(Species.DOG);
+        List<Breed> cats = Breed.groupedBySpecies().get(Species.CAT);
+
+        for (int owner = 0; owner < config.owners(); owner++) {
+            for (int pet = petStart[owner]; pet < petStart[owner + 1]; pet++) {
+                boolean dog = random.nextInt(100) < 70;
+                Breed breed = dog ? dogs.get(random.nextInt(dogs.size())) : cats.get(random.nextInt(cats.size()));
+                // Nome único por owner: sufixo com a posição do pet quando o nome base se repete
+                int position = pet - petStart[owner];
+                String name = PET_NAMES[random.nextInt(PET_NAMES.length)] + (position == 0 ? "" : " " + (position + 1));
+
+                out.column(ids.pet() + pet + 1)
+                        .column(0)
+                        .column(ids.owner() + owner + 1)
+                        .column(ownerStatus(owner))
+                        .column(name)
+                        .column(name.toLowerCase(Locale.ROOT))
+                        .column(breed.getSpecies())
+                        .column(breed)
+                        .column(SIZES[petSizes[pet]])
+                        .column(config.today().minusDays(180 + random.nextInt(15 * 365)))
+                        .column(null)
+                        .column(null)
+                        .endRow();
+            }
+        }
+    }
+
+    void writeCatalog(CopyWriter out) throws SQLException {
+        for (int i = 0; i < catalog.length; i++) {
+            CatalogItem item = catalog[i];
+            out.column(ids.catalog() + i + 1)
+                    .column(0)
+                    .column(item.name())
+                    .column(item.name() + " (massa sintética)")
+                    .column(item.durationMinutes())
+                    .column(item.prices()[0])
+                    .column(item.prices()[1])
+                    .column(item.prices()[2])
+                    .column(item.active() ? Status.ACTIVE : Status.INACTIVE)
+                    .endRow();
+        }
+    }
+
+    void writeCatalogPriceHistory(CopyWriter out) throws SQLException {
+        LocalDateTime effectiveFrom = config.from().atStartOfDay();
+        for (int i = 0; i < catalog.length; i++) {
+            CatalogItem item = catalog[i];
+            out.column(ids.catalog() + i + 1)
+                    .column(effectiveFrom)
+                    .column(item.prices()[0])
+                    .column(item.prices()[1])
+                    .column(item.prices()[2])
+                    .endRow();
+        }
+    }
+
+    void forEachAppointment(AppointmentSink sink) throws SQLException {
+        SplittableRandom random = new SplittableRandom(appointmentSeed);
+        GeneratedAppointment appointment = new GeneratedAppointment();
+        long nextItemId = ids.item() + 1;
+        long nextPaymentId = ids.payment() + 1;
+        LocalDate today = config.today();
+
+        for (int index = 0; index < config.appointments(); index++) {
+            int owner = ownerByRank[customers.sample(random)];
+            int pet = petStart[owner] + random.nextInt(petStart[owner + 1] - petStart[owner]);
+            PetSize size = SIZES[petSizes[pet]];
+
+            appointment.id = ids.appointment() + index + 1;
+            appointment.ownerId = ids.owner() + owner + 1;
+            appointment.petId = ids.pet() + pet + 1;
+            appointment.scheduledAt = seasonality.sample(random);
+            appointment.status = statusFor(appointment.scheduledAt.toLocalDate(), today, random);
+            appointment.items.clear();
+            appointment.payment = null;
+
+            BigDecimal total = MoneyUtils.zero();
+            int durationMinutes = 0;
+            int itemsCount = itemsFor(random);
+            for (int i = 0; i < itemsCount; i++) {
+                int catalogIndex = services.sample(random);
+                CatalogItem item = catalog[catalogIndex];
+                int quantity = random.nextInt(10) == 0 ? 2 : 1;
+                BigDecimal unitPrice = item.prices()[size.ordinal()];
+                BigDecimal subtotal = MoneyUtils.scale(unitPrice.multiply(BigDecimal.valueOf(quantity)));
+
+                appointment.items.add(new GeneratedAppointment.Item(nextItemId++, ids.catalog() + catalogIndex + 1,
+                        item.name(), quantity, unitPrice, subtotal));
+                total = total.add(subtotal);
+                durationMinutes += item.durationMinutes() * quantity;
+            }
+            appointment.totalGross = total;
+
+            boolean closed = appointment.status == AppointmentStatus.WAITING_PAYMENT
+                    || appointment.status == AppointmentStatus.COMPLETED;
+            appointment.closedAt = closed ? appointment.scheduledAt.plusMinutes(durationMinutes) : null;
+
+            if (appointment.status == AppointmentStatus.COMPLETED) {
+                PaymentMethod method = methodFor(random);
+                int installments = method == PaymentMethod.CARD ? 1 + random.nextInt(6) : 1;
+                BigDecimal finalAmount = PaymentPricing.calculateFinalAmount(total, method, installments,
+                        config.cardInterestPerExtraInstallment());
+                appointment.payment = new GeneratedAppointment.Payment(nextPaymentId++, method, installments,
+                        finalAmount, appointment.closedAt);
+            }
+
+            sink.accept(appointment);
+        }
+    }
+
+    private Status ownerStatus(int owner) {
+        return inactiveOwners.get(owner) ? Status.INACTIVE : Status.ACTIVE;
+    }
+
+    private static int petsFor(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 55) return 1;
+        if (roll < 82) return 2;
+        if (roll < 94) return 3;
+        return 4;
+    }
+
+    private static int itemsFor(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 60) return 1;
+        if (roll < 88) return 2;
+        if (roll < 97) return 3;
+        return 4;
+    }
+
+    private static AppointmentStatus statusFor(LocalDate day, LocalDate today, SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (day.isBefore(today)) {
+            if (roll < 82) return AppointmentStatus.COMPLETED;
+            if (roll < 95) return AppointmentStatus.CANCELED;
+            return AppointmentStatus.WAITING_PAYMENT;
+        }
+        if (day.isEqual(today)) {
+            if (roll < 50) return AppointmentStatus.SCHEDULED;
+            if (roll < 75) return AppointmentStatus.IN_PROGRESS;
+            if (roll < 90) return AppointmentStatus.WAITING_PAYMENT;
+            return AppointmentStatus.CANCELED;
+        }
+        return roll < 94 ? AppointmentStatus.SCHEDULED : AppointmentStatus.CANCELED;
+    }
+
+    private static PaymentMethod methodFor(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 50) return PaymentMethod.PIX;
+        if (roll < 85) return PaymentMethod.CARD;
+        return PaymentMethod.CASH;
+    }
+
+    @FunctionalInterface
+    interface AppointmentSink {
+        void accept(GeneratedAppointment appointment) throws SQLException;
+    }
+
+    /** Maior id já existente em cada tabela; zero quando a base é truncada antes da carga. */
+    record IdBases(long owner, long pet, long catalog, long appointment, long item, long payment) {
+    }
+
+    private record CatalogItem(String name, int durationMinutes, BigDecimal[] prices, boolean active) {
+
+        static CatalogItem random(int index, SplittableRandom random) {
+            String name = SERVICES[index % SERVICES.length]
+                    + (index < SERVICES.length ? "" : " " + (index / SERVICES.length + 1));
+            BigDecimal small = BigDecimal.valueOf(30 + 5L * random.nextInt(25));
+            BigDecimal[] prices = {
+                    MoneyUtils.scale(small),
+                    MoneyUtils.scale(small.multiply(new BigDecimal("1.25"))),
+                    MoneyUtils.scale(small.multiply(new BigDecimal("1.6")))};
+            return new CatalogItem(name, 15 * (1 + random.nextInt(8)), prices, random.nextInt(10) != 0);
+        }
+    }
+}
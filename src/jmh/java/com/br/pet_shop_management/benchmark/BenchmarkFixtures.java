@@ -0,0 +1,70 @@
+package com.br.pet_shop_management.benchmark;
+
+import com.br.pet_shop_management.domain.catalog.CatalogItemSnapshot;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceTimeline;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceVersion;
+import com.br.pet_shop_management.domain.entity.*;
+import com.br.pet_shop_management.domain.enums.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Objetos de domínio montados em memória para os benchmarks; nenhum acesso a banco ou contexto Spring.
+ */
+final class BenchmarkFixtures {
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 16, 10, 0);
+
+    private BenchmarkFixtures() {}
+
+    static OwnerEntity owner() {
+        return new OwnerEntity("Maria Silva", "12345678909", "11987654321", "maria@example.com", "Rua A, 100", Status.ACTIVE);
+    }
+
+    static PetEntity pet(OwnerEntity owner) {
+        return new PetEntity(owner, "Thor", Species.DOG, Breed.LABRADOR_RETRIEVER, PetSize.LARGE,
+                LocalDate.of(2020, 3, 10), "Calmo", "Nenhuma");
+    }
+
+    static CatalogEntity catalog() {
+        return new CatalogEntity("Banho", "Banho completo", 60,
+                new BigDecimal("50.00"), new BigDecimal("65.00"), new BigDecimal("80.00"));
+    }
+
+    // Uma versão por mês anterior a NOW, como uma linha do tempo com um ano de reajustes
+    static CatalogPriceTimeline timeline(long catalogId, int versions) {
+        List<CatalogPriceVersion> list = new ArrayList<>(versions);
+        for (int i = 0; i < versions; i++) {
+            BigDecimal bump = BigDecimal.valueOf(i);
+            list.add(new CatalogPriceVersion(catalogId, NOW.minusMonths(versions - i),
+                    new BigDecimal("50.00").add(bump), new BigDecimal("65.00").add(bump), new BigDecimal("80.00").add(bump)));
+        }
+        return CatalogPriceTimeline.of(list);
+    }
+
+    static CatalogItemSnapshot catalogSnapshot(CatalogEntity catalog, int versions) {
+        Map<PetSize, BigDecimal> prices = new EnumMap<>(PetSize.class);
+        for (PetSize size : PetSize.values()) {
+            prices.put(size, catalog.getPriceByPetSize(size));
+        }
+        return new CatalogItemSnapshot(1L, catalog.getName(), catalog.getDescription(), catalog.getDurationMinutes(),
+                catalog.getStatus(), prices, timeline(1L, versions));
+    }
+
+    static AppointmentEntity appointment(OwnerEntity owner, PetEntity pet) {
+        return new AppointmentEntity(owner, pet, NOW.plusDays(1));
+    }
+
+    static List<AppointmentItemEntity> items(AppointmentEntity appointment, CatalogEntity catalog, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> AppointmentItemEntity.create(appointment, catalog, catalog.getName(), 1 + i % 3,
+                        catalog.getPriceByPetSize(PetSize.LARGE)))
+                .toList();
+    }
+}
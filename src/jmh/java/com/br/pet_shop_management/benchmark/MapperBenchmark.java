@@ -0,0 +1,106 @@
+package com.br.pet_shop_management.benchmark;
+
+import com.br.pet_shop_management.api.dto.response.*;
+import com.br.pet_shop_management.application.mapper.*;
+import com.br.pet_shop_management.domain.catalog.CatalogItemSnapshot;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceChange;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceTimeline;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceVersion;
+import com.br.pet_shop_management.domain.entity.*;
+import com.br.pet_shop_management.domain.enums.PaymentMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"1", "5"})
+    private int itemsCount;
+
+    private OwnerEntity owner;
+    private PetEntity pet;
+    private CatalogEntity catalog;
+    private CatalogPriceTimeline timeline;
+    private CatalogItemSnapshot catalogSnapshot;
+    private CatalogPriceVersion priceVersion;
+    private CatalogPriceChange priceChange;
+    private AppointmentEntity appointment;
+    private List<AppointmentItemEntity> items;
+    private PaymentEntity payment;
+
+    @Setup
+    public void setUp() {
+        owner = BenchmarkFixtures.owner();
+        pet = BenchmarkFixtures.pet(owner);
+        catalog = BenchmarkFixtures.catalog();
+        timeline = BenchmarkFixtures.timeline(1L, 12);
+        catalogSnapshot = BenchmarkFixtures.catalogSnapshot(catalog, 12);
+        priceVersion = new CatalogPriceVersion(1L, BenchmarkFixtures.NOW,
+                new BigDecimal("55.00"), new BigDecimal("70.00"), new BigDecimal("85.00"));
+        priceChange = new CatalogPriceChange(1L, "Banho",
+                new BigDecimal("50.00"), new BigDecimal("55.00"),
+                new BigDecimal("65.00"), new BigDecimal("71.50"),
+                new BigDecimal("80.00"), new BigDecimal("88.00"));
+        appointment = BenchmarkFixtures.appointment(owner, pet);
+        items = BenchmarkFixtures.items(appointment, catalog, itemsCount);
+        payment = PaymentEntity.createApproved(appointment, PaymentMethod.PIX, 1, new BigDecimal("76.00"), BenchmarkFixtures.NOW);
+    }
+
+    @Benchmark
+    public OwnerDTO ownerToDTO() {
+        return OwnerMapper.toDTO(owner);
+    }
+
+    @Benchmark
+    public PetDTO petToDTO() {
+        return PetMapper.toDTO(pet);
+    }
+
+    @Benchmark
+    public CatalogDTO catalogEntityToDTO() {
+        return CatalogMapper.toDTO(catalog);
+    }
+
+    @Benchmark
+    public CatalogDTO catalogEntityWithTimelineToDTO() {
+        return CatalogMapper.toDTO(catalog, timeline, BenchmarkFixtures.NOW);
+    }
+
+    @Benchmark
+    public CatalogDTO catalogSnapshotToDTO() {
+        return CatalogMapper.toDTO(catalogSnapshot, BenchmarkFixtures.NOW);
+    }
+
+    @Benchmark
+    public CatalogPriceVersionDTO catalogPriceVersionToDTO() {
+        return CatalogMapper.toDTO(priceVersion);
+    }
+
+    @Benchmark
+    public CatalogPriceChangeDTO catalogPriceChangeToDTO() {
+        return CatalogMapper.toDTO(priceChange);
+    }
+
+    @Benchmark
+    public AppointmentDTO appointmentToDTO() {
+        return AppointmentMapper.toDTO(appointment, items);
+    }
+
+    @Benchmark
+    public AppointmentItemDTO appointmentItemToDTO() {
+        return AppointmentMapper.toItemDTO(items.getFirst());
+    }
+
+    @Benchmark
+    public PaymentDTO paymentToDTO() {
+        return PaymentMapper.toDTO(payment);
+    }
+}
@@ -0,0 +1,49 @@
+package com.br.pet_shop_management.benchmark;
+
+import com.br.pet_shop_management.util.CpfUtils;
+import com.br.pet_shop_management.util.PhoneUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NormalizationBenchmark {
+
+    private String maskedCpf;
+    private String cpfDigits;
+    private String maskedPhone;
+    private String phoneDigits;
+
+    @Setup
+    public void setUp() {
+        maskedCpf = "123.456.789-09";
+        cpfDigits = "12345678909";
+        maskedPhone = "(11) 98765-4321";
+        phoneDigits = "11987654321";
+    }
+
+    @Benchmark
+    public String cpfNormalize() {
+        return CpfUtils.normalize(maskedCpf);
+    }
+
+    @Benchmark
+    public String cpfFormat() {
+        return CpfUtils.format(cpfDigits);
+    }
+
+    @Benchmark
+    public String phoneNormalize() {
+        return PhoneUtils.normalize(maskedPhone);
+    }
+
+    @Benchmark
+    public String phoneFormat() {
+        return PhoneUtils.format(phoneDigits);
+    }
+}
@@ -0,0 +1,71 @@
+package com.br.pet_shop_management.benchmark;
+
+import com.br.pet_shop_management.domain.catalog.CatalogItemSnapshot;
+import com.br.pet_shop_management.domain.entity.CatalogEntity;
+import com.br.pet_shop_management.domain.enums.PaymentMethod;
+import com.br.pet_shop_management.domain.enums.PetSize;
+import com.br.pet_shop_management.domain.pricing.CatalogPricing;
+import com.br.pet_shop_management.domain.pricing.PaymentPricing;
+import com.br.pet_shop_management.util.MoneyUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PricingBenchmark {
+
+    @Param({"SMALL", "LARGE"})
+    private PetSize petSize;
+
+    @Param({"1", "24"})
+    private int priceVersions;
+
+    private BigDecimal rawAmount;
+    private BigDecimal interestRate;
+    private CatalogEntity catalog;
+    private CatalogItemSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        rawAmount = new BigDecimal("123.4567");
+        interestRate = new BigDecimal("0.02");
+        catalog = BenchmarkFixtures.catalog();
+        snapshot = BenchmarkFixtures.catalogSnapshot(catalog, priceVersions);
+    }
+
+    @Benchmark
+    public BigDecimal moneyScale() {
+        return MoneyUtils.scale(rawAmount);
+    }
+
+    @Benchmark
+    public BigDecimal catalogEntityPriceByPetSize() {
+        return catalog.getPriceByPetSize(petSize);
+    }
+
+    @Benchmark
+    public BigDecimal resolveUnitPriceFromEntity() {
+        return CatalogPricing.resolveUnitPrice(catalog, petSize);
+    }
+
+    @Benchmark
+    public BigDecimal resolveUnitPriceFromSnapshot() {
+        return CatalogPricing.resolveUnitPrice(snapshot, petSize, BenchmarkFixtures.NOW);
+    }
+
+    @Benchmark
+    public BigDecimal finalAmountPix() {
+        return PaymentPricing.calculateFinalAmount(rawAmount, PaymentMethod.PIX, 1, interestRate);
+    }
+
+    @Benchmark
+    public BigDecimal finalAmountCardSixInstallments() {
+        return PaymentPricing.calculateFinalAmount(rawAmount, PaymentMethod.CARD, 6, interestRate);
+    }
+}
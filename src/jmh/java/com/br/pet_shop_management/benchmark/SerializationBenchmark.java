@@ -0,0 +1,53 @@
+package com.br.pet_shop_management.benchmark;
+
+import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.application.mapper.AppointmentMapper;
+import com.br.pet_shop_management.domain.entity.AppointmentEntity;
+import com.br.pet_shop_management.domain.entity.CatalogEntity;
+import com.br.pet_shop_management.domain.entity.OwnerEntity;
+import com.br.pet_shop_management.domain.entity.PetEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private JsonMapper jsonMapper;
+    private Page<AppointmentDTO> page;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        OwnerEntity owner = BenchmarkFixtures.owner();
+        PetEntity pet = BenchmarkFixtures.pet(owner);
+        CatalogEntity catalog = BenchmarkFixtures.catalog();
+        List<AppointmentDTO> content = IntStream.range(0, pageSize)
+                .mapToObj(i -> {
+                    AppointmentEntity appointment = BenchmarkFixtures.appointment(owner, pet);
+                    return AppointmentMapper.toDTO(appointment, BenchmarkFixtures.items(appointment, catalog, 3));
+                })
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public byte[] appointmentPageToJson() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,112 @@
+package com.br.pet_shop_management.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * HttpClient sobre virtual threads; cada chamada registra a latência no endpoint correspondente.
+ */
+final class ApiClient implements AutoCloseable {
+    private final URI baseUrl;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+
+    ApiClient(URI baseUrl, Duration requestTimeout) {
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(requestTimeout)
+                .build();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+    }
+
+    Response get(Operation operation, String path) {
+        return send(operation, request(path).GET().build());
+    }
+
+    Response post(Operation operation, String path, Object body) {
+        return send(operation, request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body)))
+                .build());
+    }
+
+    // Chamadas da preparação da massa: não entram nas estatísticas
+    Response getUntracked(String path) {
+        return send(null, request(path).GET().build());
+    }
+
+    // /actuator/prometheus responde em texto: troca o Accept JSON padrão
+    Response getUntrackedText(String path) {
+        return send(null, request(path).setHeader("Accept", "text/plain").GET().build());
+    }
+
+    Response postUntracked(String path, Object body) {
+        return send(null, request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body)))
+                .build());
+    }
+
+    Map<Operation, EndpointStats> stats() {
+        return stats;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json");
+    }
+
+    private Response send(Operation operation, HttpRequest request) {
+        EndpointStats endpoint = (operation == null) ? null : stats.get(operation);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (endpoint != null) endpoint.record(System.nanoTime() - start, response.statusCode());
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            if (endpoint != null) endpoint.recordTransportError();
+            return Response.failed();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Response.failed();
+        }
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+
+    JsonNode readTree(Response response) {
+        return jsonMapper.readTree(response.body());
+    }
+
+    record Response(int statusCode, byte[] body) {
+        private static final Response FAILED = new Response(-1, new byte[0]);
+
+        static Response failed() {
+            return FAILED;
+        }
+
+        boolean isSuccess() {
+            return statusCode >= 200 && statusCode < 300;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.br.pet_shop_management.loadtest;
+
+import com.br.pet_shop_management.loadtest.SeededData.SeededOwner;
+import tools.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Cria owners, pets e itens de catálogo pela própria API antes da medição.
+ * CPFs e nomes carregam uma marca da execução para que rodadas repetidas não colidam.
+ */
+final class DatasetSeeder {
+    private static final int MIN_CATALOG_ITEMS = 3;
+
+    private final ApiClient client;
+    private final LoadTestConfig config;
+    private final SplittableRandom random;
+    private final long runTag = (System.currentTimeMillis() / 1000) % 1_000_000;
+
+    DatasetSeeder(ApiClient client, LoadTestConfig config) {
+        this.client = client;
+        this.config = config;
+        this.random = new SplittableRandom(config.seed());
+    }
+
+    SeededData seed() {
+        List<Long> catalogIds = seedCatalog();
+        List<SeededOwner> owners = new ArrayList<>(config.owners());
+        for (int i = 0; i < config.owners(); i++) {
+            owners.add(seedOwner(i));
+        }
+        return new SeededData(List.copyOf(owners), catalogIds);
+    }
+
+    private List<Long> seedCatalog() {
+        List<Long> ids = new ArrayList<>();
+        ApiClient.Response existing = client.getUntracked("/catalog?status=ACTIVE&count=false&size=100");
+        if (existing.isSuccess()) {
+            for (JsonNode item : client.readTree(existing).get("content")) {
+                ids.add(item.get("id").asLong());
+            }
+        }
+
+        for (int i = ids.size(); i < MIN_CATALOG_ITEMS; i++) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("name", "Loadtest service " + runTag + "-" + i);
+            body.put("description", "Created by the load generator");
+            body.put("durationMinutes", 30 + 15 * i);
+            body.put("priceSmall", 40 + 10 * i);
+            body.put("priceMedium", 55 + 10 * i);
+            body.put("priceLarge", 70 + 10 * i);
+            ids.add(requireId(client.postUntracked("/catalog", body), "catalog item"));
+        }
+        return List.copyOf(ids);
+    }
+
+    private SeededOwner seedOwner(int index) {
+        String cpf = String.format("%011d", runTag * 100_000L + index);
+
+        Map<String, Object> owner = new LinkedHashMap<>();
+        owner.put("name", "Loadtest Owner " + index);
+        owner.put("cpf", cpf);
+        owner.put("phone", "11987654321");
+        owner.put("email", "owner" + index + "." + runTag + "@loadtest.local");
+        owner.put("address", "Rua Teste, " + index);
+        long ownerId = requireId(client.postUntracked("/owners", owner), "owner");
+
+        List<Long> petIds = new ArrayList<>(config.petsPerOwner());
+        for (int j = 0; j < config.petsPerOwner(); j++) {
+            boolean dog = random.nextInt(4) != 0;
+            Map<String, Object> pet = new LinkedHashMap<>();
+            pet.put("ownerId", ownerId);
+            pet.put("name", "Pet " + j);
+            pet.put("species", dog ? "DOG" : "CAT");
+            pet.put("breed", dog ? "LABRADOR_RETRIEVER" : "PERSIAN");
+            pet.put("size", dog ? List.of("SMALL", "MEDIUM", "LARGE").get(random.nextInt(3)) : "SMALL");
+            petIds.add(requireId(client.postUntracked("/pets", pet), "pet"));
+        }
+        return new SeededOwner(ownerId, cpf, List.copyOf(petIds));
+    }
+
+    private long requireId(ApiClient.Response response, String what) {
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("Could not seed " + what + ": HTTP " + response.statusCode()
+                    + " " + new String(response.body()));
+        }
+        return client.readTree(response).get("id").asLong();
+    }
+}
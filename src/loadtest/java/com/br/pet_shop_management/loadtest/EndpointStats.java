@@ -0,0 +1,52 @@
+package com.br.pet_shop_management.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências (µs) e contadores de um endpoint. O {@link Recorder} permite descartar o aquecimento
+ * sem parar os usuários virtuais.
+ */
+final class EndpointStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder transportErrors = new LongAdder();
+
+    void record(long elapsedNanos, int statusCode) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        if (statusCode >= 500) serverErrors.increment();
+        else if (statusCode >= 400) clientErrors.increment();
+        else successes.increment();
+    }
+
+    void recordTransportError() {
+        transportErrors.increment();
+    }
+
+    // Zera o intervalo corrente: chamado no fim do aquecimento
+    void reset() {
+        recorder.getIntervalHistogram();
+        successes.reset();
+        clientErrors.reset();
+        serverErrors.reset();
+        transportErrors.reset();
+    }
+
+    Snapshot snapshot() {
+        return new Snapshot(recorder.getIntervalHistogram(),
+                successes.sum(), clientErrors.sum(), serverErrors.sum(), transportErrors.sum());
+    }
+
+    record Snapshot(Histogram histogram, long successes, long clientErrors, long serverErrors, long transportErrors) {
+        long requests() {
+            return successes + clientErrors + serverErrors;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.br.pet_shop_management.loadtest;
+
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Relatório JSON com chaves em ordem fixa, para que execuções possam ser comparadas com diff.
+ */
+final class LoadReport {
+    private LoadReport() {}
+
+    static Map<String, Object> build(LoadTestConfig config, Instant startedAt, Duration measured,
+                                     Map<Operation, EndpointStats.Snapshot> snapshots,
+                                     Map<String, Double> statementsPerRequest) {
+        double seconds = measured.toNanos() / 1_000_000_000.0;
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Map.Entry<Operation, EndpointStats.Snapshot> entry : snapshots.entrySet()) {
+            EndpointStats.Snapshot snapshot = entry.getValue();
+            long errors = snapshot.clientErrors() + snapshot.serverErrors() + snapshot.transportErrors();
+            totalRequests += snapshot.requests();
+            totalErrors += errors;
+
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("requests", snapshot.requests());
+            endpoint.put("successes", snapshot.successes());
+            endpoint.put("clientErrors", snapshot.clientErrors());
+            endpoint.put("serverErrors", snapshot.serverErrors());
+            endpoint.put("transportErrors", snapshot.transportErrors());
+            endpoint.put("throughputPerSecond", round(snapshot.requests() / seconds));
+            endpoint.put("latencyMicros", latency(snapshot.histogram()));
+            endpoints.put(entry.getKey().label(), endpoint);
+        }
+
+        Map<String, Object> mix = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            mix.put(operation.name(), config.mix().weights().getOrDefault(operation, 0));
+        }
+
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("requests", totalRequests);
+        totals.put("errors", totalErrors);
+        totals.put("throughputPerSecond", round(totalRequests / seconds));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("baseUrl", config.baseUrl().toString());
+        report.put("virtualUsers", config.virtualUsers());
+        report.put("seed", config.seed());
+        report.put("warmupSeconds", config.warmup().toSeconds());
+        report.put("measuredSeconds", round(seconds));
+        report.put("mix", mix);
+        report.put("totals", totals);
+        report.put("endpoints", endpoints);
+        if (!statementsPerRequest.isEmpty()) {
+            report.put("sqlStatementsPerRequest", statementsPerRequest);
+        }
+        return report;
+    }
+
+    static void write(Map<String, Object> report, Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Files.writeString(path, JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValueAsString(report));
+    }
+
+    static String table(Map<Operation, EndpointStats.Snapshot> snapshots, Duration measured) {
+        double seconds = measured.toNanos() / 1_000_000_000.0;
+        StringBuilder out = new StringBuilder(String.format("%-34s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        snapshots.forEach((operation, snapshot) -> {
+            Histogram histogram = snapshot.histogram();
+            out.append(String.format("%-34s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.label(),
+                    snapshot.requests(),
+                    snapshot.clientErrors() + snapshot.serverErrors() + snapshot.transportErrors(),
+                    snapshot.requests() / seconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(95) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxValue() / 1000.0));
+        });
+        return out.toString();
+    }
+
+    private static Map<String, Object> latency(Histogram histogram) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("min", histogram.getTotalCount() == 0 ? 0 : histogram.getMinValue());
+        latency.put("mean", round(histogram.getMean()));
+        latency.put("p50", histogram.getValueAtPercentile(50));
+        latency.put("p90", histogram.getValueAtPercentile(90));
+        latency.put("p95", histogram.getValueAtPercentile(95));
+        latency.put("p99", histogram.getValueAtPercentile(99));
+        latency.put("p999", histogram.getValueAtPercentile(99.9));
+        latency.put("max", histogram.getMaxValue());
+        return latency;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,41 @@
+package com.br.pet_shop_management.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Parâmetros da execução, lidos de system properties {@code loadtest.*}.
+ */
+record LoadTestConfig(URI baseUrl,
+                      int virtualUsers,
+                      Duration warmup,
+                      Duration duration,
+                      Duration thinkTime,
+                      Duration requestTimeout,
+                      long seed,
+                      int owners,
+                      int petsPerOwner,
+                      WorkloadMix mix,
+                      Path report) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                URI.create(property("loadtest.base-url", "http://localhost:8080")),
+                Integer.parseInt(property("loadtest.virtual-users", "50")),
+                Duration.parse(property("loadtest.warmup", "PT15S")),
+                Duration.parse(property("loadtest.duration", "PT60S")),
+                Duration.parse(property("loadtest.think-time", "PT0S")),
+                Duration.parse(property("loadtest.request-timeout", "PT10S")),
+                Long.parseLong(property("loadtest.seed", "42")),
+                Integer.parseInt(property("loadtest.owners", "200")),
+                Integer.parseInt(property("loadtest.pets-per-owner", "2")),
+                WorkloadMix.parse(System.getProperty("loadtest.mix")),
+                Path.of(property("loadtest.report", "target/loadtest-report.json")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return (value == null || value.isBlank()) ? defaultValue : value.trim();
+    }
+}
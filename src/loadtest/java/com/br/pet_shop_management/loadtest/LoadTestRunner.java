@@ -0,0 +1,65 @@
+package com.br.pet_shop_management.loadtest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de carga ponta a ponta contra uma instância já em execução da API.
+ * Prepara a massa, aquece, mede pelo tempo configurado e grava o relatório JSON.
+ */
+public final class LoadTestRunner {
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.out.printf("loadtest: baseUrl=%s, virtualUsers=%d, warmup=%s, duration=%s, seed=%d%n",
+                config.baseUrl(), config.virtualUsers(), config.warmup(), config.duration(), config.seed());
+
+        try (ApiClient client = new ApiClient(config.baseUrl(), config.requestTimeout())) {
+            SeededData data = new DatasetSeeder(client, config).seed();
+            System.out.printf("loadtest: seeded owners=%d, catalogItems=%d%n", data.owners().size(), data.catalogIds().size());
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicLong slotSequence = new AtomicLong();
+            LocalDateTime horizonStart = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+            SplittableRandom seeds = new SplittableRandom(config.seed());
+
+            Instant startedAt;
+            Duration measured;
+            Map<Operation, EndpointStats.Snapshot> snapshots = new EnumMap<>(Operation.class);
+            Map<String, Double> statements;
+            try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < config.virtualUsers(); i++) {
+                    users.submit(new VirtualUser(client, data, config.mix(), seeds.split(),
+                            slotSequence, horizonStart, config.thinkTime(), running));
+                }
+
+                Thread.sleep(config.warmup());
+                client.stats().values().forEach(EndpointStats::reset);
+                ServerStatements statementsAtStart = ServerStatements.scrape(client);
+
+                startedAt = Instant.now();
+                long start = System.nanoTime();
+                Thread.sleep(config.duration());
+                client.stats().forEach((operation, stats) -> snapshots.put(operation, stats.snapshot()));
+                measured = Duration.ofNanos(System.nanoTime() - start);
+                statements = ServerStatements.scrape(client).perRequestSince(statementsAtStart);
+
+                running.set(false);
+            }
+
+            LoadReport.write(LoadReport.build(config, startedAt, measured, snapshots, statements), config.report());
+            System.out.print(LoadReport.table(snapshots, measured));
+            System.out.printf("loadtest: report written to %s%n", config.report().toAbsolutePath());
+        }
+    }
+}
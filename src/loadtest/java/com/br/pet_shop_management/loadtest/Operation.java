@@ -0,0 +1,30 @@
+package com.br.pet_shop_management.loadtest;
+
+/**
+ * Operações do balcão reproduzidas pelo gerador; o rótulo é a chave do endpoint no relatório.
+ */
+enum Operation {
+    OWNER_BY_CPF("GET /owners/{cpf}", 20),
+    PET_SEARCH("GET /pets", 20),
+    CREATE_APPOINTMENT("POST /appointments", 15),
+    ADD_ITEMS("POST /appointments/{id}/items", 10),
+    APPLY_ACTION("POST /appointments/{id}/actions", 15),
+    REGISTER_PAYMENT("POST /appointments/{id}/payments", 5),
+    HISTORY("GET /appointments/history", 15);
+
+    private final String label;
+    private final int defaultWeight;
+
+    Operation(String label, int defaultWeight) {
+        this.label = label;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String label() {
+        return label;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+}
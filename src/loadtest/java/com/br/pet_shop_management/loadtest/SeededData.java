@@ -0,0 +1,9 @@
+package com.br.pet_shop_management.loadtest;
+
+import java.util.List;
+
+record SeededData(List<SeededOwner> owners, List<Long> catalogIds) {
+
+    record SeededOwner(long id, String cpf, List<Long> petIds) {
+    }
+}
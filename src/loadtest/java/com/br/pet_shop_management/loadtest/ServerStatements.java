@@ -0,0 +1,57 @@
+package com.br.pet_shop_management.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lê o resumo {@code petshop.http.statements} do /actuator/prometheus da API. A diferença entre
+ * duas leituras dá quantos comandos SQL cada endpoint emitiu por requisição na janela medida.
+ */
+final class ServerStatements {
+    private static final Pattern SAMPLE =
+            Pattern.compile("^petshop_http_statements_(sum|count)\\{(.*)} ([0-9.eE+-]+)$", Pattern.MULTILINE);
+    private static final Pattern LABEL = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+
+    private final Map<String, double[]> totals;
+
+    private ServerStatements(Map<String, double[]> totals) {
+        this.totals = totals;
+    }
+
+    // Sem actuator (ou métrica desligada) o relatório simplesmente não traz a seção
+    static ServerStatements scrape(ApiClient client) {
+        Map<String, double[]> totals = new TreeMap<>();
+        ApiClient.Response response = client.getUntrackedText("/actuator/prometheus");
+        if (!response.isSuccess()) return new ServerStatements(totals);
+
+        Matcher sample = SAMPLE.matcher(new String(response.body(), StandardCharsets.UTF_8));
+        while (sample.find()) {
+            String method = "";
+            String uri = "";
+            Matcher label = LABEL.matcher(sample.group(2));
+            while (label.find()) {
+                if (label.group(1).equals("method")) method = label.group(2);
+                if (label.group(1).equals("uri")) uri = label.group(2).replace("\\\\", "\\");
+            }
+            double[] sumAndCount = totals.computeIfAbsent(method + " " + uri, key -> new double[2]);
+            sumAndCount[sample.group(1).equals("sum") ? 0 : 1] = Double.parseDouble(sample.group(3));
+        }
+        return new ServerStatements(totals);
+    }
+
+    /** Média de comandos SQL por requisição, por "MÉTODO uri", entre {@code earlier} e esta leitura. */
+    Map<String, Double> perRequestSince(ServerStatements earlier) {
+        Map<String, Double> perRequest = new TreeMap<>();
+        totals.forEach((endpoint, sumAndCount) -> {
+            double[] before = earlier.totals.getOrDefault(endpoint, new double[2]);
+            double requests = sumAndCount[1] - before[1];
+            if (requests > 0) {
+                perRequest.put(endpoint, Math.round((sumAndCount[0] - before[0]) / requests * 100.0) / 100.0);
+            }
+        });
+        return perRequest;
+    }
+}
@@ -0,0 +1,189 @@
+package com.br.pet_shop_management.loadtest;
+
+import com.br.pet_shop_management.loadtest.SeededData.SeededOwner;
+import com.br.pet_shop_management.util.CpfUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Um atendente em laço fechado: sorteia a próxima operação do mix e segue o ciclo
+ * criar → itens → START → CLOSE_FOR_PAYMENT → pagamento dos agendamentos que ele mesmo abriu.
+ * Sem agendamento elegível, a operação recua para a etapa anterior do ciclo.
+ */
+final class VirtualUser implements Runnable {
+    private static final int MAX_OPEN_APPOINTMENTS = 20;
+    private static final int SLOT_MINUTES = 15;
+
+    private final ApiClient client;
+    private final SeededData data;
+    private final WorkloadMix mix;
+    private final SplittableRandom random;
+    private final AtomicLong slotSequence;
+    private final LocalDateTime horizonStart;
+    private final Duration thinkTime;
+    private final AtomicBoolean running;
+    private final Deque<OpenAppointment> openAppointments = new ArrayDeque<>();
+
+    VirtualUser(ApiClient client, SeededData data, WorkloadMix mix, SplittableRandom random,
+                AtomicLong slotSequence, LocalDateTime horizonStart, Duration thinkTime, AtomicBoolean running) {
+        this.client = client;
+        this.data = data;
+        this.mix = mix;
+        this.random = random;
+        this.slotSequence = slotSequence;
+        this.horizonStart = horizonStart;
+        this.thinkTime = thinkTime;
+        this.running = running;
+    }
+
+    @Override
+    public void run() {
+        while (running.get() && !Thread.currentThread().isInterrupted()) {
+            step(mix.next(random));
+            if (!thinkTime.isZero()) {
+                try {
+                    Thread.sleep(thinkTime);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void step(Operation operation) {
+        SeededOwner owner = data.owners().get(random.nextInt(data.owners().size()));
+        switch (operation) {
+            // Formatado: 11 dígitos puros também casam com /owners/{id}
+            case OWNER_BY_CPF -> client.get(operation, "/owners/" + CpfUtils.format(owner.cpf()));
+            case PET_SEARCH -> client.get(operation, random.nextBoolean()
+                    ? "/pets?ownerId=" + owner.id() + "&size=20"
+                    : "/pets?species=DOG&size=20");
+            case HISTORY -> client.get(operation, "/appointments/history?size=20");
+            case CREATE_APPOINTMENT -> createAppointment(owner);
+            case ADD_ITEMS -> addItems(owner);
+            case APPLY_ACTION -> applyAction(owner);
+            case REGISTER_PAYMENT -> registerPayment(owner);
+        }
+    }
+
+    private void createAppointment(SeededOwner owner) {
+        long petId = owner.petIds().get(random.nextInt(owner.petIds().size()));
+        // Um horário global distinto por agendamento: o gerador nunca provoca conflito de agenda por pet
+        LocalDateTime scheduledAt = horizonStart.plusMinutes(SLOT_MINUTES * slotSequence.getAndIncrement());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("ownerId", owner.id());
+        body.put("petId", petId);
+        body.put("scheduledAt", scheduledAt.toString());
+        body.put("items", randomItems(1 + random.nextInt(2)));
+
+        ApiClient.Response response = client.post(Operation.CREATE_APPOINTMENT, "/appointments", body);
+        if (response.isSuccess()) {
+            if (openAppointments.size() >= MAX_OPEN_APPOINTMENTS) openAppointments.pollFirst();
+            openAppointments.addLast(new OpenAppointment(client.readTree(response).get("id").asLong()));
+        }
+    }
+
+    private void addItems(SeededOwner owner) {
+        OpenAppointment appointment = find(Stage.SCHEDULED, Stage.IN_PROGRESS);
+        if (appointment == null) {
+            createAppointment(owner);
+            return;
+        }
+        client.post(Operation.ADD_ITEMS, "/appointments/" + appointment.id + "/items", randomItems(1));
+    }
+
+    private void applyAction(SeededOwner owner) {
+        OpenAppointment appointment = find(Stage.SCHEDULED, Stage.IN_PROGRESS);
+        if (appointment == null) {
+            createAppointment(owner);
+            return;
+        }
+
+        String action;
+        Stage next;
+        if (appointment.stage == Stage.SCHEDULED && random.nextInt(10) == 0) {
+            action = "CANCEL";
+            next = null;
+        } else if (appointment.stage == Stage.SCHEDULED) {
+            action = "START";
+            next = Stage.IN_PROGRESS;
+        } else {
+            action = "CLOSE_FOR_PAYMENT";
+            next = Stage.WAITING_PAYMENT;
+        }
+
+        ApiClient.Response response = client.post(Operation.APPLY_ACTION,
+                "/appointments/" + appointment.id + "/actions", Map.of("action", action));
+        if (response.isSuccess() && next != null) {
+            appointment.stage = next;
+        } else {
+            openAppointments.remove(appointment);
+        }
+    }
+
+    private void registerPayment(SeededOwner owner) {
+        OpenAppointment appointment = find(Stage.WAITING_PAYMENT);
+        if (appointment == null) {
+            applyAction(owner);
+            return;
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        switch (random.nextInt(3)) {
+            case 0 -> body.put("method", "PIX");
+            case 1 -> body.put("method", "CASH");
+            default -> {
+                body.put("method", "CARD");
+                body.put("installments", 1 + random.nextInt(6));
+            }
+        }
+
+        client.post(Operation.REGISTER_PAYMENT, "/appointments/" + appointment.id + "/payments", body);
+        openAppointments.remove(appointment);
+    }
+
+    private List<Map<String, Object>> randomItems(int count) {
+        List<Long> catalogIds = data.catalogIds();
+        return random.ints(count, 0, catalogIds.size())
+                .distinct()
+                .mapToObj(i -> Map.<String, Object>of("catalogId", catalogIds.get(i), "quantity", 1))
+                .toList();
+    }
+
+    private OpenAppointment find(Stage... stages) {
+        Iterator<OpenAppointment> iterator = openAppointments.iterator();
+        while (iterator.hasNext()) {
+            OpenAppointment appointment = iterator.next();
+            for (Stage stage : stages) {
+                if (appointment.stage == stage) return appointment;
+            }
+        }
+        return null;
+    }
+
+    private enum Stage {
+        SCHEDULED,
+        IN_PROGRESS,
+        WAITING_PAYMENT
+    }
+
+    private static final class OpenAppointment {
+        private final long id;
+        private Stage stage = Stage.SCHEDULED;
+
+        private OpenAppointment(long id) {
+            this.id = id;
+        }
+    }
+}
@@ -3,16 +3,28 @@ package com.br.pet_shop_management.api.controller;
 import com.br.pet_shop_management.api.dto.request.AppointmentActionForm;
 import com.br.pet_shop_management.api.dto.request.AppointmentForm;
 import com.br.pet_shop_management.api.dto.request.AppointmentItemForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSearchForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSeriesActionForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSeriesForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSeriesUpdateForm;
+import com.br.pet_shop_management.api.dto.response.AgendaDTO;
 import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentSearchDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentSeriesDTO;
 import com.br.pet_shop_management.application.service.AppointmentService;
 import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.infrastructure.feed.AppointmentFeed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -21,6 +33,7 @@ import java.util.List;
 public class AppointmentController {
 
     private final AppointmentService appointmentService;
+    private final AppointmentFeed appointmentFeed;
 
     @GetMapping("/{id:\\d+}")
     public AppointmentDTO findById(@PathVariable Long id) {
@@ -37,12 +50,43 @@ public class AppointmentController {
         return appointmentService.listHistory(status, pageable);
     }
 
+    @GetMapping("/search")
+    public AppointmentSearchDTO searchAppointments(@Valid AppointmentSearchForm form) {
+        return appointmentService.searchAppointments(form);
+    }
+
+    @GetMapping("/agenda")
+    public AgendaDTO getAgenda(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return appointmentService.getAgenda(date);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return appointmentFeed.subscribe(date == null ? LocalDate.now() : date);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public AppointmentDTO createAppointment(@Valid @RequestBody AppointmentForm form) {
         return appointmentService.createAppointment(form);
     }
 
+    @PostMapping("/series")
+    @ResponseStatus(HttpStatus.CREATED)
+    public AppointmentSeriesDTO createAppointmentSeries(@Valid @RequestBody AppointmentSeriesForm form) {
+        return appointmentService.createAppointmentSeries(form);
+    }
+
+    @PatchMapping("/series/{id:\\d+}")
+    public AppointmentSeriesDTO rescheduleAppointmentSeries(@PathVariable Long id, @Valid @RequestBody AppointmentSeriesUpdateForm form) {
+        return appointmentService.rescheduleAppointmentSeries(id, form);
+    }
+
+    @PostMapping("/series/{id:\\d+}/actions")
+    public AppointmentSeriesDTO applySeriesAction(@PathVariable Long id, @Valid @RequestBody AppointmentSeriesActionForm form) {
+        return appointmentService.applySeriesAction(id, form.action());
+    }
+
     @PostMapping("/{id:\\d+}/items")
     public AppointmentDTO addAppointmentItems(@PathVariable Long id, @Valid @RequestBody List<@Valid AppointmentItemForm> items) {
         return appointmentService.addAppointmentItems(id, items);
@@ -2,17 +2,28 @@ package com.br.pet_shop_management.api.controller;
 
 import com.br.pet_shop_management.api.dto.request.CatalogActionForm;
 import com.br.pet_shop_management.api.dto.request.CatalogForm;
+import com.br.pet_shop_management.api.dto.request.CatalogPriceAdjustmentForm;
+import com.br.pet_shop_management.api.dto.request.CatalogPriceVersionForm;
 import com.br.pet_shop_management.api.dto.response.CatalogDTO;
+import com.br.pet_shop_management.api.dto.response.CatalogPriceAdjustmentDTO;
+import com.br.pet_shop_management.api.dto.response.CatalogPriceDTO;
+import com.br.pet_shop_management.api.dto.response.CatalogPriceVersionDTO;
 import com.br.pet_shop_management.application.service.CatalogService;
+import com.br.pet_shop_management.domain.enums.PetSize;
 import com.br.pet_shop_management.domain.enums.Status;
+import com.br.pet_shop_management.util.ETagUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/catalog")
@@ -22,8 +33,21 @@ public class CatalogController {
     private final CatalogService catalogService;
 
     @GetMapping
-    public Page<CatalogDTO> findCatalogItems(@RequestParam(required = false) Status status, Pageable pageable) {
-        return catalogService.findCatalogItems(status, pageable);
+    public ResponseEntity<Page<CatalogDTO>> findCatalogItems(@RequestParam(required = false) Status status, Pageable pageable, WebRequest request) {
+        String etag = ETagUtils.fromVersion(catalogService.currentCatalogVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(catalogService.findCatalogItems(status, pageable));
+    }
+
+    @GetMapping(params = "count=false")
+    public ResponseEntity<Slice<CatalogDTO>> findCatalogItemsSlice(@RequestParam(required = false) Status status, Pageable pageable, WebRequest request) {
+        String etag = ETagUtils.fromVersion(catalogService.currentCatalogVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(catalogService.findCatalogItemsSlice(status, pageable));
     }
 
     @GetMapping("/{id:\\d+}")
@@ -31,6 +55,24 @@ public class CatalogController {
         return catalogService.findById(id);
     }
 
+    @GetMapping("/{id:\\d+}/price")
+    public CatalogPriceDTO findPriceAt(@PathVariable Long id,
+                                       @RequestParam PetSize petSize,
+                                       @RequestParam(required = false) LocalDateTime at) {
+        return catalogService.findPriceAt(id, petSize, at);
+    }
+
+    @PostMapping("/price-versions")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<CatalogPriceVersionDTO> registerPriceVersion(@Valid @RequestBody CatalogPriceVersionForm form) {
+        return catalogService.registerPriceVersion(form);
+    }
+
+    @PostMapping("/price-adjustments")
+    public CatalogPriceAdjustmentDTO adjustPrices(@Valid @RequestBody CatalogPriceAdjustmentForm form) {
+        return catalogService.adjustPrices(form);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public CatalogDTO saveCatalogItem(@Valid @RequestBody CatalogForm form) {
@@ -5,12 +5,16 @@ import com.br.pet_shop_management.api.dto.response.OwnerDTO;
 import com.br.pet_shop_management.api.dto.request.OwnerForm;
 import com.br.pet_shop_management.api.dto.request.OwnerUpdateForm;
 import com.br.pet_shop_management.application.service.OwnerService;
+import com.br.pet_shop_management.util.ETagUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/owners")
@@ -24,14 +28,24 @@ public class OwnerController {
         return ownerService.findAll(pageable);
     }
 
+    @GetMapping(params = "count=false")
+    public Slice<OwnerDTO> findAllSlice(Pageable pageable) {
+        return ownerService.findAllSlice(pageable);
+    }
+
     @GetMapping("/{cpf}")
     public OwnerDTO findByCpf(@PathVariable String cpf) {
         return ownerService.findByCpf(cpf);
     }
 
     @GetMapping("/{id:\\d+}")
-    public OwnerDTO findById(@PathVariable Long id) {
-        return ownerService.findById(id);
+    public ResponseEntity<OwnerDTO> findById(@PathVariable Long id, WebRequest request) {
+        // Versão lida antes da entidade: o ETag nunca é mais novo que o corpo enviado
+        String etag = ETagUtils.fromVersion(ownerService.findVersionById(id));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(ownerService.findById(id));
     }
 
     @PostMapping
@@ -6,12 +6,16 @@ import com.br.pet_shop_management.api.dto.response.PetDTO;
 import com.br.pet_shop_management.application.service.PetService;
 import com.br.pet_shop_management.domain.enums.Breed;
 import com.br.pet_shop_management.domain.enums.Species;
+import com.br.pet_shop_management.util.ETagUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -32,9 +36,24 @@ public class PetController {
         return petService.findPets(species, breed, ownerId, pageable);
     }
 
+    @GetMapping(params = "count=false")
+    public Slice<PetDTO> findPetsSlice(
+            @RequestParam(required = false) Species species,
+            @RequestParam(required = false) Breed breed,
+            @RequestParam(required = false) Long ownerId,
+            Pageable pageable
+    ) {
+        return petService.findPetsSlice(species, breed, ownerId, pageable);
+    }
+
     @GetMapping("/{id:\\d+}")
-    public PetDTO findById(@PathVariable Long id) {
-        return petService.findById(id);
+    public ResponseEntity<PetDTO> findById(@PathVariable Long id, WebRequest request) {
+        // Versão lida antes da entidade: o ETag nunca é mais novo que o corpo enviado
+        String etag = ETagUtils.fromVersion(petService.findVersionById(id));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(petService.findById(id));
     }
 
     @GetMapping("/breeds")
@@ -0,0 +1,38 @@
+package com.br.pet_shop_management.api.controller;
+
+import com.br.pet_shop_management.application.service.ReferenceDataService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/reference-data")
+public class ReferenceDataController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
+    private final byte[] body;
+    private final String etag;
+
+    public ReferenceDataController(ReferenceDataService referenceDataService, JsonMapper jsonMapper) {
+        this.body = jsonMapper.writeValueAsBytes(referenceDataService.getReferenceData());
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getReferenceData() {
+        // If-None-Match é resolvido pelo Spring (304 sem corpo) a partir do ETag abaixo
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,45 @@
+package com.br.pet_shop_management.api.controller;
+
+import com.br.pet_shop_management.api.dto.request.ResourceActionForm;
+import com.br.pet_shop_management.api.dto.request.ResourceForm;
+import com.br.pet_shop_management.api.dto.response.ResourceDTO;
+import com.br.pet_shop_management.api.dto.response.ResourceUtilizationDTO;
+import com.br.pet_shop_management.application.service.ResourceService;
+import com.br.pet_shop_management.domain.enums.ResourceType;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/resources")
+@RequiredArgsConstructor
+public class ResourceController {
+
+    private final ResourceService resourceService;
+
+    @GetMapping
+    public List<ResourceDTO> findResources(@RequestParam(required = false) ResourceType type) {
+        return resourceService.findResources(type);
+    }
+
+    @GetMapping("/utilization")
+    public List<ResourceUtilizationDTO> getUtilization(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return resourceService.getUtilization(date);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResourceDTO saveResource(@Valid @RequestBody ResourceForm form) {
+        return resourceService.saveResource(form);
+    }
+
+    @PostMapping("/{id:\\d+}/actions")
+    public ResourceDTO applyAction(@PathVariable Long id, @Valid @RequestBody ResourceActionForm form) {
+        return resourceService.applyAction(id, form.action());
+    }
+}
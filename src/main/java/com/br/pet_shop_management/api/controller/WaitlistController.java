@@ -0,0 +1,38 @@
+package com.br.pet_shop_management.api.controller;
+
+import com.br.pet_shop_management.api.dto.request.WaitlistActionForm;
+import com.br.pet_shop_management.api.dto.request.WaitlistForm;
+import com.br.pet_shop_management.api.dto.response.WaitlistEntryDTO;
+import com.br.pet_shop_management.application.service.WaitlistService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    @GetMapping
+    public List<WaitlistEntryDTO> listWaitlist(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return waitlistService.listWaitlist(date);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public WaitlistEntryDTO joinWaitlist(@Valid @RequestBody WaitlistForm form) {
+        return waitlistService.joinWaitlist(form);
+    }
+
+    @PostMapping("/{id:\\d+}/actions")
+    public WaitlistEntryDTO applyAction(@PathVariable Long id, @Valid @RequestBody WaitlistActionForm form) {
+        return waitlistService.applyAction(id, form.action());
+    }
+}
@@ -0,0 +1,29 @@
+package com.br.pet_shop_management.api.dto.request;
+
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record AppointmentSearchForm(Long ownerId,
+                                    Long petId,
+                                    Long catalogId,
+                                    Set<AppointmentStatus> status,
+
+                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                    LocalDateTime from,
+
+                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                    LocalDateTime to,
+
+                                    Sort.Direction direction,
+                                    String cursor,
+
+                                    @Min(value = 1, message = "Size must be at least 1.")
+                                    @Max(value = 100, message = "Size must be at most 100.")
+                                    Integer size) {
+}
@@ -0,0 +1,8 @@
+package com.br.pet_shop_management.api.dto.request;
+
+import com.br.pet_shop_management.api.dto.request.enums.AppointmentSeriesAction;
+import jakarta.validation.constraints.NotNull;
+
+public record AppointmentSeriesActionForm(@NotNull(message = "Action is required.")
+                                          AppointmentSeriesAction action) {
+}
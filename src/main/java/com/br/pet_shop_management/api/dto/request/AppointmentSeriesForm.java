@@ -0,0 +1,25 @@
+package com.br.pet_shop_management.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AppointmentSeriesForm(@NotNull(message = "Owner ID is required.")
+                                    Long ownerId,
+
+                                    @NotNull(message = "Pet ID is required.")
+                                    Long petId,
+
+                                    @NotNull(message = "First scheduled date/time is required.")
+                                    LocalDateTime firstScheduledAt,
+
+                                    @Valid
+                                    @NotNull(message = "Recurrence must be provided.")
+                                    RecurrenceForm recurrence,
+
+                                    @Valid
+                                    @NotNull(message = "Items must be provided.")
+                                    List<AppointmentItemForm> items) {
+}
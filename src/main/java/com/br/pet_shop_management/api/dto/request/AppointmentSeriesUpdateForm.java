@@ -0,0 +1,9 @@
+package com.br.pet_shop_management.api.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+
+public record AppointmentSeriesUpdateForm(@NotNull(message = "Shift is required.")
+                                          Duration shift) {
+}
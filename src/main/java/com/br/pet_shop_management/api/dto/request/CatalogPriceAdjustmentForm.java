@@ -0,0 +1,19 @@
+package com.br.pet_shop_management.api.dto.request;
+
+import com.br.pet_shop_management.api.dto.request.enums.PriceAdjustmentType;
+import com.br.pet_shop_management.domain.enums.Status;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record CatalogPriceAdjustmentForm(@NotNull(message = "Adjustment type is required.")
+                                         PriceAdjustmentType type,
+
+                                         @NotNull(message = "Adjustment value is required.")
+                                         BigDecimal value,
+
+                                         Status status,
+
+                                         List<Long> catalogIds) {
+}
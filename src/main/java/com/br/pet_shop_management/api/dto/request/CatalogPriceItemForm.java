@@ -0,0 +1,22 @@
+package com.br.pet_shop_management.api.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+public record CatalogPriceItemForm(@NotNull(message = "Catalog ID is required.")
+                                   Long catalogId,
+
+                                   @NotNull(message = "Price for small pets is required.")
+                                   @DecimalMin(value = "0.01", message = "Price for small pets must be greater than zero.")
+                                   BigDecimal priceSmall,
+
+                                   @NotNull(message = "Price for medium pets is required.")
+                                   @DecimalMin(value = "0.01", message = "Price for medium pets must be greater than zero.")
+                                   BigDecimal priceMedium,
+
+                                   @NotNull(message = "Price for large pets is required.")
+                                   @DecimalMin(value = "0.01", message = "Price for large pets must be greater than zero.")
+                                   BigDecimal priceLarge) {
+}
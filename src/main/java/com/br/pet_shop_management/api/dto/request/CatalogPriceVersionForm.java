@@ -0,0 +1,14 @@
+package com.br.pet_shop_management.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CatalogPriceVersionForm(LocalDateTime effectiveFrom,
+
+                                      @Valid
+                                      @NotEmpty(message = "At least one catalog price must be provided.")
+                                      List<CatalogPriceItemForm> items) {
+}
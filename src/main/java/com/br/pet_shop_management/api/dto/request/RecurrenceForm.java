@@ -0,0 +1,21 @@
+package com.br.pet_shop_management.api.dto.request;
+
+import com.br.pet_shop_management.domain.enums.RecurrenceFrequency;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public record RecurrenceForm(@NotNull(message = "Recurrence frequency is required.")
+                             RecurrenceFrequency frequency,
+
+                             @Min(value = 1, message = "Recurrence interval must be at least 1.")
+                             Integer interval,
+
+                             @Min(value = 1, message = "Occurrences must be at least 1.")
+                             @Max(value = 52, message = "Occurrences must be at most 52.")
+                             Integer occurrences,
+
+                             LocalDate until) {
+}
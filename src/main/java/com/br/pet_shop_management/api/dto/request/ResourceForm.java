@@ -0,0 +1,14 @@
+package com.br.pet_shop_management.api.dto.request;
+
+import com.br.pet_shop_management.domain.enums.ResourceType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record ResourceForm(@NotBlank(message = "Name is required.")
+                           @Size(min = 2, max = 50, message = "Name must be between 2 and 50 characters.")
+                           String name,
+
+                           @NotNull(message = "Resource type is required.")
+                           ResourceType type) {
+}
@@ -0,0 +1,8 @@
+package com.br.pet_shop_management.api.dto.request;
+
+import com.br.pet_shop_management.api.dto.request.enums.WaitlistAction;
+import jakarta.validation.constraints.NotNull;
+
+public record WaitlistActionForm(@NotNull(message = "Action is required.")
+                                 WaitlistAction action) {
+}
@@ -0,0 +1,25 @@
+package com.br.pet_shop_management.api.dto.request;
+
+import com.br.pet_shop_management.domain.enums.PreferredWindow;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record WaitlistForm(@NotNull(message = "Owner ID is required.")
+                           Long ownerId,
+
+                           @NotNull(message = "Pet ID is required.")
+                           Long petId,
+
+                           @NotNull(message = "Date is required.")
+                           LocalDate date,
+
+                           @NotNull(message = "Preferred window is required.")
+                           PreferredWindow window,
+
+                           @Valid
+                           @NotNull(message = "Items must be provided.")
+                           List<AppointmentItemForm> items) {
+}
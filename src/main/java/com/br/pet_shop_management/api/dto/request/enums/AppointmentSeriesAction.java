@@ -0,0 +1,5 @@
+package com.br.pet_shop_management.api.dto.request.enums;
+
+public enum AppointmentSeriesAction {
+    CANCEL
+}
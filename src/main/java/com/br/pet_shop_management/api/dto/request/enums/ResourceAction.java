@@ -0,0 +1,6 @@
+package com.br.pet_shop_management.api.dto.request.enums;
+
+public enum ResourceAction {
+    ACTIVATE,
+    DEACTIVATE
+}
@@ -0,0 +1,8 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record AgendaDTO(LocalDate date,
+                        List<AgendaEntryDTO> entries) {
+}
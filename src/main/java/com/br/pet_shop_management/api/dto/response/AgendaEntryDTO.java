@@ -0,0 +1,16 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.List;
+
+public record AgendaEntryDTO(Long appointmentId,
+                             LocalTime time,
+                             Long petId,
+                             Long ownerId,
+                             AppointmentStatus status,
+                             BigDecimal totalGross,
+                             List<String> itemNames) {
+}
@@ -13,5 +13,8 @@ public record AppointmentDTO(Long id,
                              AppointmentStatus status,
                              BigDecimal totalGross,
                              LocalDateTime closedAt,
+                             Long seriesId,
+                             Long staffId,
+                             Long stationId,
                              List<AppointmentItemDTO> items) {
 }
\ No newline at end of file
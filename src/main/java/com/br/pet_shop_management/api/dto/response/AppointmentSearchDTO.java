@@ -0,0 +1,9 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import java.util.List;
+
+/** Uma página da busca; nextCursor (nulo na última) vai no parâmetro cursor da próxima chamada. */
+public record AppointmentSearchDTO(List<AppointmentSummaryDTO> content,
+                                   boolean hasNext,
+                                   String nextCursor) {
+}
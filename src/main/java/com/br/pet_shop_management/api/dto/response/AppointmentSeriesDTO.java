@@ -0,0 +1,14 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import com.br.pet_shop_management.domain.enums.RecurrenceFrequency;
+
+import java.util.List;
+
+public record AppointmentSeriesDTO(Long id,
+                                   Long ownerId,
+                                   Long petId,
+                                   RecurrenceFrequency frequency,
+                                   Integer interval,
+                                   Integer occurrences,
+                                   List<AppointmentSummaryDTO> appointments) {
+}
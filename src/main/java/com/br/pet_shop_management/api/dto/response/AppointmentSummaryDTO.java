@@ -0,0 +1,15 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record AppointmentSummaryDTO(Long id,
+                                    Long ownerId,
+                                    Long petId,
+                                    LocalDateTime scheduledAt,
+                                    AppointmentStatus status,
+                                    BigDecimal totalGross,
+                                    LocalDateTime closedAt) {
+}
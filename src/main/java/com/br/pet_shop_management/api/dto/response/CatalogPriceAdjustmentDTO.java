@@ -0,0 +1,13 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import com.br.pet_shop_management.api.dto.request.enums.PriceAdjustmentType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CatalogPriceAdjustmentDTO(PriceAdjustmentType type,
+                                        BigDecimal value,
+                                        LocalDateTime effectiveFrom,
+                                        List<CatalogPriceChangeDTO> changes) {
+}
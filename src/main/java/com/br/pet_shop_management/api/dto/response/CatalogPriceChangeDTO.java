@@ -0,0 +1,13 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import java.math.BigDecimal;
+
+public record CatalogPriceChangeDTO(Long catalogId,
+                                    String name,
+                                    BigDecimal oldPriceSmall,
+                                    BigDecimal newPriceSmall,
+                                    BigDecimal oldPriceMedium,
+                                    BigDecimal newPriceMedium,
+                                    BigDecimal oldPriceLarge,
+                                    BigDecimal newPriceLarge) {
+}
@@ -0,0 +1,12 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import com.br.pet_shop_management.domain.enums.PetSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record CatalogPriceDTO(Long catalogId,
+                              PetSize petSize,
+                              LocalDateTime at,
+                              BigDecimal price) {
+}
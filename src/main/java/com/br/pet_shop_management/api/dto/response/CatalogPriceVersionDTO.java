@@ -0,0 +1,11 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record CatalogPriceVersionDTO(Long catalogId,
+                                     LocalDateTime effectiveFrom,
+                                     BigDecimal priceSmall,
+                                     BigDecimal priceMedium,
+                                     BigDecimal priceLarge) {
+}
@@ -0,0 +1,17 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.domain.enums.Breed;
+import com.br.pet_shop_management.domain.enums.PaymentMethod;
+import com.br.pet_shop_management.domain.enums.PetSize;
+import com.br.pet_shop_management.domain.enums.Species;
+
+import java.util.List;
+import java.util.Map;
+
+public record ReferenceDataDTO(List<Species> species,
+                               Map<Species, List<Breed>> breeds,
+                               List<PetSize> petSizes,
+                               List<PaymentMethod> paymentMethods,
+                               List<AppointmentStatus> appointmentStatuses) {
+}
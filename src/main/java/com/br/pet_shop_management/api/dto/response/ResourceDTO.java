@@ -0,0 +1,13 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import com.br.pet_shop_management.domain.enums.ResourceType;
+import com.br.pet_shop_management.domain.enums.Status;
+
+import java.time.LocalDateTime;
+
+public record ResourceDTO(Long id,
+                          String name,
+                          ResourceType type,
+                          Status status,
+                          LocalDateTime createdAt) {
+}
@@ -0,0 +1,18 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import com.br.pet_shop_management.domain.enums.ResourceType;
+import com.br.pet_shop_management.domain.enums.Status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ResourceUtilizationDTO(Long resourceId,
+                                     String name,
+                                     ResourceType type,
+                                     Status status,
+                                     LocalDate date,
+                                     int appointmentsCount,
+                                     int bookedMinutes,
+                                     int capacityMinutes,
+                                     BigDecimal utilization) {
+}
@@ -0,0 +1,18 @@
+package com.br.pet_shop_management.api.dto.response;
+
+import com.br.pet_shop_management.domain.enums.PreferredWindow;
+import com.br.pet_shop_management.domain.enums.WaitlistStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record WaitlistEntryDTO(Long id,
+                               Long ownerId,
+                               Long petId,
+                               LocalDate date,
+                               PreferredWindow window,
+                               Integer durationMinutes,
+                               WaitlistStatus status,
+                               LocalDateTime createdAt,
+                               Long appointmentId) {
+}
@@ -2,10 +2,12 @@ package com.br.pet_shop_management.api.exception;
 
 import com.br.pet_shop_management.application.exception.DomainRuleException;
 import com.br.pet_shop_management.application.exception.InvalidInputException;
+import com.br.pet_shop_management.infrastructure.web.AdmissionRejectedException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -90,6 +92,18 @@ public class GlobalExceptionHandler {
         return buildError(HttpStatus.CONFLICT, message, request);
     }
 
+    // 503 - Sobrecarga: recusada na admissão, antes de ocupar conexão
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ApiError> handleAdmissionRejected(AdmissionRejectedException ex, HttpServletRequest request) {
+        // debug: sob sobrecarga um WARN por recusa inundaria o log; o contador petshop.admission.rejected cobre
+        log.debug("Admission rejected: path={}", request.getRequestURI());
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ApiError(HttpStatus.SERVICE_UNAVAILABLE.value(), HttpStatus.SERVICE_UNAVAILABLE.name(),
+                        ex.getMessage(), request.getRequestURI(), OffsetDateTime.now()));
+    }
+
     // 500 - Fallback
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> handleGeneric(Exception ex, HttpServletRequest request) {
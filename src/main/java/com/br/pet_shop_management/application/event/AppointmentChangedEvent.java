@@ -0,0 +1,72 @@
+package com.br.pet_shop_management.application.event;
+
+import com.br.pet_shop_management.domain.appointment.AppointmentSummary;
+import com.br.pet_shop_management.domain.entity.AppointmentEntity;
+import com.br.pet_shop_management.domain.entity.AppointmentItemEntity;
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Mudança de um agendamento, publicada pelos serviços e entregue aos ouvintes após o commit.
+ * itemNames vem nulo quando a mudança não mexeu nos itens (pagamento), para não exigir uma
+ * consulta extra só para repeti-los. previousScheduledAt só vem em RESCHEDULED, para quem
+ * acompanha o dia antigo também saber que o agendamento saiu dele. version é a versão gravada
+ * pelo commit (o serviço faz flush antes de publicar): os ouvintes rodam cada um na thread do seu
+ * commit e podem chegar fora de ordem, então quem guarda estado descarta a mudança mais velha.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AppointmentChangedEvent(ChangeType type,
+                                      Long appointmentId,
+                                      Long version,
+                                      Long ownerId,
+                                      Long petId,
+                                      LocalDateTime scheduledAt,
+                                      AppointmentStatus status,
+                                      BigDecimal totalGross,
+                                      List<String> itemNames,
+                                      LocalDateTime previousScheduledAt) {
+
+    public enum ChangeType { CREATED, ITEMS_ADDED, STATUS_CHANGED, RESCHEDULED, PAID }
+
+    public static AppointmentChangedEvent of(ChangeType type, AppointmentEntity appointment, List<AppointmentItemEntity> items) {
+        return new AppointmentChangedEvent(
+                type,
+                appointment.getId(),
+                appointment.getVersion(),
+                appointment.getOwner().getId(),
+                appointment.getPet().getId(),
+                appointment.getScheduledAt(),
+                appointment.getStatus(),
+                appointment.getTotalGross(),
+                items == null ? null : items.stream().map(AppointmentItemEntity::getCatalogName).toList(),
+                null);
+    }
+
+    public static AppointmentChangedEvent of(ChangeType type, AppointmentSummary appointment, List<String> itemNames) {
+        return of(type, appointment, itemNames, null);
+    }
+
+    public static AppointmentChangedEvent rescheduled(AppointmentSummary appointment, List<String> itemNames,
+                                                      LocalDateTime previousScheduledAt) {
+        return of(ChangeType.RESCHEDULED, appointment, itemNames, previousScheduledAt);
+    }
+
+    private static AppointmentChangedEvent of(ChangeType type, AppointmentSummary appointment, List<String> itemNames,
+                                              LocalDateTime previousScheduledAt) {
+        return new AppointmentChangedEvent(
+                type,
+                appointment.id(),
+                appointment.version(),
+                appointment.ownerId(),
+                appointment.petId(),
+                appointment.scheduledAt(),
+                appointment.status(),
+                appointment.totalGross(),
+                itemNames,
+                previousScheduledAt);
+    }
+}
@@ -0,0 +1,4 @@
+package com.br.pet_shop_management.application.event;
+
+public record CatalogChangedEvent(Long catalogId) {
+}
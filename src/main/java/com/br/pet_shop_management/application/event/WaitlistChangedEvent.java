@@ -0,0 +1,7 @@
+package com.br.pet_shop_management.application.event;
+
+import com.br.pet_shop_management.domain.waitlist.WaitlistCandidate;
+
+/** Entrada que passou a esperar ({@code waiting}) ou deixou a fila; aplicada à memória após o commit. */
+public record WaitlistChangedEvent(WaitlistCandidate candidate, boolean waiting) {
+}
@@ -0,0 +1,31 @@
+package com.br.pet_shop_management.application.mapper;
+
+import com.br.pet_shop_management.api.dto.response.AgendaDTO;
+import com.br.pet_shop_management.api.dto.response.AgendaEntryDTO;
+import com.br.pet_shop_management.domain.agenda.AgendaEntry;
+import com.br.pet_shop_management.domain.agenda.DayAgenda;
+
+public final class AgendaMapper {
+    private AgendaMapper() {}
+
+    public static AgendaDTO toDTO(DayAgenda agenda) {
+        if (agenda == null) {
+            throw new IllegalArgumentException("DayAgenda must not be null.");
+        }
+
+        return new AgendaDTO(agenda.date(), agenda.entries().stream()
+                .map(AgendaMapper::toEntryDTO)
+                .toList());
+    }
+
+    public static AgendaEntryDTO toEntryDTO(AgendaEntry entry) {
+        return new AgendaEntryDTO(
+                entry.appointmentId(),
+                entry.scheduledAt().toLocalTime(),
+                entry.petId(),
+                entry.ownerId(),
+                entry.status(),
+                entry.totalGross(),
+                entry.itemNames());
+    }
+}
@@ -2,6 +2,8 @@ package com.br.pet_shop_management.application.mapper;
 
 import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
 import com.br.pet_shop_management.api.dto.response.AppointmentItemDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentSummaryDTO;
+import com.br.pet_shop_management.domain.appointment.AppointmentSummary;
 import com.br.pet_shop_management.domain.entity.AppointmentEntity;
 import com.br.pet_shop_management.domain.entity.AppointmentItemEntity;
 
@@ -27,6 +29,9 @@ public final class AppointmentMapper {
                 appointment.getStatus(),
                 appointment.getTotalGross(),
                 appointment.getClosedAt(),
+                appointment.getSeries() == null ? null : appointment.getSeries().getId(),
+                appointment.getStaff() == null ? null : appointment.getStaff().getId(),
+                appointment.getStation() == null ? null : appointment.getStation().getId(),
                 itemDTOs);
     }
 
@@ -38,9 +43,24 @@ public final class AppointmentMapper {
         return new AppointmentItemDTO(
                 item.getId(),
                 item.getCatalog().getId(),
-                item.getCatalog().getName(),
+                item.getCatalogName(),
                 item.getQuantity(),
                 item.getUnitPriceApplied(),
                 item.getSubtotal());
     }
-}
\ No newline at end of file
+
+    public static AppointmentSummaryDTO toSummaryDTO(AppointmentSummary summary) {
+        if (summary == null) {
+            throw new IllegalArgumentException("AppointmentSummary must not be null.");
+        }
+
+        return new AppointmentSummaryDTO(
+                summary.id(),
+                summary.ownerId(),
+                summary.petId(),
+                summary.scheduledAt(),
+                summary.status(),
+                summary.totalGross(),
+                summary.closedAt());
+    }
+}
@@ -0,0 +1,28 @@
+package com.br.pet_shop_management.application.mapper;
+
+import com.br.pet_shop_management.api.dto.response.AppointmentSeriesDTO;
+import com.br.pet_shop_management.domain.appointment.AppointmentSummary;
+import com.br.pet_shop_management.domain.entity.AppointmentSeriesEntity;
+
+import java.util.List;
+
+public final class AppointmentSeriesMapper {
+    private AppointmentSeriesMapper() {}
+
+    public static AppointmentSeriesDTO toDTO(AppointmentSeriesEntity series, List<AppointmentSummary> appointments) {
+        if (series == null) {
+            throw new IllegalArgumentException("AppointmentSeriesEntity must not be null.");
+        }
+
+        return new AppointmentSeriesDTO(
+                series.getId(),
+                series.getOwner().getId(),
+                series.getPet().getId(),
+                series.getFrequency(),
+                series.getInterval(),
+                series.getOccurrences(),
+                appointments == null ? List.of() : appointments.stream()
+                        .map(AppointmentMapper::toSummaryDTO)
+                        .toList());
+    }
+}
@@ -2,7 +2,16 @@ package com.br.pet_shop_management.application.mapper;
 
 import com.br.pet_shop_management.api.dto.request.CatalogForm;
 import com.br.pet_shop_management.api.dto.response.CatalogDTO;
+import com.br.pet_shop_management.api.dto.response.CatalogPriceChangeDTO;
+import com.br.pet_shop_management.api.dto.response.CatalogPriceVersionDTO;
+import com.br.pet_shop_management.domain.catalog.CatalogItemSnapshot;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceChange;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceTimeline;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceVersion;
 import com.br.pet_shop_management.domain.entity.CatalogEntity;
+import com.br.pet_shop_management.domain.enums.PetSize;
+
+import java.time.LocalDateTime;
 
 public final class CatalogMapper {
     private CatalogMapper() {}
@@ -23,6 +32,67 @@ public final class CatalogMapper {
                 entity.getStatus());
     }
 
+    public static CatalogDTO toDTO(CatalogEntity entity, CatalogPriceTimeline timeline, LocalDateTime at) {
+        if (entity == null) {
+            throw new IllegalArgumentException("CatalogEntity must not be null.");
+        }
+
+        return new CatalogDTO(
+                entity.getId(),
+                entity.getName(),
+                entity.getDescription(),
+                entity.getDurationMinutes(),
+                timeline.priceAt(PetSize.SMALL, at).orElse(entity.getPriceSmall()),
+                timeline.priceAt(PetSize.MEDIUM, at).orElse(entity.getPriceMedium()),
+                timeline.priceAt(PetSize.LARGE, at).orElse(entity.getPriceLarge()),
+                entity.getStatus());
+    }
+
+    public static CatalogDTO toDTO(CatalogItemSnapshot item, LocalDateTime at) {
+        if (item == null) {
+            throw new IllegalArgumentException("CatalogItemSnapshot must not be null.");
+        }
+
+        return new CatalogDTO(
+                item.id(),
+                item.name(),
+                item.description(),
+                item.durationMinutes(),
+                item.priceAt(PetSize.SMALL, at),
+                item.priceAt(PetSize.MEDIUM, at),
+                item.priceAt(PetSize.LARGE, at),
+                item.status());
+    }
+
+    public static CatalogPriceVersionDTO toDTO(CatalogPriceVersion version) {
+        if (version == null) {
+            throw new IllegalArgumentException("CatalogPriceVersion must not be null.");
+        }
+
+        return new CatalogPriceVersionDTO(
+                version.catalogId(),
+                version.effectiveFrom(),
+                version.priceSmall(),
+                version.priceMedium(),
+                version.priceLarge());
+    }
+
+    public static CatalogPriceChangeDTO toDTO(CatalogPriceChange change) {
+        if (change == null) {
+            throw new IllegalArgumentException("CatalogPriceChange must not be null.");
+        }
+
+        return new CatalogPriceChangeDTO(
+                change.catalogId(),
+                change.name(),
+                change.oldPriceSmall(),
+                change.newPriceSmall(),
+                change.oldPriceMedium(),
+                change.newPriceMedium(),
+                change.oldPriceLarge(),
+                change.newPriceLarge());
+    }
+
     public static CatalogEntity toEntity(CatalogForm form) {
         return new CatalogEntity(
                 form.name(),
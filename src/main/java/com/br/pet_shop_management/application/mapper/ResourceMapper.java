@@ -0,0 +1,21 @@
+package com.br.pet_shop_management.application.mapper;
+
+import com.br.pet_shop_management.api.dto.response.ResourceDTO;
+import com.br.pet_shop_management.domain.entity.ResourceEntity;
+
+public final class ResourceMapper {
+    private ResourceMapper() {}
+
+    public static ResourceDTO toDTO(ResourceEntity entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("ResourceEntity must not be null.");
+        }
+
+        return new ResourceDTO(
+                entity.getId(),
+                entity.getName(),
+                entity.getType(),
+                entity.getStatus(),
+                entity.getCreatedAt());
+    }
+}
@@ -0,0 +1,44 @@
+package com.br.pet_shop_management.application.mapper;
+
+import com.br.pet_shop_management.api.dto.response.WaitlistEntryDTO;
+import com.br.pet_shop_management.domain.entity.WaitlistEntryEntity;
+import com.br.pet_shop_management.domain.enums.WaitlistStatus;
+import com.br.pet_shop_management.domain.waitlist.WaitlistCandidate;
+
+public final class WaitlistMapper {
+    private WaitlistMapper() {}
+
+    public static WaitlistEntryDTO toDTO(WaitlistEntryEntity entry) {
+        if (entry == null) {
+            throw new IllegalArgumentException("WaitlistEntryEntity must not be null.");
+        }
+
+        return new WaitlistEntryDTO(
+                entry.getId(),
+                entry.getOwner().getId(),
+                entry.getPet().getId(),
+                entry.getDesiredDate(),
+                entry.getPreferredWindow(),
+                entry.getDurationMinutes(),
+                entry.getStatus(),
+                entry.getCreatedAt(),
+                entry.getAppointment() == null ? null : entry.getAppointment().getId());
+    }
+
+    public static WaitlistEntryDTO toDTO(WaitlistCandidate candidate) {
+        if (candidate == null) {
+            throw new IllegalArgumentException("WaitlistCandidate must not be null.");
+        }
+
+        return new WaitlistEntryDTO(
+                candidate.entryId(),
+                candidate.ownerId(),
+                candidate.petId(),
+                candidate.date(),
+                candidate.window(),
+                candidate.durationMinutes(),
+                WaitlistStatus.WAITING,
+                candidate.createdAt(),
+                null);
+    }
+}
@@ -2,38 +2,89 @@ package com.br.pet_shop_management.application.service;
 
 import com.br.pet_shop_management.api.dto.request.AppointmentForm;
 import com.br.pet_shop_management.api.dto.request.AppointmentItemForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSearchForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSeriesForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSeriesUpdateForm;
+import com.br.pet_shop_management.api.dto.request.RecurrenceForm;
 import com.br.pet_shop_management.api.dto.request.enums.AppointmentAction;
+import com.br.pet_shop_management.api.dto.request.enums.AppointmentSeriesAction;
+import com.br.pet_shop_management.api.dto.response.AgendaDTO;
 import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentSearchDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentSeriesDTO;
+import com.br.pet_shop_management.application.event.AppointmentChangedEvent;
+import com.br.pet_shop_management.application.event.AppointmentChangedEvent.ChangeType;
 import com.br.pet_shop_management.application.exception.DomainRuleException;
 import com.br.pet_shop_management.application.exception.InvalidInputException;
+import com.br.pet_shop_management.application.mapper.AgendaMapper;
 import com.br.pet_shop_management.application.mapper.AppointmentMapper;
+import com.br.pet_shop_management.application.mapper.AppointmentSeriesMapper;
+import com.br.pet_shop_management.domain.catalog.CatalogItemSnapshot;
+import com.br.pet_shop_management.domain.catalog.CatalogSnapshot;
 import com.br.pet_shop_management.domain.entity.*;
 import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.domain.enums.ResourceType;
 import com.br.pet_shop_management.domain.enums.Status;
+import com.br.pet_shop_management.domain.pricing.CatalogPricing;
+import com.br.pet_shop_management.domain.agenda.DayAgenda;
+import com.br.pet_shop_management.domain.appointment.AppointmentSummary;
+import com.br.pet_shop_management.domain.appointment.RecurrenceRule;
+import com.br.pet_shop_management.domain.resource.ResourceOccupancy;
+import com.br.pet_shop_management.domain.resource.ResourcePlan;
+import com.br.pet_shop_management.infrastructure.cache.CatalogSnapshotHolder;
+import com.br.pet_shop_management.infrastructure.cache.DailyAgendaHolder;
+import com.br.pet_shop_management.infrastructure.jfr.AppointmentOperationEvent;
 import com.br.pet_shop_management.infrastructure.persistence.*;
+import com.br.pet_shop_management.infrastructure.persistence.spec.AppointmentSpecifications;
+import com.br.pet_shop_management.util.KeysetCursor;
 import com.br.pet_shop_management.util.MoneyUtils;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "petshop.service", histogram = true)
 public class AppointmentService {
 
     private final AppointmentRepository appointmentRepository;
     private final AppointmentItemRepository appointmentItemRepository;
-    private final OwnerRepository ownerRepository;
-    private final PetRepository petRepository;
+    private final AppointmentSeriesRepository appointmentSeriesRepository;
+    private final BookingRules bookingRules;
     private final CatalogRepository catalogRepository;
+    private final ResourceRepository resourceRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final DailyAgendaHolder dailyAgendaHolder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final List<AppointmentStatus> ACTIVE_STATUSES = List.of(
+            AppointmentStatus.SCHEDULED,
+            AppointmentStatus.IN_PROGRESS,
+            AppointmentStatus.WAITING_PAYMENT
+    );
 
     @Transactional
     public AppointmentDTO createAppointment(AppointmentForm form) {
@@ -41,28 +92,12 @@ public class AppointmentService {
                 form.ownerId(), form.petId(), form.scheduledAt(),
                 (form.items() == null ? 0 : form.items().size()));
 
-        OwnerEntity owner = ownerRepository.findById(form.ownerId())
-                .orElseThrow(() -> {
-                    log.warn("createAppointment failed: owner not found. ownerId={}", form.ownerId());
-                    return new EntityNotFoundException("Owner not found.");
-                });
-
-        if (owner.getStatus() == Status.INACTIVE) {
-            log.warn("createAppointment blocked: inactive owner. ownerId={}", owner.getId());
-            throw new DomainRuleException("Inactive owners cannot create appointments.");
-        }
+        AppointmentOperationEvent event = AppointmentOperationEvent.begin("createAppointment");
+        event.setOwnerId(form.ownerId());
+        event.setPetId(form.petId());
 
-        PetEntity pet = petRepository.findById(form.petId())
-                .orElseThrow(() -> {
-                    log.warn("createAppointment failed: pet not found. petId={}", form.petId());
-                    return new EntityNotFoundException("Pet not found.");
-                });
-
-        if (!pet.getOwner().getId().equals(owner.getId())) {
-            log.warn("createAppointment blocked: pet does not belong to owner. ownerId={}, petId={}, petOwnerId={}",
-                    owner.getId(), pet.getId(), pet.getOwner().getId());
-            throw new DomainRuleException("Pet does not belong to the provided owner.");
-        }
+        PetEntity pet = bookingRules.findBookablePet("createAppointment", form.ownerId(), form.petId());
+        OwnerEntity owner = pet.getOwner();
 
         if (form.scheduledAt() == null) {
             log.warn("createAppointment invalid input: scheduledAt is null. ownerId={}, petId={}", owner.getId(), pet.getId());
@@ -80,16 +115,10 @@ public class AppointmentService {
             throw new InvalidInputException("At least one service item must be provided.");
         }
 
-        List<AppointmentStatus> activeStatuses = List.of(
-                AppointmentStatus.SCHEDULED,
-                AppointmentStatus.IN_PROGRESS,
-                AppointmentStatus.WAITING_PAYMENT
-        );
-
         boolean hasConflict = appointmentRepository.existsByPetIdAndScheduledAtAndStatusIn(
                 pet.getId(),
                 form.scheduledAt(),
-                activeStatuses
+                ACTIVE_STATUSES
         );
 
         if (hasConflict) {
@@ -97,11 +126,18 @@ public class AppointmentService {
             throw new DomainRuleException("This pet already has an appointment scheduled for the same date/time.");
         }
 
+        // Total calculado antes do persist: o atendimento vai para o banco em um único INSERT
+        // e os itens seguem em lote no flush, sem UPDATE posterior do totalGross
         AppointmentEntity appointment = new AppointmentEntity(owner, pet, form.scheduledAt());
-        AppointmentEntity savedAppointment = appointmentRepository.save(appointment);
-
-        List<AppointmentItemEntity> items = buildItems(savedAppointment, pet, form.items());
-        appointmentItemRepository.saveAll(items);
+        List<AppointmentItemEntity> items = buildItems(appointment, pet, form.items());
+
+        int durationMinutes = durationOf(items);
+        ResourcePlan plan = planResources(List.of(form.scheduledAt()), durationMinutes, Set.of());
+        List<ResourceType> unavailable = assignResources(plan, appointment, durationMinutes);
+        if (!unavailable.isEmpty()) {
+            log.warn("createAppointment blocked: no free resource. scheduledAt={}, unavailable={}", form.scheduledAt(), unavailable);
+            throw new DomainRuleException(noResourceMessage(unavailable, form.scheduledAt()));
+        }
 
         BigDecimal totalGross = MoneyUtils.scale(
                 items.stream()
@@ -109,8 +145,14 @@ public class AppointmentService {
                         .reduce(MoneyUtils.zero(), BigDecimal::add)
         );
 
-        savedAppointment.updateTotalGross(totalGross);
-        AppointmentEntity updated = appointmentRepository.save(savedAppointment);
+        appointment.updateTotalGross(totalGross);
+        AppointmentEntity updated = appointmentRepository.save(appointment);
+        appointmentItemRepository.saveAll(items);
+        // flush antes de publicar: o evento leva a versão que o commit grava
+        appointmentRepository.flush();
+        event.setAppointmentId(updated.getId());
+        event.itemsCount = items.size();
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.CREATED, updated, items));
 
         log.info("createAppointment completed: appointmentId={}, status={}, totalGross={}, itemsCount={}",
                 updated.getId(), updated.getStatus(), updated.getTotalGross(), items.size());
@@ -123,6 +165,9 @@ public class AppointmentService {
         log.info("addAppointmentItems started: appointmentId={}, newItemsCount={}",
                 appointmentId, (newItems == null ? 0 : newItems.size()));
 
+        AppointmentOperationEvent event = AppointmentOperationEvent.begin("addAppointmentItems");
+        event.setAppointmentId(appointmentId);
+
         if (appointmentId == null) {
             log.warn("addAppointmentItems invalid input: appointmentId is null");
             throw new InvalidInputException("Appointment ID must be provided.");
@@ -133,7 +178,7 @@ public class AppointmentService {
             throw new InvalidInputException("At least one service item must be provided.");
         }
 
-        AppointmentEntity appointment = appointmentRepository.findDetailedByIdForUpdate(appointmentId)
+        AppointmentEntity appointment = event.timeLockWait(() -> appointmentRepository.findDetailedByIdForUpdate(appointmentId))
                 .orElseThrow(() -> {
                     log.warn("addAppointmentItems failed: appointment not found. appointmentId={}", appointmentId);
                     return new EntityNotFoundException("Appointment not found.");
@@ -158,11 +203,24 @@ public class AppointmentService {
         }
 
         PetEntity pet = appointment.getPet();
+        event.setOwnerId(appointment.getOwner().getId());
+        event.setPetId(pet.getId());
 
         List<AppointmentItemEntity> itemsToAdd = buildItems(appointment, pet, newItems);
         appointmentItemRepository.saveAll(itemsToAdd);
 
         List<AppointmentItemEntity> allItems = appointmentItemRepository.findByAppointmentId(appointmentId);
+        event.itemsCount = allItems.size();
+
+        // Mais itens, atendimento mais longo: o recurso atual precisa continuar livre até o novo fim
+        int durationMinutes = durationOf(allItems);
+        ResourcePlan plan = planResources(List.of(appointment.getScheduledAt()), durationMinutes, Set.of(appointment.getId()));
+        List<ResourceType> unavailable = assignResources(plan, appointment, durationMinutes);
+        if (!unavailable.isEmpty()) {
+            log.warn("addAppointmentItems blocked: no free resource for the longer appointment. appointmentId={}, durationMinutes={}, unavailable={}",
+                    appointment.getId(), durationMinutes, unavailable);
+            throw new DomainRuleException(noResourceMessage(unavailable, appointment.getScheduledAt()));
+        }
 
         BigDecimal totalGross = MoneyUtils.scale(
                 allItems.stream()
@@ -171,7 +229,8 @@ public class AppointmentService {
         );
 
         appointment.updateTotalGross(totalGross);
-        AppointmentEntity updated = appointmentRepository.save(appointment);
+        AppointmentEntity updated = appointmentRepository.saveAndFlush(appointment);
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.ITEMS_ADDED, updated, allItems));
 
         log.info("addAppointmentItems completed: appointmentId={}, totalGross={}, totalItemsCount={}",
                 updated.getId(), updated.getTotalGross(), allItems.size());
@@ -258,10 +317,72 @@ public class AppointmentService {
         return page.map(a -> AppointmentMapper.toDTO(a, itemsByAppointmentId.getOrDefault(a.getId(), List.of())));
     }
 
+    @Transactional(readOnly = true)
+    public AppointmentSearchDTO searchAppointments(AppointmentSearchForm form) {
+        log.info("searchAppointments started: ownerId={}, petId={}, catalogId={}, statuses={}, from={}, to={}, direction={}, size={}",
+                form.ownerId(), form.petId(), form.catalogId(), form.status(), form.from(), form.to(), form.direction(), form.size());
+
+        if (form.from() != null && form.to() != null && !form.from().isBefore(form.to())) {
+            log.warn("searchAppointments invalid input: from not before to. from={}, to={}", form.from(), form.to());
+            throw new InvalidInputException("'from' must be before 'to'.");
+        }
+
+        KeysetCursor cursor = null;
+        if (form.cursor() != null && !form.cursor().isBlank()) {
+            try {
+                cursor = KeysetCursor.decode(form.cursor());
+            } catch (IllegalArgumentException e) {
+                log.warn("searchAppointments invalid input: malformed cursor. cursor={}", form.cursor());
+                throw new InvalidInputException("Invalid search cursor.");
+            }
+        }
+
+        Sort.Direction direction = (form.direction() == null) ? Sort.Direction.ASC : form.direction();
+        int size = (form.size() == null) ? 20 : form.size();
+
+        Specification<AppointmentEntity> spec = Specification
+                .where(AppointmentSpecifications.hasOwnerId(form.ownerId()))
+                .and(AppointmentSpecifications.hasPetId(form.petId()))
+                .and(AppointmentSpecifications.hasStatusIn(form.status()))
+                .and(AppointmentSpecifications.scheduledFrom(form.from()))
+                .and(AppointmentSpecifications.scheduledBefore(form.to()))
+                .and(AppointmentSpecifications.hasCatalogId(form.catalogId()));
+        if (cursor != null) {
+            spec = spec.and(AppointmentSpecifications.after(cursor.scheduledAt(), cursor.id(), direction));
+        }
+
+        // uma linha a mais só para saber se existe próxima página, sem count
+        List<AppointmentSummary> rows = appointmentRepository.searchSummaries(spec, direction, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<AppointmentSummary> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            AppointmentSummary last = content.getLast();
+            nextCursor = new KeysetCursor(last.scheduledAt(), last.id()).encode();
+        }
+
+        log.info("searchAppointments completed: resultCount={}, hasNext={}", content.size(), hasNext);
+        return new AppointmentSearchDTO(content.stream().map(AppointmentMapper::toSummaryDTO).toList(), hasNext, nextCursor);
+    }
+
+    // Sem @Transactional: a agenda vem da memória e não deve abrir conexão
+    public AgendaDTO getAgenda(LocalDate date) {
+        LocalDate day = (date == null) ? LocalDate.now() : date;
+        DayAgenda agenda = dailyAgendaHolder.agenda(day);
+
+        log.info("getAgenda completed: date={}, entriesCount={}", day, agenda.entries().size());
+        return AgendaMapper.toDTO(agenda);
+    }
+
     @Transactional
     public AppointmentDTO applyAction(Long id, AppointmentAction action) {
         log.info("applyAppointmentAction started: appointmentId={}, action={}", id, action);
 
+        AppointmentOperationEvent event = AppointmentOperationEvent.begin("applyAction");
+        event.setAppointmentId(id);
+        event.action = (action == null ? null : action.name());
+
         if (id == null) {
             log.warn("applyAppointmentAction invalid input: appointmentId is null");
             throw new InvalidInputException("Appointment ID must be provided.");
@@ -272,7 +393,7 @@ public class AppointmentService {
             throw new InvalidInputException("Action must be provided.");
         }
 
-        AppointmentEntity appointment = appointmentRepository.findDetailedByIdForUpdate(id)
+        AppointmentEntity appointment = event.timeLockWait(() -> appointmentRepository.findDetailedByIdForUpdate(id))
                 .orElseThrow(() -> {
                     log.warn("applyAppointmentAction failed: appointment not found. appointmentId={}", id);
                     return new EntityNotFoundException("Appointment not found.");
@@ -285,6 +406,8 @@ public class AppointmentService {
         }
 
         AppointmentStatus before = appointment.getStatus();
+        event.setOwnerId(appointment.getOwner().getId());
+        event.setPetId(appointment.getPet().getId());
 
         try {
             switch (action) {
@@ -320,8 +443,10 @@ public class AppointmentService {
             throw new DomainRuleException(e.getMessage());
         }
 
-        AppointmentEntity updated = appointmentRepository.save(appointment);
+        AppointmentEntity updated = appointmentRepository.saveAndFlush(appointment);
         List<AppointmentItemEntity> items = appointmentItemRepository.findByAppointmentId(updated.getId());
+        event.itemsCount = items.size();
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.STATUS_CHANGED, updated, items));
 
         log.info("applyAppointmentAction completed: appointmentId={}, action={}, statusBefore={}, statusAfter={}",
                 updated.getId(), action, before, updated.getStatus());
@@ -329,40 +454,337 @@ public class AppointmentService {
         return AppointmentMapper.toDTO(updated, items);
     }
 
-    private List<AppointmentItemEntity> buildItems(AppointmentEntity appointment, PetEntity pet, List<AppointmentItemForm> forms) {
-        return forms.stream().map(itemForm -> {
-            if (itemForm.catalogId() == null) {
-                log.warn("buildItems invalid input: catalogId is null. appointmentId={}", appointment.getId());
-                throw new InvalidInputException("Catalog ID is required.");
-            }
+    @Transactional
+    public AppointmentSeriesDTO createAppointmentSeries(AppointmentSeriesForm form) {
+        log.info("createAppointmentSeries started: ownerId={}, petId={}, firstScheduledAt={}, recurrence={}, itemsCount={}",
+                form.ownerId(), form.petId(), form.firstScheduledAt(), form.recurrence(),
+                (form.items() == null ? 0 : form.items().size()));
+
+        AppointmentOperationEvent event = AppointmentOperationEvent.begin("createAppointmentSeries");
+        event.setOwnerId(form.ownerId());
+        event.setPetId(form.petId());
+
+        PetEntity pet = bookingRules.findBookablePet("createAppointmentSeries", form.ownerId(), form.petId());
+        OwnerEntity owner = pet.getOwner();
+
+        if (form.firstScheduledAt() == null) {
+            log.warn("createAppointmentSeries invalid input: firstScheduledAt is null. ownerId={}, petId={}", owner.getId(), pet.getId());
+            throw new InvalidInputException("First scheduled date/time is required.");
+        }
+
+        if (form.firstScheduledAt().isBefore(LocalDateTime.now())) {
+            log.warn("createAppointmentSeries blocked: firstScheduledAt in the past. ownerId={}, petId={}, firstScheduledAt={}",
+                    owner.getId(), pet.getId(), form.firstScheduledAt());
+            throw new DomainRuleException("Scheduled date/time cannot be in the past.");
+        }
+
+        if (form.items() == null || form.items().isEmpty()) {
+            log.warn("createAppointmentSeries invalid input: empty items. ownerId={}, petId={}", owner.getId(), pet.getId());
+            throw new InvalidInputException("At least one service item must be provided.");
+        }
+
+        RecurrenceRule rule;
+        List<LocalDateTime> dates;
+        try {
+            RecurrenceForm recurrence = form.recurrence();
+            rule = new RecurrenceRule(recurrence.frequency(),
+                    recurrence.interval() == null ? 1 : recurrence.interval(),
+                    recurrence.occurrences(), recurrence.until());
+            dates = rule.expand(form.firstScheduledAt());
+        } catch (IllegalArgumentException e) {
+            log.warn("createAppointmentSeries invalid input: invalid recurrence. recurrence={}, msg={}", form.recurrence(), e.getMessage());
+            throw new InvalidInputException(e.getMessage());
+        }
+
+        // Uma consulta pela faixa inteira da série no lugar de uma por ocorrência
+        List<LocalDateTime> conflicts = conflictsWith(
+                appointmentRepository.findBookedTimes(pet.getId(), dates.getFirst(), dates.getLast(), ACTIVE_STATUSES),
+                dates);
+
+        if (!conflicts.isEmpty()) {
+            log.warn("createAppointmentSeries blocked: scheduling conflict. petId={}, conflicts={}", pet.getId(), conflicts);
+            throw new DomainRuleException("This pet already has appointments scheduled at: " + conflicts + ".");
+        }
 
-            CatalogEntity catalog = catalogRepository.findById(itemForm.catalogId())
-                    .orElseThrow(() -> {
-                        log.warn("buildItems failed: catalog item not found. catalogId={}, appointmentId={}",
-                                itemForm.catalogId(), appointment.getId());
-                        return new EntityNotFoundException("Catalog item not found.");
-                    });
-
-            if (catalog.getStatus() == Status.INACTIVE) {
-                log.warn("buildItems blocked: inactive catalog item used. catalogId={}, appointmentId={}",
-                        catalog.getId(), appointment.getId());
-                throw new DomainRuleException("Inactive catalog items cannot be used.");
+        AppointmentSeriesEntity series = appointmentSeriesRepository.save(
+                AppointmentSeriesEntity.create(owner, pet, rule, dates.size(), LocalDateTime.now()));
+
+        // Itens validados e precificados uma vez; as outras ocorrências copiam o mesmo preço
+        List<AppointmentEntity> appointments = new ArrayList<>(dates.size());
+        Map<AppointmentEntity, List<AppointmentItemEntity>> itemsByAppointment = new LinkedHashMap<>();
+        List<AppointmentItemEntity> template = null;
+        for (LocalDateTime date : dates) {
+            AppointmentEntity appointment = new AppointmentEntity(owner, pet, date, series);
+            List<AppointmentItemEntity> items;
+            if (template == null) {
+                items = template = buildItems(appointment, pet, form.items());
+            } else {
+                items = template.stream()
+                        .map(item -> AppointmentItemEntity.create(appointment, item.getCatalog(), item.getCatalogName(),
+                                item.getQuantity(), item.getUnitPriceApplied()))
+                        .toList();
             }
+            appointment.updateTotalGross(MoneyUtils.scale(
+                    items.stream()
+                            .map(AppointmentItemEntity::getSubtotal)
+                            .reduce(MoneyUtils.zero(), BigDecimal::add)
+            ));
+            appointments.add(appointment);
+            itemsByAppointment.put(appointment, items);
+        }
+
+        int durationMinutes = durationOf(template);
+        ResourcePlan plan = planResources(dates, durationMinutes, Set.of());
+        List<LocalDateTime> unavailable = appointments.stream()
+                .filter(appointment -> !assignResources(plan, appointment, durationMinutes).isEmpty())
+                .map(AppointmentEntity::getScheduledAt)
+                .toList();
+
+        if (!unavailable.isEmpty()) {
+            log.warn("createAppointmentSeries blocked: no free resource. petId={}, unavailable={}", pet.getId(), unavailable);
+            throw new DomainRuleException("No staff or station available at: " + unavailable + ".");
+        }
+
+        // persist só enfileira: agendamentos e itens saem em lotes JDBC no flush, feito antes dos eventos
+        appointmentRepository.saveAll(appointments);
+        appointmentItemRepository.saveAll(itemsByAppointment.values().stream().flatMap(List::stream).toList());
+        appointmentRepository.flush();
+        itemsByAppointment.forEach((appointment, items) ->
+                eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.CREATED, appointment, items)));
+        event.itemsCount = template.size() * appointments.size();
+
+        log.info("createAppointmentSeries completed: seriesId={}, occurrences={}, firstScheduledAt={}, lastScheduledAt={}",
+                series.getId(), appointments.size(), dates.getFirst(), dates.getLast());
+
+        return AppointmentSeriesMapper.toDTO(series, appointments.stream().map(AppointmentSummary::of).toList());
+    }
 
-            if (itemForm.quantity() == null || itemForm.quantity() < 1) {
-                log.warn("buildItems invalid input: invalid quantity. quantity={}, catalogId={}, appointmentId={}",
-                        itemForm.quantity(), catalog.getId(), appointment.getId());
-                throw new InvalidInputException("Quantity must be at least 1.");
+    @Transactional
+    public AppointmentSeriesDTO rescheduleAppointmentSeries(Long seriesId, AppointmentSeriesUpdateForm form) {
+        log.info("rescheduleAppointmentSeries started: seriesId={}, shift={}", seriesId, form.shift());
+
+        if (form.shift() == null || form.shift().isZero()) {
+            log.warn("rescheduleAppointmentSeries invalid input: empty shift. seriesId={}", seriesId);
+            throw new InvalidInputException("Shift must be provided and not zero.");
+        }
+
+        AppointmentSeriesEntity series = findSeriesForUpdate("rescheduleAppointmentSeries", seriesId);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ResourceOccupancy> ahead = appointmentRepository.findSeriesOccupancy(seriesId, AppointmentStatus.SCHEDULED, now);
+        List<LocalDateTime> shifted = ahead.stream()
+                .map(occurrence -> occurrence.scheduledAt().plus(form.shift()))
+                .toList();
+
+        if (shifted.isEmpty()) {
+            log.warn("rescheduleAppointmentSeries blocked: nothing scheduled ahead. seriesId={}", seriesId);
+            throw new DomainRuleException("Series has no scheduled appointments ahead.");
+        }
+
+        if (shifted.getFirst().isBefore(now)) {
+            log.warn("rescheduleAppointmentSeries blocked: moves into the past. seriesId={}, firstScheduledAt={}",
+                    seriesId, shifted.getFirst());
+            throw new DomainRuleException("Scheduled date/time cannot be in the past.");
+        }
+
+        Set<Long> moving = ahead.stream().map(ResourceOccupancy::appointmentId).collect(Collectors.toSet());
+        List<LocalDateTime> conflicts = conflictsWith(
+                appointmentRepository.findBookedTimesExcept(series.getPet().getId(),
+                        shifted.getFirst(), shifted.getLast(), ACTIVE_STATUSES, moving),
+                shifted);
+
+        if (!conflicts.isEmpty()) {
+            log.warn("rescheduleAppointmentSeries blocked: scheduling conflict. seriesId={}, petId={}, conflicts={}",
+                    seriesId, series.getPet().getId(), conflicts);
+            throw new DomainRuleException("This pet already has appointments scheduled at: " + conflicts + ".");
+        }
+
+        // As ocorrências saem do horário antigo: não ocupam o plano e, livres no novo, mantêm os recursos
+        ResourcePlan plan = planResources(shifted, ahead.stream().mapToInt(AppointmentService::minutesOf).max().orElse(0), moving);
+        List<ResourceOccupancy> assignments = new ArrayList<>(ahead.size());
+        List<LocalDateTime> unavailable = new ArrayList<>();
+        for (ResourceOccupancy occurrence : ahead) {
+            LocalDateTime start = occurrence.scheduledAt().plus(form.shift());
+            int minutes = minutesOf(occurrence);
+            Long staffId = reassign(plan, ResourceType.STAFF, start, minutes, occurrence.staffId(), unavailable);
+            Long stationId = reassign(plan, ResourceType.STATION, start, minutes, occurrence.stationId(), unavailable);
+            assignments.add(new ResourceOccupancy(occurrence.appointmentId(), staffId, stationId, start, (long) minutes));
+        }
+
+        if (!unavailable.isEmpty()) {
+            List<LocalDateTime> times = unavailable.stream().distinct().toList();
+            log.warn("rescheduleAppointmentSeries blocked: no free resource. seriesId={}, unavailable={}", seriesId, times);
+            throw new DomainRuleException("No staff or station available at: " + times + ".");
+        }
+
+        List<AppointmentSummary> moved = appointmentRepository.shiftSeries(seriesId, now, form.shift(), assignments);
+        Map<Long, List<String>> itemNames = itemNamesOf(moved);
+        moved.forEach(appointment -> eventPublisher.publishEvent(AppointmentChangedEvent.rescheduled(
+                appointment, itemNames.getOrDefault(appointment.id(), List.of()),
+                appointment.scheduledAt().minus(form.shift()))));
+
+        log.info("rescheduleAppointmentSeries completed: seriesId={}, shift={}, movedCount={}",
+                seriesId, form.shift(), moved.size());
+
+        return AppointmentSeriesMapper.toDTO(series, moved);
+    }
+
+    @Transactional
+    public AppointmentSeriesDTO applySeriesAction(Long seriesId, AppointmentSeriesAction action) {
+        log.info("applySeriesAction started: seriesId={}, action={}", seriesId, action);
+
+        if (action == null) {
+            log.warn("applySeriesAction invalid input: action is null. seriesId={}", seriesId);
+            throw new InvalidInputException("Action must be provided.");
+        }
+
+        AppointmentSeriesEntity series = findSeriesForUpdate("applySeriesAction", seriesId);
+
+        List<AppointmentSummary> changed = switch (action) {
+            case CANCEL -> appointmentRepository.cancelSeries(seriesId, LocalDateTime.now());
+        };
+
+        Map<Long, List<String>> itemNames = itemNamesOf(changed);
+        changed.forEach(appointment -> eventPublisher.publishEvent(AppointmentChangedEvent.of(
+                ChangeType.STATUS_CHANGED, appointment, itemNames.getOrDefault(appointment.id(), List.of()))));
+
+        log.info("applySeriesAction completed: seriesId={}, action={}, changedCount={}", seriesId, action, changed.size());
+
+        return AppointmentSeriesMapper.toDTO(series, changed);
+    }
+
+    private AppointmentSeriesEntity findSeriesForUpdate(String operation, Long seriesId) {
+        if (seriesId == null) {
+            log.warn("{} invalid input: seriesId is null", operation);
+            throw new InvalidInputException("Series ID must be provided.");
+        }
+
+        AppointmentSeriesEntity series = appointmentSeriesRepository.findDetailedByIdForUpdate(seriesId)
+                .orElseThrow(() -> {
+                    log.warn("{} failed: series not found. seriesId={}", operation, seriesId);
+                    return new EntityNotFoundException("Appointment series not found.");
+                });
+
+        if (series.getOwner().getStatus() == Status.INACTIVE) {
+            log.warn("{} blocked: owner inactive. seriesId={}, ownerId={}", operation, seriesId, series.getOwner().getId());
+            throw new DomainRuleException("Appointments from inactive owners cannot be updated.");
+        }
+
+        return series;
+    }
+
+    // Trava só os dias que os horários pedidos ocupam e lê a ocupação dos recursos ativos nesses dias
+    // e na véspera de cada um (atendimentos que passam da meia-noite), sem os agendamentos em excluded
+    // (os que estão sendo movidos ou estendidos). Uma série de 52 semanas lê cerca de 104 dias, não o
+    // ano inteiro, e reservas em dias diferentes não se esperam. Sem recurso cadastrado, nada a travar nem ler.
+    private ResourcePlan planResources(List<LocalDateTime> starts, int durationMinutes, Set<Long> excluded) {
+        List<ResourceEntity> resources = resourceRepository.findByStatusOrderByIdAsc(Status.ACTIVE);
+        if (resources.isEmpty()) return new ResourcePlan(resources, List.of());
+
+        Set<LocalDate> days = occupiedDays(starts, durationMinutes);
+        resourceRepository.lockDays(days.stream().map(day -> (int) day.toEpochDay()).toArray(Integer[]::new));
+        Set<LocalDate> readDays = new TreeSet<>(days);
+        days.forEach(day -> readDays.add(day.minusDays(1)));
+        return new ResourcePlan(resources, appointmentRepository.findResourceOccupancy(readDays, ACTIVE_STATUSES)
+                .stream()
+                .filter(row -> !excluded.contains(row.appointmentId()))
+                .toList());
+    }
+
+    // Dias tocados por cada horário, do início ao último minuto do atendimento
+    private static Set<LocalDate> occupiedDays(List<LocalDateTime> starts, int durationMinutes) {
+        int length = Math.max(1, durationMinutes);
+        return starts.stream()
+                .flatMap(start -> start.toLocalDate().datesUntil(start.plusMinutes(length - 1).toLocalDate().plusDays(1)))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    // Um recurso livre de cada tipo cadastrado, mantendo o atual enquanto ele estiver livre; devolve os
+    // tipos sem nenhum livre no horário. Só um agendamento ainda não iniciado troca de recurso.
+    private static List<ResourceType> assignResources(ResourcePlan plan, AppointmentEntity appointment, int durationMinutes) {
+        boolean reassignable = appointment.getStatus() == AppointmentStatus.SCHEDULED;
+        Map<ResourceType, ResourceEntity> assigned = new EnumMap<>(ResourceType.class);
+        List<ResourceType> unavailable = new ArrayList<>();
+        for (ResourceType type : ResourceType.values()) {
+            ResourceEntity current = type == ResourceType.STAFF ? appointment.getStaff() : appointment.getStation();
+            Long currentId = current == null ? null : current.getId();
+            // iniciado antes de haver recurso desse tipo: nada a conferir
+            if (!plan.covers(type) || (!reassignable && currentId == null)) continue;
+
+            Optional<ResourceEntity> chosen = plan.assign(type, appointment.getScheduledAt(), durationMinutes, currentId);
+            if (chosen.isPresent() && (reassignable || chosen.get().getId().equals(currentId))) {
+                assigned.put(type, chosen.get());
+            } else {
+                unavailable.add(type);
             }
+        }
+        if (reassignable) {
+            appointment.assignResources(assigned.get(ResourceType.STAFF), assigned.get(ResourceType.STATION));
+        }
+        return unavailable;
+    }
+
+    // Mesmo critério para uma ocorrência movida sem carregar a entidade: devolve o id escolhido
+    private static Long reassign(ResourcePlan plan, ResourceType type, LocalDateTime start, int minutes, Long currentId,
+                                 List<LocalDateTime> unavailable) {
+        if (!plan.covers(type)) return null;
+
+        Optional<ResourceEntity> chosen = plan.assign(type, start, minutes, currentId);
+        if (chosen.isEmpty()) unavailable.add(start);
+        return chosen.map(ResourceEntity::getId).orElse(null);
+    }
+
+    private static int minutesOf(ResourceOccupancy occupancy) {
+        return occupancy.minutes() == null ? 0 : occupancy.minutes().intValue();
+    }
+
+    private static String noResourceMessage(List<ResourceType> unavailable, LocalDateTime scheduledAt) {
+        return "No " + unavailable.stream().map(type -> type.name().toLowerCase()).collect(Collectors.joining(" or "))
+                + " available at " + scheduledAt + ".";
+    }
+
+    // Duração no catálogo vigente; item que saiu do snapshot não ocupa tempo
+    private int durationOf(List<AppointmentItemEntity> items) {
+        CatalogSnapshot catalogSnapshot = catalogSnapshotHolder.current();
+        return items.stream()
+                .mapToInt(item -> catalogSnapshot.findById(item.getCatalog().getId())
+                        .map(CatalogItemSnapshot::durationMinutes)
+                        .orElse(0) * item.getQuantity())
+                .sum();
+    }
+
+    private static List<LocalDateTime> conflictsWith(List<LocalDateTime> booked, List<LocalDateTime> wanted) {
+        Set<LocalDateTime> taken = new HashSet<>(booked);
+        return wanted.stream().filter(taken::contains).toList();
+    }
+
+    private Map<Long, List<String>> itemNamesOf(List<AppointmentSummary> appointments) {
+        if (appointments.isEmpty()) return Map.of();
+
+        return appointmentItemRepository.findByAppointmentIdIn(appointments.stream().map(AppointmentSummary::id).toList())
+                .stream()
+                .collect(Collectors.groupingBy(item -> item.getAppointment().getId(),
+                        Collectors.mapping(AppointmentItemEntity::getCatalogName, Collectors.toList())));
+    }
+
+    private List<AppointmentItemEntity> buildItems(AppointmentEntity appointment, PetEntity pet, List<AppointmentItemForm> forms) {
+        CatalogSnapshot catalogSnapshot = catalogSnapshotHolder.current();
+        LocalDateTime pricedAt = LocalDateTime.now();
+
+        return forms.stream().map(itemForm -> {
+            CatalogItemSnapshot catalog = bookingRules.findBookableItem("buildItems", catalogSnapshot, itemForm);
 
-            BigDecimal unitPrice = MoneyUtils.scale(catalog.getPriceByPetSize(pet.getSize()));
-            if (unitPrice == null || unitPrice.signum() <= 0) {
+            BigDecimal unitPrice;
+            try {
+                unitPrice = MoneyUtils.scale(CatalogPricing.resolveUnitPrice(catalog, pet.getSize(), pricedAt));
+            } catch (IllegalStateException e) {
                 log.warn("buildItems blocked: invalid price for pet size. catalogId={}, petSize={}, appointmentId={}",
-                        catalog.getId(), pet.getSize(), appointment.getId());
+                        catalog.id(), pet.getSize(), appointment.getId());
                 throw new DomainRuleException("Invalid catalog price for pet size.");
             }
 
-            return AppointmentItemEntity.create(appointment, catalog, itemForm.quantity(), unitPrice);
+            CatalogEntity catalogRef = catalogRepository.getReferenceById(catalog.id());
+            return AppointmentItemEntity.create(appointment, catalogRef, catalog.name(), itemForm.quantity(), unitPrice);
         }).toList();
     }
 }
@@ -0,0 +1,83 @@
+package com.br.pet_shop_management.application.service;
+
+import com.br.pet_shop_management.api.dto.request.AppointmentItemForm;
+import com.br.pet_shop_management.application.exception.DomainRuleException;
+import com.br.pet_shop_management.application.exception.InvalidInputException;
+import com.br.pet_shop_management.domain.catalog.CatalogItemSnapshot;
+import com.br.pet_shop_management.domain.catalog.CatalogSnapshot;
+import com.br.pet_shop_management.domain.entity.OwnerEntity;
+import com.br.pet_shop_management.domain.entity.PetEntity;
+import com.br.pet_shop_management.domain.enums.Status;
+import com.br.pet_shop_management.infrastructure.persistence.OwnerRepository;
+import com.br.pet_shop_management.infrastructure.persistence.PetRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Regras comuns a quem reserva um horário: o agendamento direto, a série e a fila de espera.
+ * Ficam num lugar só para os caminhos de reserva não divergirem.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingRules {
+
+    private final OwnerRepository ownerRepository;
+    private final PetRepository petRepository;
+
+    /** Pet do owner informado, com o owner ativo. */
+    public PetEntity findBookablePet(String operation, Long ownerId, Long petId) {
+        OwnerEntity owner = ownerRepository.findById(ownerId)
+                .orElseThrow(() -> {
+                    log.warn("{} failed: owner not found. ownerId={}", operation, ownerId);
+                    return new EntityNotFoundException("Owner not found.");
+                });
+
+        if (owner.getStatus() == Status.INACTIVE) {
+            log.warn("{} blocked: inactive owner. ownerId={}", operation, owner.getId());
+            throw new DomainRuleException("Inactive owners cannot create appointments.");
+        }
+
+        PetEntity pet = petRepository.findById(petId)
+                .orElseThrow(() -> {
+                    log.warn("{} failed: pet not found. petId={}", operation, petId);
+                    return new EntityNotFoundException("Pet not found.");
+                });
+
+        if (!pet.getOwner().getId().equals(owner.getId())) {
+            log.warn("{} blocked: pet does not belong to owner. ownerId={}, petId={}, petOwnerId={}",
+                    operation, owner.getId(), pet.getId(), pet.getOwner().getId());
+            throw new DomainRuleException("Pet does not belong to the provided owner.");
+        }
+
+        return pet;
+    }
+
+    /** Item do catálogo vigente, ativo e com quantidade válida. */
+    public CatalogItemSnapshot findBookableItem(String operation, CatalogSnapshot catalogSnapshot, AppointmentItemForm itemForm) {
+        if (itemForm.catalogId() == null) {
+            log.warn("{} invalid input: catalogId is null", operation);
+            throw new InvalidInputException("Catalog ID is required.");
+        }
+
+        CatalogItemSnapshot catalog = catalogSnapshot.findById(itemForm.catalogId())
+                .orElseThrow(() -> {
+                    log.warn("{} failed: catalog item not found. catalogId={}", operation, itemForm.catalogId());
+                    return new EntityNotFoundException("Catalog item not found.");
+                });
+
+        if (catalog.status() == Status.INACTIVE) {
+            log.warn("{} blocked: inactive catalog item used. catalogId={}", operation, catalog.id());
+            throw new DomainRuleException("Inactive catalog items cannot be used.");
+        }
+
+        if (itemForm.quantity() == null || itemForm.quantity() < 1) {
+            log.warn("{} invalid input: invalid quantity. quantity={}, catalogId={}", operation, itemForm.quantity(), catalog.id());
+            throw new InvalidInputException("Quantity must be at least 1.");
+        }
+
+        return catalog;
+    }
+}
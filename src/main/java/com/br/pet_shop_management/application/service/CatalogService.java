@@ -1,40 +1,109 @@
 package com.br.pet_shop_management.application.service;
 
 import com.br.pet_shop_management.api.dto.request.CatalogForm;
+import com.br.pet_shop_management.api.dto.request.CatalogPriceAdjustmentForm;
+import com.br.pet_shop_management.api.dto.request.CatalogPriceItemForm;
+import com.br.pet_shop_management.api.dto.request.CatalogPriceVersionForm;
 import com.br.pet_shop_management.api.dto.request.enums.CatalogAction;
+import com.br.pet_shop_management.api.dto.request.enums.PriceAdjustmentType;
 import com.br.pet_shop_management.api.dto.response.CatalogDTO;
+import com.br.pet_shop_management.api.dto.response.CatalogPriceAdjustmentDTO;
+import com.br.pet_shop_management.api.dto.response.CatalogPriceDTO;
+import com.br.pet_shop_management.api.dto.response.CatalogPriceVersionDTO;
+import com.br.pet_shop_management.application.event.CatalogChangedEvent;
 import com.br.pet_shop_management.application.exception.DomainRuleException;
 import com.br.pet_shop_management.application.exception.InvalidInputException;
 import com.br.pet_shop_management.application.mapper.CatalogMapper;
+import com.br.pet_shop_management.domain.catalog.CatalogItemSnapshot;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceChange;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceTimeline;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceVersion;
+import com.br.pet_shop_management.domain.catalog.CatalogSnapshot;
 import com.br.pet_shop_management.domain.entity.CatalogEntity;
+import com.br.pet_shop_management.domain.entity.CatalogPriceHistoryEntity;
+import com.br.pet_shop_management.domain.enums.PetSize;
 import com.br.pet_shop_management.domain.enums.Status;
+import com.br.pet_shop_management.infrastructure.cache.CatalogSnapshotHolder;
+import com.br.pet_shop_management.infrastructure.persistence.CatalogPriceHistoryRepository;
 import com.br.pet_shop_management.infrastructure.persistence.CatalogRepository;
-import com.br.pet_shop_management.infrastructure.persistence.OwnerRepository;
+import com.br.pet_shop_management.infrastructure.persistence.CatalogVersionRepository;
+import com.br.pet_shop_management.util.MoneyUtils;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "petshop.service", histogram = true)
 public class CatalogService {
 
     private final CatalogRepository catalogRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final CatalogPriceHistoryRepository catalogPriceHistoryRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<CatalogDTO> findCatalogItems(Status status, Pageable pageable) {
         Status effectiveStatus = (status == null) ? Status.ACTIVE : status;
         log.info("findCatalogItems: statusFilter={}, page={}", effectiveStatus, pageable);
 
-        Page<CatalogDTO> result = catalogRepository.findByStatus(effectiveStatus, pageable)
-                .map(CatalogMapper::toDTO);
+        CatalogSnapshot snapshot = catalogSnapshotHolder.current();
+        LocalDateTime now = LocalDateTime.now();
+
+        Page<CatalogDTO> result;
+        if (pageable.getSort().isSorted()) {
+            result = catalogRepository.findByStatus(effectiveStatus, pageable)
+                    .map(entity -> CatalogMapper.toDTO(entity, timelineOf(snapshot, entity.getId()), now));
+        } else {
+            List<CatalogItemSnapshot> items = snapshot.findByStatus(effectiveStatus);
+            result = new PageImpl<>(pageContent(items, pageable), pageable, items.size())
+                    .map(item -> CatalogMapper.toDTO(item, now));
+        }
 
         log.info("findCatalogItems completed: resultCount={}", result.getNumberOfElements());
         return result;
     }
 
+    public Slice<CatalogDTO> findCatalogItemsSlice(Status status, Pageable pageable) {
+        Status effectiveStatus = (status == null) ? Status.ACTIVE : status;
+        log.info("findCatalogItemsSlice: statusFilter={}, page={}", effectiveStatus, pageable);
+
+        CatalogSnapshot snapshot = catalogSnapshotHolder.current();
+        LocalDateTime now = LocalDateTime.now();
+
+        Slice<CatalogDTO> result;
+        if (pageable.getSort().isSorted()) {
+            result = catalogRepository.findSliceByStatus(effectiveStatus, pageable)
+                    .map(entity -> CatalogMapper.toDTO(entity, timelineOf(snapshot, entity.getId()), now));
+        } else {
+            List<CatalogItemSnapshot> items = snapshot.findByStatus(effectiveStatus);
+            boolean hasNext = pageable.isPaged() && pageable.getOffset() + pageable.getPageSize() < items.size();
+            result = new SliceImpl<>(pageContent(items, pageable), pageable, hasNext)
+                    .map(item -> CatalogMapper.toDTO(item, now));
+        }
+
+        log.info("findCatalogItemsSlice completed: resultCount={}, hasNext={}", result.getNumberOfElements(), result.hasNext());
+        return result;
+    }
+
+    public String currentCatalogVersion() {
+        CatalogSnapshot snapshot = catalogSnapshotHolder.current();
+        return snapshot.version() + "." + snapshot.priceRevisionAt(LocalDateTime.now());
+    }
+
     public CatalogDTO findById(Long id) {
         log.info("findCatalogById: catalogId={}", id);
 
@@ -45,9 +114,28 @@ public class CatalogService {
                 });
 
         log.info("findCatalogById completed: catalogId={}, status={}", item.getId(), item.getStatus());
-        return CatalogMapper.toDTO(item);
+        return CatalogMapper.toDTO(item, timelineOf(catalogSnapshotHolder.current(), item.getId()), LocalDateTime.now());
     }
 
+    public CatalogPriceDTO findPriceAt(Long id, PetSize petSize, LocalDateTime at) {
+        log.info("findCatalogPriceAt: catalogId={}, petSize={}, at={}", id, petSize, at);
+
+        if (petSize == null) {
+            log.warn("findCatalogPriceAt invalid input: petSize is null. catalogId={}", id);
+            throw new InvalidInputException("Pet size must be provided.");
+        }
+
+        LocalDateTime instant = (at == null) ? LocalDateTime.now() : at;
+        CatalogItemSnapshot item = catalogSnapshotHolder.current().findById(id)
+                .orElseThrow(() -> {
+                    log.warn("findCatalogPriceAt failed: catalog item not found. catalogId={}", id);
+                    return new EntityNotFoundException("Catalog item not found.");
+                });
+
+        return new CatalogPriceDTO(item.id(), petSize, instant, item.priceAt(petSize, instant));
+    }
+
+    @Transactional
     public CatalogDTO saveCatalogItem(CatalogForm form) {
         log.info("saveCatalogItem started: name={}, durationMinutes={}",
                 (form == null ? null : form.name()),
@@ -75,6 +163,8 @@ public class CatalogService {
         );
 
         CatalogEntity saved = catalogRepository.save(entity);
+        catalogPriceHistoryRepository.save(new CatalogPriceHistoryEntity(saved, LocalDateTime.now()));
+        publishCatalogChange(saved.getId());
 
         log.info("saveCatalogItem completed: catalogId={}, name={}, status={}",
                 saved.getId(), saved.getName(), saved.getStatus());
@@ -82,6 +172,7 @@ public class CatalogService {
         return CatalogMapper.toDTO(saved);
     }
 
+    @Transactional
     public CatalogDTO applyAction(Long id, CatalogAction action) {
         log.info("applyCatalogAction started: catalogId={}, action={}", id, action);
 
@@ -117,18 +208,119 @@ public class CatalogService {
         }
 
         CatalogEntity updated = catalogRepository.save(item);
+        publishCatalogChange(updated.getId());
 
         log.info("applyCatalogAction completed: catalogId={}, statusBefore={}, statusAfter={}",
                 updated.getId(), before, updated.getStatus());
 
-        return CatalogMapper.toDTO(updated);
+        return CatalogMapper.toDTO(updated, timelineOf(catalogSnapshotHolder.current(), updated.getId()), LocalDateTime.now());
+    }
+
+    @Transactional
+    public List<CatalogPriceVersionDTO> registerPriceVersion(CatalogPriceVersionForm form) {
+        log.info("registerPriceVersion started: effectiveFrom={}, itemsCount={}",
+                (form == null ? null : form.effectiveFrom()),
+                (form == null || form.items() == null ? 0 : form.items().size()));
+
+        if (form == null || form.items() == null || form.items().isEmpty()) {
+            log.warn("registerPriceVersion invalid input: empty items");
+            throw new InvalidInputException("At least one catalog price must be provided.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime effectiveFrom = (form.effectiveFrom() == null) ? now : form.effectiveFrom();
+        if (effectiveFrom.isBefore(now)) {
+            log.warn("registerPriceVersion blocked: effectiveFrom in the past. effectiveFrom={}", effectiveFrom);
+            throw new DomainRuleException("Price versions cannot take effect in the past.");
+        }
+
+        CatalogSnapshot snapshot = catalogSnapshotHolder.current();
+        Set<Long> seen = new HashSet<>();
+        List<CatalogPriceVersion> versions = form.items().stream().map(item -> {
+            if (item.catalogId() == null) {
+                log.warn("registerPriceVersion invalid input: catalogId is null");
+                throw new InvalidInputException("Catalog ID is required.");
+            }
+            if (!seen.add(item.catalogId())) {
+                log.warn("registerPriceVersion invalid input: duplicate catalogId={}", item.catalogId());
+                throw new InvalidInputException("Each catalog item can appear only once per price version.");
+            }
+            if (snapshot.findById(item.catalogId()).isEmpty()) {
+                log.warn("registerPriceVersion failed: catalog item not found. catalogId={}", item.catalogId());
+                throw new EntityNotFoundException("Catalog item not found.");
+            }
+            return toPriceVersion(item, effectiveFrom);
+        }).toList();
+
+        int inserted = catalogPriceHistoryRepository.insertVersionSet(versions);
+        publishCatalogChange(null);
+
+        log.info("registerPriceVersion completed: effectiveFrom={}, versionsInserted={}", effectiveFrom, inserted);
+        return versions.stream().map(CatalogMapper::toDTO).toList();
     }
 
+    @Transactional
+    public CatalogPriceAdjustmentDTO adjustPrices(CatalogPriceAdjustmentForm form) {
+        log.info("adjustPrices started: type={}, value={}, statusFilter={}, catalogIdsCount={}",
+                (form == null ? null : form.type()),
+                (form == null ? null : form.value()),
+                (form == null ? null : form.status()),
+                (form == null || form.catalogIds() == null ? 0 : form.catalogIds().size()));
+
+        if (form == null || form.type() == null || form.value() == null) {
+            log.warn("adjustPrices invalid input: type or value is null");
+            throw new InvalidInputException("Adjustment type and value must be provided.");
+        }
+
+        if (form.value().signum() == 0) {
+            log.warn("adjustPrices invalid input: zero adjustment");
+            throw new InvalidInputException("Adjustment value must not be zero.");
+        }
+
+        BigDecimal factor = BigDecimal.ONE;
+        BigDecimal delta = BigDecimal.ZERO;
+        if (form.type() == PriceAdjustmentType.PERCENTAGE) {
+            if (form.value().compareTo(BigDecimal.valueOf(-100)) <= 0) {
+                log.warn("adjustPrices invalid input: percentage at or below -100. value={}", form.value());
+                throw new InvalidInputException("Percentage adjustment must be greater than -100.");
+            }
+            factor = BigDecimal.ONE.add(form.value().divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP));
+        } else {
+            delta = form.value();
+        }
+
+        LocalDateTime effectiveFrom = LocalDateTime.now();
+        List<CatalogPriceChange> changes = catalogRepository.adjustPrices(
+                factor, delta, form.status(), form.catalogIds(), effectiveFrom);
+
+        if (changes.stream().anyMatch(CatalogPriceChange::hasNonPositivePrice)) {
+            log.warn("adjustPrices blocked: adjustment results in non-positive prices. type={}, value={}",
+                    form.type(), form.value());
+            throw new DomainRuleException("Price adjustment would result in non-positive prices.");
+        }
+
+        if (!changes.isEmpty()) {
+            // Nova versão vigente a partir de agora, para que o histórico não sobreponha as colunas ajustadas
+            catalogPriceHistoryRepository.insertVersionSet(changes.stream()
+                    .map(change -> new CatalogPriceVersion(change.catalogId(), effectiveFrom,
+                            change.newPriceSmall(), change.newPriceMedium(), change.newPriceLarge()))
+                    .toList());
+            publishCatalogChange(null);
+        }
+
+        log.info("adjustPrices completed: type={}, value={}, itemsAdjusted={}", form.type(), form.value(), changes.size());
+        return new CatalogPriceAdjustmentDTO(form.type(), form.value(), effectiveFrom,
+                changes.stream().map(CatalogMapper::toDTO).toList());
+    }
+
+    @Transactional
     public void deleteCatalogItem(Long id) {
         log.info("deleteCatalogItem started: catalogId={}", id);
 
         CatalogEntity item = findCatalogEntity(id);
+        catalogPriceHistoryRepository.deleteByCatalogId(item.getId());
         catalogRepository.delete(item);
+        publishCatalogChange(item.getId());
 
         log.info("deleteCatalogItem completed: catalogId={}", item.getId());
     }
@@ -146,6 +338,34 @@ public class CatalogService {
                 });
     }
 
+    private CatalogPriceVersion toPriceVersion(CatalogPriceItemForm item, LocalDateTime effectiveFrom) {
+        return new CatalogPriceVersion(
+                item.catalogId(),
+                effectiveFrom,
+                MoneyUtils.scale(item.priceSmall()),
+                MoneyUtils.scale(item.priceMedium()),
+                MoneyUtils.scale(item.priceLarge()));
+    }
+
+    private static CatalogPriceTimeline timelineOf(CatalogSnapshot snapshot, Long catalogId) {
+        return snapshot.findById(catalogId)
+                .map(CatalogItemSnapshot::priceTimeline)
+                .orElse(CatalogPriceTimeline.empty());
+    }
+
+    private void publishCatalogChange(Long catalogId) {
+        catalogVersionRepository.increment();
+        eventPublisher.publishEvent(new CatalogChangedEvent(catalogId));
+    }
+
+    private static <T> List<T> pageContent(List<T> items, Pageable pageable) {
+        if (pageable.isUnpaged()) return items;
+
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + pageable.getPageSize(), items.size());
+        return items.subList(from, to);
+    }
+
     private String normalizeName(String raw) {
         if (raw == null) throw new InvalidInputException("Name is required.");
         String name = raw.trim();
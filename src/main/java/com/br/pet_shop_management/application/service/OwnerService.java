@@ -10,26 +10,33 @@ import com.br.pet_shop_management.application.mapper.OwnerMapper;
 import com.br.pet_shop_management.domain.entity.OwnerEntity;
 import com.br.pet_shop_management.domain.enums.AppointmentStatus;
 import com.br.pet_shop_management.domain.enums.Status;
+import com.br.pet_shop_management.infrastructure.jfr.OwnerOperationEvent;
 import com.br.pet_shop_management.infrastructure.persistence.AppointmentRepository;
 import com.br.pet_shop_management.infrastructure.persistence.OwnerRepository;
+import com.br.pet_shop_management.infrastructure.persistence.PetRepository;
 import com.br.pet_shop_management.util.CpfUtils;
 import com.br.pet_shop_management.util.PhoneUtils;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "petshop.service", histogram = true)
 public class OwnerService {
 
     private final OwnerRepository ownerRepository;
     private final AppointmentRepository appointmentRepository;
+    private final PetRepository petRepository;
 
     public Page<OwnerDTO> findAll(Pageable pageable) {
         log.info("findOwners started: status=ACTIVE, page={}", pageable);
@@ -41,6 +48,16 @@ public class OwnerService {
         return result;
     }
 
+    public Slice<OwnerDTO> findAllSlice(Pageable pageable) {
+        log.info("findOwnersSlice started: status=ACTIVE, page={}", pageable);
+
+        Slice<OwnerDTO> result = ownerRepository.findSliceByStatus(Status.ACTIVE, pageable)
+                .map(OwnerMapper::toDTO);
+
+        log.info("findOwnersSlice completed: resultCount={}, hasNext={}", result.getNumberOfElements(), result.hasNext());
+        return result;
+    }
+
     public OwnerDTO findByCpf(String cpf) {
         String normalizedCpf = normalizeCpf(cpf);
         log.info("findOwnerByCpf: cpfNormalized={}", maskCpf(normalizedCpf));
@@ -68,6 +85,14 @@ public class OwnerService {
         return OwnerMapper.toDTO(owner);
     }
 
+    public long findVersionById(Long id) {
+        return ownerRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.warn("findOwnerVersionById failed: owner not found. ownerId={}", id);
+                    return new EntityNotFoundException("Owner not found.");
+                });
+    }
+
     public OwnerDTO saveOwner(OwnerForm ownerForm) {
         log.info("saveOwner started");
 
@@ -125,10 +150,14 @@ public class OwnerService {
         return OwnerMapper.toDTO(saved);
     }
 
+    @Transactional
     public OwnerDTO applyAction(String cpf, OwnerAction action) {
         String normalizedCpf = normalizeCpf(cpf);
         log.info("applyOwnerAction started: cpf={}, action={}", maskCpf(normalizedCpf), action);
 
+        OwnerOperationEvent event = OwnerOperationEvent.begin("applyAction");
+        event.action = (action == null ? null : action.name());
+
         if (action == null) {
             log.warn("applyOwnerAction invalid input: action is null. cpf={}", maskCpf(normalizedCpf));
             throw new InvalidInputException("Action must be provided.");
@@ -141,6 +170,7 @@ public class OwnerService {
                 });
 
         Status before = owner.getStatus();
+        event.setOwnerId(owner.getId());
 
         if (action == OwnerAction.ACTIVATE) {
             if (owner.getStatus() == Status.ACTIVE) {
@@ -172,9 +202,11 @@ public class OwnerService {
         }
 
         OwnerEntity saved = ownerRepository.save(owner);
+        int petsUpdated = petRepository.updateOwnerStatus(saved.getId(), saved.getStatus());
+        event.petsUpdated = petsUpdated;
 
-        log.info("applyOwnerAction completed: ownerId={}, statusBefore={}, statusAfter={}",
-                saved.getId(), before, saved.getStatus());
+        log.info("applyOwnerAction completed: ownerId={}, statusBefore={}, statusAfter={}, petsUpdated={}",
+                saved.getId(), before, saved.getStatus(), petsUpdated);
 
         return OwnerMapper.toDTO(saved);
     }
@@ -2,6 +2,8 @@ package com.br.pet_shop_management.application.service;
 
 import com.br.pet_shop_management.api.dto.request.PaymentForm;
 import com.br.pet_shop_management.api.dto.response.PaymentDTO;
+import com.br.pet_shop_management.application.event.AppointmentChangedEvent;
+import com.br.pet_shop_management.application.event.AppointmentChangedEvent.ChangeType;
 import com.br.pet_shop_management.application.exception.DomainRuleException;
 import com.br.pet_shop_management.application.exception.InvalidInputException;
 import com.br.pet_shop_management.application.mapper.PaymentMapper;
@@ -10,13 +12,16 @@ import com.br.pet_shop_management.domain.entity.PaymentEntity;
 import com.br.pet_shop_management.domain.enums.AppointmentStatus;
 import com.br.pet_shop_management.domain.enums.PaymentMethod;
 import com.br.pet_shop_management.domain.enums.Status;
+import com.br.pet_shop_management.domain.pricing.PaymentPricing;
 import com.br.pet_shop_management.infrastructure.config.PaymentProperties;
+import com.br.pet_shop_management.infrastructure.jfr.PaymentOperationEvent;
 import com.br.pet_shop_management.infrastructure.persistence.AppointmentRepository;
 import com.br.pet_shop_management.infrastructure.persistence.PaymentRepository;
-import com.br.pet_shop_management.util.MoneyUtils;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,16 +31,21 @@ import java.time.LocalDateTime;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "petshop.service", histogram = true)
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final AppointmentRepository appointmentRepository;
     private final PaymentProperties paymentProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PaymentDTO registerPayment(Long appointmentId, PaymentForm form) {
         log.info("registerPayment started: appointmentId={}", appointmentId);
 
+        PaymentOperationEvent event = PaymentOperationEvent.begin("registerPayment");
+        event.setAppointmentId(appointmentId);
+
         if (appointmentId == null) {
             log.warn("registerPayment invalid input: appointmentId is null");
             throw new InvalidInputException("Appointment ID must be provided.");
@@ -46,7 +56,7 @@ public class PaymentService {
             throw new InvalidInputException("Payment form must be provided.");
         }
 
-        AppointmentEntity appointment = appointmentRepository.findDetailedByIdForUpdate(appointmentId)
+        AppointmentEntity appointment = event.timeLockWait(() -> appointmentRepository.findDetailedByIdForUpdate(appointmentId))
                 .orElseThrow(() -> {
                     log.warn("registerPayment failed: appointment not found. appointmentId={}", appointmentId);
                     return new EntityNotFoundException("Appointment not found.");
@@ -70,6 +80,8 @@ public class PaymentService {
         }
 
         int installments = resolveInstallments(form.method(), form.installments());
+        event.method = form.method().name();
+        event.installments = installments;
         BigDecimal finalAmount = calculateFinalAmount(appointment.getTotalGross(), form.method(), installments);
 
         log.info("registerPayment calculated: appointmentId={}, method={}, installments={}, totalGross={}, finalAmount={}",
@@ -84,6 +96,7 @@ public class PaymentService {
         );
 
         PaymentEntity saved = paymentRepository.save(payment);
+        event.setPaymentId(saved.getId());
 
         try {
             appointment.complete();
@@ -92,7 +105,9 @@ public class PaymentService {
             throw new DomainRuleException(e.getMessage());
         }
 
-        appointmentRepository.save(appointment);
+        // flush antes de publicar: o evento leva a versão que o commit grava
+        appointmentRepository.saveAndFlush(appointment);
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.PAID, appointment, null));
 
         log.info("registerPayment completed: paymentId={}, appointmentId={}, appointmentStatusAfter={}",
                 saved.getId(), appointment.getId(), appointment.getStatus());
@@ -117,26 +132,11 @@ public class PaymentService {
     }
 
     private BigDecimal calculateFinalAmount(BigDecimal totalGross, PaymentMethod method, int installments) {
-        if (totalGross == null || totalGross.signum() <= 0) {
-            throw new DomainRuleException("Invalid appointment totalGross.");
-        }
-
-        BigDecimal gross = MoneyUtils.scale(totalGross);
-
-        if (method == PaymentMethod.PIX || method == PaymentMethod.CASH) {
-            return MoneyUtils.scale(gross.multiply(new BigDecimal("0.95")));
-        }
-
-        if (installments <= 2) {
-            return MoneyUtils.scale(gross);
-        }
-
-        BigDecimal rate = paymentProperties.getInterestPerExtraInstallment();
-        if (rate == null || rate.signum() < 0) {
-            throw new DomainRuleException("Invalid card interest rate configuration.");
+        try {
+            return PaymentPricing.calculateFinalAmount(totalGross, method, installments,
+                    paymentProperties.getInterestPerExtraInstallment());
+        } catch (IllegalStateException e) {
+            throw new DomainRuleException(e.getMessage());
         }
-
-        BigDecimal multiplier = BigDecimal.ONE.add(rate.multiply(BigDecimal.valueOf(installments - 2L)));
-        return MoneyUtils.scale(gross.multiply(multiplier));
     }
 }
@@ -14,18 +14,23 @@ import com.br.pet_shop_management.domain.enums.Species;
 import com.br.pet_shop_management.infrastructure.persistence.OwnerRepository;
 import com.br.pet_shop_management.infrastructure.persistence.PetRepository;
 import com.br.pet_shop_management.infrastructure.persistence.spec.PetSpecifications;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "petshop.service", histogram = true)
 public class PetService {
 
     private final PetRepository petRepository;
@@ -34,18 +39,22 @@ public class PetService {
     public Page<PetDTO> findPets(Species species, Breed breed, Long ownerId, Pageable pageable) {
         log.info("findPets started: species={}, breed={}, ownerId={}, page={}", species, breed, ownerId, pageable);
 
-        Specification<PetEntity> spec = Specification
-                .where(PetSpecifications.hasSpecies(species))
-                .and(PetSpecifications.hasBreed(breed))
-                .and(PetSpecifications.hasOwnerId(ownerId))
-                .and(PetSpecifications.hasOwnerStatus(Status.ACTIVE));
-
-        Page<PetDTO> result = petRepository.findAll(spec, pageable).map(PetMapper::toDTO);
+        Page<PetDTO> result = petRepository.findAll(searchSpec(species, breed, ownerId), pageable).map(PetMapper::toDTO);
 
         log.info("findPets completed: resultCount={}", result.getNumberOfElements());
         return result;
     }
 
+    public Slice<PetDTO> findPetsSlice(Species species, Breed breed, Long ownerId, Pageable pageable) {
+        log.info("findPetsSlice started: species={}, breed={}, ownerId={}, page={}", species, breed, ownerId, pageable);
+
+        Slice<PetDTO> result = petRepository.findBy(searchSpec(species, breed, ownerId), query -> query.slice(pageable))
+                .map(PetMapper::toDTO);
+
+        log.info("findPetsSlice completed: resultCount={}, hasNext={}", result.getNumberOfElements(), result.hasNext());
+        return result;
+    }
+
     public PetDTO findById(Long id) {
         log.info("findPetById: petId={}", id);
 
@@ -59,6 +68,14 @@ public class PetService {
         return PetMapper.toDTO(pet);
     }
 
+    public long findVersionById(Long id) {
+        return petRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.warn("findPetVersionById failed: pet not found. petId={}", id);
+                    return new EntityNotFoundException("Pet not found.");
+                });
+    }
+
     public PetDTO savePet(PetForm form) {
         log.info("savePet started: ownerId={}, name={}, species={}, breed={}, size={}",
                 (form == null ? null : form.ownerId()),
@@ -83,22 +100,17 @@ public class PetService {
             throw new DomainRuleException("Inactive owners cannot have pets.");
         }
 
-        String normalizedName = (form.name() == null) ? "" : form.name().trim();
-        if (normalizedName.isBlank()) {
+        String trimmedName = (form.name() == null) ? "" : form.name().trim();
+        if (trimmedName.isBlank()) {
             log.warn("savePet invalid input: blank name. ownerId={}", owner.getId());
             throw new InvalidInputException("Name must be provided.");
         }
 
-        if (petRepository.existsPetDuplicate(form.ownerId(), normalizedName)) {
-            log.warn("savePet blocked: duplicate pet name for owner. ownerId={}, name={}", owner.getId(), normalizedName);
-            throw new DomainRuleException("This owner already has a pet with the same name.");
-        }
-
         validateBreedMatchesSpecies(form.species(), form.breed());
 
         PetEntity pet = PetMapper.toEntity(new PetForm(
                 form.ownerId(),
-                normalizedName,
+                trimmedName,
                 form.species(),
                 form.breed(),
                 form.size(),
@@ -107,7 +119,14 @@ public class PetService {
                 form.allergies()
         ), owner);
 
-        PetEntity saved = petRepository.save(pet);
+        PetEntity saved;
+        try {
+            saved = petRepository.saveAndFlush(pet);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateNameViolation(e)) throw e;
+            log.warn("savePet blocked: duplicate pet name for owner. ownerId={}, name={}", owner.getId(), trimmedName);
+            throw new DomainRuleException("This owner already has a pet with the same name.");
+        }
 
         log.info("savePet completed: petId={}, ownerId={}", saved.getId(), owner.getId());
         return PetMapper.toDTO(saved);
@@ -174,7 +193,7 @@ public class PetService {
                     return new EntityNotFoundException("Pet not found.");
                 });
 
-        if (pet.getOwner().getStatus() == Status.INACTIVE) {
+        if (pet.getOwnerStatus() == Status.INACTIVE) {
             log.warn("findPet blocked: inactive owner. petId={}, ownerId={}", pet.getId(), pet.getOwner().getId());
             throw new DomainRuleException("Pets from inactive owners cannot be updated.");
         }
@@ -182,6 +201,23 @@ public class PetService {
         return pet;
     }
 
+    private boolean isDuplicateNameViolation(DataIntegrityViolationException e) {
+        for (Throwable t = e; t != null && t.getCause() != t; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve) {
+                return PetEntity.UK_OWNER_NORMALIZED_NAME.equalsIgnoreCase(cve.getConstraintName());
+            }
+        }
+        return false;
+    }
+
+    private Specification<PetEntity> searchSpec(Species species, Breed breed, Long ownerId) {
+        return Specification
+                .where(PetSpecifications.hasSpecies(species))
+                .and(PetSpecifications.hasBreed(breed))
+                .and(PetSpecifications.hasOwnerId(ownerId))
+                .and(PetSpecifications.hasOwnerStatus(Status.ACTIVE));
+    }
+
     private void validateBreedMatchesSpecies(Species species, Breed breed) {
         if (species == null) throw new InvalidInputException("Species must be provided.");
         if (breed == null) throw new InvalidInputException("Breed must be provided.");
@@ -0,0 +1,24 @@
+package com.br.pet_shop_management.application.service;
+
+import com.br.pet_shop_management.api.dto.response.ReferenceDataDTO;
+import com.br.pet_shop_management.domain.enums.*;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Timed(value = "petshop.service", histogram = true)
+public class ReferenceDataService {
+
+    private final ReferenceDataDTO referenceData = new ReferenceDataDTO(
+            List.of(Species.values()),
+            Breed.groupedBySpecies(),
+            List.of(PetSize.values()),
+            List.of(PaymentMethod.values()),
+            List.of(AppointmentStatus.values()));
+
+    public ReferenceDataDTO getReferenceData() {
+        return referenceData;
+    }
+}
@@ -0,0 +1,171 @@
+package com.br.pet_shop_management.application.service;
+
+import com.br.pet_shop_management.api.dto.request.ResourceForm;
+import com.br.pet_shop_management.api.dto.request.enums.ResourceAction;
+import com.br.pet_shop_management.api.dto.response.ResourceDTO;
+import com.br.pet_shop_management.api.dto.response.ResourceUtilizationDTO;
+import com.br.pet_shop_management.application.exception.DomainRuleException;
+import com.br.pet_shop_management.application.exception.InvalidInputException;
+import com.br.pet_shop_management.application.mapper.ResourceMapper;
+import com.br.pet_shop_management.domain.entity.ResourceEntity;
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.domain.enums.ResourceType;
+import com.br.pet_shop_management.domain.enums.Status;
+import com.br.pet_shop_management.domain.resource.ResourceOccupancy;
+import com.br.pet_shop_management.domain.resource.ResourcePlan;
+import com.br.pet_shop_management.infrastructure.persistence.AppointmentRepository;
+import com.br.pet_shop_management.infrastructure.persistence.ResourceRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@Timed(value = "petshop.service", histogram = true)
+public class ResourceService {
+
+    // Concluídos contam como uso do dia; só o cancelamento libera o recurso
+    private static final List<AppointmentStatus> OCCUPYING_STATUSES = List.of(
+            AppointmentStatus.SCHEDULED,
+            AppointmentStatus.IN_PROGRESS,
+            AppointmentStatus.WAITING_PAYMENT,
+            AppointmentStatus.COMPLETED
+    );
+
+    private final ResourceRepository resourceRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final int openingMinute;
+    private final int closingMinute;
+
+    public ResourceService(ResourceRepository resourceRepository,
+                           AppointmentRepository appointmentRepository,
+                           @Value("${resources.opening-time:08:00}") String openingTime,
+                           @Value("${resources.closing-time:18:00}") String closingTime) {
+        this.resourceRepository = resourceRepository;
+        this.appointmentRepository = appointmentRepository;
+        LocalTime opening = LocalTime.parse(openingTime);
+        LocalTime closing = LocalTime.parse(closingTime);
+        if (!closing.isAfter(opening)) {
+            throw new IllegalArgumentException("resources.closing-time must be after resources.opening-time.");
+        }
+        this.openingMinute = opening.toSecondOfDay() / 60;
+        this.closingMinute = closing.toSecondOfDay() / 60;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResourceDTO> findResources(ResourceType type) {
+        List<ResourceEntity> resources = type == null
+                ? resourceRepository.findAllByOrderByTypeAscNameAsc()
+                : resourceRepository.findByTypeOrderByNameAsc(type);
+
+        log.info("findResources completed: type={}, resourcesCount={}", type, resources.size());
+        return resources.stream().map(ResourceMapper::toDTO).toList();
+    }
+
+    @Transactional
+    public ResourceDTO saveResource(ResourceForm form) {
+        log.info("saveResource started: type={}", form == null ? null : form.type());
+
+        if (form == null || form.name() == null || form.name().isBlank() || form.type() == null) {
+            log.warn("saveResource invalid input: name or type missing");
+            throw new InvalidInputException("Name and resource type are required.");
+        }
+
+        String name = form.name().trim();
+        if (resourceRepository.existsByName(name)) {
+            log.warn("saveResource blocked: duplicate name. name={}", name);
+            throw new DomainRuleException("Resource name already exists.");
+        }
+
+        ResourceEntity saved = resourceRepository.save(ResourceEntity.create(name, form.type(), LocalDateTime.now()));
+
+        log.info("saveResource completed: resourceId={}, type={}", saved.getId(), saved.getType());
+        return ResourceMapper.toDTO(saved);
+    }
+
+    @Transactional
+    public ResourceDTO applyAction(Long id, ResourceAction action) {
+        log.info("applyResourceAction started: resourceId={}, action={}", id, action);
+
+        if (action == null) {
+            log.warn("applyResourceAction invalid input: action is null. resourceId={}", id);
+            throw new InvalidInputException("Action must be provided.");
+        }
+
+        ResourceEntity resource = resourceRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("applyResourceAction failed: resource not found. resourceId={}", id);
+                    return new EntityNotFoundException("Resource not found.");
+                });
+        Status before = resource.getStatus();
+
+        switch (action) {
+            case ACTIVATE -> {
+                if (resource.getStatus() == Status.ACTIVE) {
+                    log.warn("applyResourceAction blocked: already active. resourceId={}", resource.getId());
+                    throw new DomainRuleException("Resource is already active.");
+                }
+                resource.activate();
+            }
+
+            case DEACTIVATE -> {
+                if (resource.getStatus() == Status.INACTIVE) {
+                    log.warn("applyResourceAction blocked: already inactive. resourceId={}", resource.getId());
+                    throw new DomainRuleException("Resource is already inactive.");
+                }
+                resource.deactivate();
+            }
+        }
+
+        log.info("applyResourceAction completed: resourceId={}, statusBefore={}, statusAfter={}",
+                resource.getId(), before, resource.getStatus());
+        return ResourceMapper.toDTO(resource);
+    }
+
+    /**
+     * Uso de cada recurso no dia, dentro do horário de funcionamento: minutos ocupados (sobreposições
+     * contam uma vez) sobre os minutos abertos. Duas consultas, qualquer que seja o número de recursos.
+     */
+    @Transactional(readOnly = true)
+    public List<ResourceUtilizationDTO> getUtilization(LocalDate date) {
+        LocalDate day = (date == null) ? LocalDate.now() : date;
+
+        List<ResourceEntity> resources = resourceRepository.findAllByOrderByTypeAscNameAsc();
+        // a véspera entra pelos atendimentos que passam da meia-noite
+        List<ResourceOccupancy> occupancy = resources.isEmpty() ? List.of() : appointmentRepository.findResourceOccupancy(
+                List.of(day.minusDays(1), day), OCCUPYING_STATUSES);
+        ResourcePlan plan = new ResourcePlan(resources, occupancy);
+        int capacityMinutes = closingMinute - openingMinute;
+
+        Map<Long, Integer> appointmentsByResource = new HashMap<>();
+        for (ResourceOccupancy row : occupancy) {
+            if (!row.scheduledAt().toLocalDate().equals(day)) continue;
+            if (row.staffId() != null) appointmentsByResource.merge(row.staffId(), 1, Integer::sum);
+            if (row.stationId() != null) appointmentsByResource.merge(row.stationId(), 1, Integer::sum);
+        }
+
+        List<ResourceUtilizationDTO> utilization = resources.stream().map(resource -> {
+            int booked = plan.occupiedMinutes(resource.getId(), day, openingMinute, closingMinute);
+            int appointments = appointmentsByResource.getOrDefault(resource.getId(), 0);
+            return new ResourceUtilizationDTO(resource.getId(), resource.getName(), resource.getType(), resource.getStatus(),
+                    day, appointments, booked, capacityMinutes,
+                    BigDecimal.valueOf(booked).divide(BigDecimal.valueOf(capacityMinutes), 4, RoundingMode.HALF_UP));
+        }).toList();
+
+        log.info("getResourceUtilization completed: date={}, resourcesCount={}, appointmentsCount={}",
+                day, resources.size(), occupancy.size());
+        return utilization;
+    }
+}
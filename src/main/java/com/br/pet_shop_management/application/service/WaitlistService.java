@@ -0,0 +1,319 @@
+package com.br.pet_shop_management.application.service;
+
+import com.br.pet_shop_management.api.dto.request.AppointmentForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentItemForm;
+import com.br.pet_shop_management.api.dto.request.WaitlistForm;
+import com.br.pet_shop_management.api.dto.request.enums.WaitlistAction;
+import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.api.dto.response.WaitlistEntryDTO;
+import com.br.pet_shop_management.application.event.AppointmentChangedEvent;
+import com.br.pet_shop_management.application.event.AppointmentChangedEvent.ChangeType;
+import com.br.pet_shop_management.application.event.WaitlistChangedEvent;
+import com.br.pet_shop_management.application.exception.DomainRuleException;
+import com.br.pet_shop_management.application.exception.InvalidInputException;
+import com.br.pet_shop_management.application.mapper.WaitlistMapper;
+import com.br.pet_shop_management.domain.catalog.CatalogItemSnapshot;
+import com.br.pet_shop_management.domain.catalog.CatalogSnapshot;
+import com.br.pet_shop_management.domain.entity.OwnerEntity;
+import com.br.pet_shop_management.domain.entity.PetEntity;
+import com.br.pet_shop_management.domain.entity.WaitlistEntryEntity;
+import com.br.pet_shop_management.domain.entity.WaitlistItem;
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.domain.waitlist.WaitlistCandidate;
+import com.br.pet_shop_management.infrastructure.cache.CatalogSnapshotHolder;
+import com.br.pet_shop_management.infrastructure.cache.WaitlistHolder;
+import com.br.pet_shop_management.infrastructure.persistence.AppointmentItemRepository;
+import com.br.pet_shop_management.infrastructure.persistence.AppointmentRepository;
+import com.br.pet_shop_management.infrastructure.persistence.WaitlistEntryRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Service
+@Timed(value = "petshop.service", histogram = true)
+public class WaitlistService {
+
+    private enum BookingOutcome { BOOKED, GONE, BLOCKED }
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final BookingRules bookingRules;
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentItemRepository appointmentItemRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final WaitlistHolder waitlistHolder;
+    private final AppointmentService appointmentService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate newTransaction;
+    private final MeterRegistry meterRegistry;
+    private final int maxBackfillAttempts;
+    private final Executor backfillExecutor;
+
+    @Autowired
+    public WaitlistService(WaitlistEntryRepository waitlistEntryRepository,
+                           BookingRules bookingRules,
+                           AppointmentRepository appointmentRepository,
+                           AppointmentItemRepository appointmentItemRepository,
+                           CatalogSnapshotHolder catalogSnapshotHolder,
+                           WaitlistHolder waitlistHolder,
+                           AppointmentService appointmentService,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           ObjectProvider<MeterRegistry> meterRegistry,
+                           @Value("${waitlist.max-backfill-attempts:5}") int maxBackfillAttempts) {
+        this(waitlistEntryRepository, bookingRules, appointmentRepository, appointmentItemRepository,
+                catalogSnapshotHolder, waitlistHolder, appointmentService, eventPublisher, transactionManager,
+                meterRegistry.getIfAvailable(), maxBackfillAttempts,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("waitlist-backfill-", 0).factory()));
+    }
+
+    WaitlistService(WaitlistEntryRepository waitlistEntryRepository,
+                    BookingRules bookingRules,
+                    AppointmentRepository appointmentRepository,
+                    AppointmentItemRepository appointmentItemRepository,
+                    CatalogSnapshotHolder catalogSnapshotHolder,
+                    WaitlistHolder waitlistHolder,
+                    AppointmentService appointmentService,
+                    ApplicationEventPublisher eventPublisher,
+                    PlatformTransactionManager transactionManager,
+                    MeterRegistry meterRegistry,
+                    int maxBackfillAttempts,
+                    Executor backfillExecutor) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.bookingRules = bookingRules;
+        this.appointmentRepository = appointmentRepository;
+        this.appointmentItemRepository = appointmentItemRepository;
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+        this.waitlistHolder = waitlistHolder;
+        this.appointmentService = appointmentService;
+        this.eventPublisher = eventPublisher;
+        // Depois do commit a transação original já terminou: a reserva precisa de uma nova
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.maxBackfillAttempts = maxBackfillAttempts;
+        this.backfillExecutor = backfillExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (backfillExecutor instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Transactional
+    public WaitlistEntryDTO joinWaitlist(WaitlistForm form) {
+        log.info("joinWaitlist started: ownerId={}, petId={}, date={}, window={}, itemsCount={}",
+                form.ownerId(), form.petId(), form.date(), form.window(),
+                (form.items() == null ? 0 : form.items().size()));
+
+        PetEntity pet = bookingRules.findBookablePet("joinWaitlist", form.ownerId(), form.petId());
+        OwnerEntity owner = pet.getOwner();
+
+        if (form.date() == null || form.window() == null) {
+            log.warn("joinWaitlist invalid input: date or window is null. ownerId={}, petId={}", owner.getId(), pet.getId());
+            throw new InvalidInputException("Date and preferred window are required.");
+        }
+
+        if (form.date().isBefore(LocalDate.now())) {
+            log.warn("joinWaitlist blocked: date in the past. ownerId={}, petId={}, date={}", owner.getId(), pet.getId(), form.date());
+            throw new DomainRuleException("Waitlist date cannot be in the past.");
+        }
+
+        if (form.items() == null || form.items().isEmpty()) {
+            log.warn("joinWaitlist invalid input: empty items. ownerId={}, petId={}", owner.getId(), pet.getId());
+            throw new InvalidInputException("At least one service item must be provided.");
+        }
+
+        CatalogSnapshot catalogSnapshot = catalogSnapshotHolder.current();
+        List<WaitlistItem> items = new ArrayList<>();
+        int durationMinutes = 0;
+        for (AppointmentItemForm itemForm : form.items()) {
+            CatalogItemSnapshot catalog = bookingRules.findBookableItem("joinWaitlist", catalogSnapshot, itemForm);
+            items.add(new WaitlistItem(catalog.id(), itemForm.quantity()));
+            durationMinutes += durationOf(catalog) * itemForm.quantity();
+        }
+
+        WaitlistEntryEntity entry = waitlistEntryRepository.save(WaitlistEntryEntity.create(
+                owner, pet, form.date(), form.window(), durationMinutes, items, LocalDateTime.now()));
+        eventPublisher.publishEvent(new WaitlistChangedEvent(WaitlistCandidate.of(entry), true));
+
+        log.info("joinWaitlist completed: entryId={}, date={}, window={}, durationMinutes={}",
+                entry.getId(), entry.getDesiredDate(), entry.getPreferredWindow(), entry.getDurationMinutes());
+
+        return WaitlistMapper.toDTO(entry);
+    }
+
+    // Sem @Transactional: a fila vem da memória, na ordem em que seria atendida
+    public List<WaitlistEntryDTO> listWaitlist(LocalDate date) {
+        LocalDate day = (date == null) ? LocalDate.now() : date;
+        List<WaitlistCandidate> candidates = waitlistHolder.candidates(day);
+
+        log.info("listWaitlist completed: date={}, entriesCount={}", day, candidates.size());
+        return candidates.stream().map(WaitlistMapper::toDTO).toList();
+    }
+
+    @Transactional
+    public WaitlistEntryDTO applyAction(Long id, WaitlistAction action) {
+        log.info("applyWaitlistAction started: entryId={}, action={}", id, action);
+
+        if (action == null) {
+            log.warn("applyWaitlistAction invalid input: action is null. entryId={}", id);
+            throw new InvalidInputException("Action must be provided.");
+        }
+
+        WaitlistEntryEntity entry = waitlistEntryRepository.findDetailedByIdForUpdate(id)
+                .orElseThrow(() -> {
+                    log.warn("applyWaitlistAction failed: entry not found. entryId={}", id);
+                    return new EntityNotFoundException("Waitlist entry not found.");
+                });
+
+        try {
+            switch (action) {
+                case CANCEL -> entry.cancel();
+            }
+        } catch (IllegalStateException e) {
+            log.warn("applyWaitlistAction blocked by state rule: entryId={}, action={}, status={}, msg={}",
+                    entry.getId(), action, entry.getStatus(), e.getMessage());
+            throw new DomainRuleException(e.getMessage());
+        }
+
+        eventPublisher.publishEvent(new WaitlistChangedEvent(WaitlistCandidate.of(entry), false));
+
+        log.info("applyWaitlistAction completed: entryId={}, action={}, status={}", entry.getId(), action, entry.getStatus());
+        return WaitlistMapper.toDTO(entry);
+    }
+
+    /**
+     * Cancelamento confirmado de um horário futuro: oferece o horário à primeira entrada da fila
+     * do dia que aceita a janela e cabe na duração liberada. A reserva roda numa virtual thread,
+     * em transações próprias: quem cancelou não espera pelas tentativas nem vê uma falha delas.
+     */
+    @TransactionalEventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        if (event.type() != ChangeType.STATUS_CHANGED || event.status() != AppointmentStatus.CANCELED) return;
+
+        LocalDateTime slot = event.scheduledAt();
+        if (!slot.isAfter(LocalDateTime.now()) || !waitlistHolder.hasCandidatesFor(slot)) return;
+
+        backfillExecutor.execute(() -> {
+            try {
+                backfill(event.appointmentId(), slot);
+            } catch (RuntimeException e) {
+                log.error("waitlist backfill failed: canceledAppointmentId={}, slot={}", event.appointmentId(), slot, e);
+                count("failed");
+            }
+        });
+    }
+
+    @Scheduled(cron = "${waitlist.expire-cron:5 0 0 * * *}")
+    public void expirePastEntries() {
+        LocalDate today = LocalDate.now();
+        Integer expired = newTransaction.execute(status -> waitlistEntryRepository.expireBefore(today));
+        waitlistHolder.dropBefore(today);
+
+        log.info("expirePastWaitlistEntries completed: before={}, expiredCount={}", today, expired);
+    }
+
+    private void backfill(Long canceledAppointmentId, LocalDateTime slot) {
+        Integer availableMinutes = newTransaction.execute(status -> freedMinutes(canceledAppointmentId));
+        List<WaitlistCandidate> unsettled = new ArrayList<>();
+        try {
+            for (int attempt = 0; attempt < maxBackfillAttempts; attempt++) {
+                Optional<WaitlistCandidate> next = waitlistHolder.pollBest(slot, availableMinutes);
+                if (next.isEmpty()) break;
+
+                WaitlistCandidate candidate = next.get();
+                unsettled.add(candidate);
+                switch (tryBook(candidate, slot)) {
+                    case BOOKED -> {
+                        settle(unsettled, candidate);
+                        count("booked");
+                        return;
+                    }
+                    case GONE -> {
+                        settle(unsettled, candidate);
+                        log.info("waitlist candidate gone: entryId={}", candidate.entryId());
+                    }
+                    case BLOCKED -> {
+                    }
+                }
+            }
+        } finally {
+            // quem não coube neste horário continua esperando, na mesma posição, salvo se foi cancelado nesse meio tempo
+            unsettled.forEach(waitlistHolder::restore);
+        }
+
+        log.info("waitlist backfill found no match: canceledAppointmentId={}, slot={}, availableMinutes={}",
+                canceledAppointmentId, slot, availableMinutes);
+        count("no_match");
+    }
+
+    private BookingOutcome tryBook(WaitlistCandidate candidate, LocalDateTime slot) {
+        try {
+            return newTransaction.execute(status -> {
+                WaitlistEntryEntity entry = waitlistEntryRepository.findDetailedByIdForUpdate(candidate.entryId()).orElse(null);
+                if (entry == null || !entry.isWaiting()) return BookingOutcome.GONE;
+
+                AppointmentDTO booked = appointmentService.createAppointment(new AppointmentForm(
+                        entry.getOwner().getId(), entry.getPet().getId(), slot,
+                        entry.getItems().stream().map(item -> new AppointmentItemForm(item.getCatalogId(), item.getQuantity())).toList()));
+                entry.book(appointmentRepository.getReferenceById(booked.id()));
+
+                log.info("waitlist entry booked: entryId={}, appointmentId={}, slot={}", entry.getId(), booked.id(), slot);
+                return BookingOutcome.BOOKED;
+            });
+        } catch (DomainRuleException | InvalidInputException | EntityNotFoundException e) {
+            // pet já ocupado no horário, owner inativado, item do catálogo desativado...
+            log.info("waitlist candidate blocked: entryId={}, slot={}, msg={}", candidate.entryId(), slot, e.getMessage());
+            return BookingOutcome.BLOCKED;
+        }
+    }
+
+    private void settle(List<WaitlistCandidate> unsettled, WaitlistCandidate candidate) {
+        unsettled.remove(candidate);
+        waitlistHolder.settle(candidate);
+    }
+
+    private int freedMinutes(Long appointmentId) {
+        CatalogSnapshot catalogSnapshot = catalogSnapshotHolder.current();
+        return appointmentItemRepository.findByAppointmentId(appointmentId).stream()
+                .mapToInt(item -> catalogSnapshot.findById(item.getCatalog().getId())
+                        .map(WaitlistService::durationOf)
+                        .orElse(0) * item.getQuantity())
+                .sum();
+    }
+
+    private static int durationOf(CatalogItemSnapshot catalog) {
+        return catalog.durationMinutes() == null ? 0 : catalog.durationMinutes();
+    }
+
+    private void count(String outcome) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("petshop.waitlist.backfill", "outcome", outcome).increment();
+        }
+    }
+}
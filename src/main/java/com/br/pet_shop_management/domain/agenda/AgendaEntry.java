@@ -0,0 +1,21 @@
+package com.br.pet_shop_management.domain.agenda;
+
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AgendaEntry(Long appointmentId,
+                          LocalDateTime scheduledAt,
+                          Long petId,
+                          Long ownerId,
+                          AppointmentStatus status,
+                          BigDecimal totalGross,
+                          List<String> itemNames,
+                          Long version) {
+
+    public AgendaEntry {
+        itemNames = itemNames == null ? List.of() : List.copyOf(itemNames);
+    }
+}
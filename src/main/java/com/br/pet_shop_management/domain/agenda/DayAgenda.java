@@ -0,0 +1,62 @@
+package com.br.pet_shop_management.domain.agenda;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Agenda imutável de um dia, ordenada por horário e id. Cada mudança gera uma cópia nova
+ * (um dia tem dezenas a poucas centenas de entradas), então a leitura nunca trava.
+ */
+public final class DayAgenda {
+    private static final Comparator<AgendaEntry> ORDER =
+            Comparator.comparing(AgendaEntry::scheduledAt).thenComparing(AgendaEntry::appointmentId);
+
+    private final LocalDate date;
+    private final List<AgendaEntry> entries;
+    private final Map<Long, AgendaEntry> entriesById;
+
+    private DayAgenda(LocalDate date, Collection<AgendaEntry> entries) {
+        Map<Long, AgendaEntry> byId = new HashMap<>();
+        for (AgendaEntry entry : entries) {
+            if (!entry.scheduledAt().toLocalDate().equals(date)) {
+                throw new IllegalArgumentException("Agenda entry " + entry.appointmentId() + " is not scheduled on " + date + ".");
+            }
+            byId.put(entry.appointmentId(), entry);
+        }
+
+        this.date = date;
+        this.entries = byId.values().stream().sorted(ORDER).toList();
+        this.entriesById = Map.copyOf(byId);
+    }
+
+    public static DayAgenda of(LocalDate date, Collection<AgendaEntry> entries) {
+        return new DayAgenda(date, entries);
+    }
+
+    public LocalDate date() {
+        return date;
+    }
+
+    public List<AgendaEntry> entries() {
+        return entries;
+    }
+
+    public Optional<AgendaEntry> findById(Long appointmentId) {
+        return Optional.ofNullable(entriesById.get(appointmentId));
+    }
+
+    /** Insere ou substitui a entrada de mesmo id. */
+    public DayAgenda with(AgendaEntry entry) {
+        Map<Long, AgendaEntry> copy = new HashMap<>(entriesById);
+        copy.put(entry.appointmentId(), entry);
+        return new DayAgenda(date, copy.values());
+    }
+
+    public DayAgenda without(Long appointmentId) {
+        if (!entriesById.containsKey(appointmentId)) return this;
+
+        Map<Long, AgendaEntry> copy = new HashMap<>(entriesById);
+        copy.remove(appointmentId);
+        return new DayAgenda(date, copy.values());
+    }
+}
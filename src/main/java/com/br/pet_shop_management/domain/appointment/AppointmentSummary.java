@@ -0,0 +1,29 @@
+package com.br.pet_shop_management.domain.appointment;
+
+import com.br.pet_shop_management.domain.entity.AppointmentEntity;
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record AppointmentSummary(Long id,
+                                 Long ownerId,
+                                 Long petId,
+                                 LocalDateTime scheduledAt,
+                                 AppointmentStatus status,
+                                 BigDecimal totalGross,
+                                 LocalDateTime closedAt,
+                                 Long version) {
+
+    public static AppointmentSummary of(AppointmentEntity appointment) {
+        return new AppointmentSummary(
+                appointment.getId(),
+                appointment.getOwner().getId(),
+                appointment.getPet().getId(),
+                appointment.getScheduledAt(),
+                appointment.getStatus(),
+                appointment.getTotalGross(),
+                appointment.getClosedAt(),
+                appointment.getVersion());
+    }
+}
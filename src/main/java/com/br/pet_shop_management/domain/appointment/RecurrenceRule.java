@@ -0,0 +1,57 @@
+package com.br.pet_shop_management.domain.appointment;
+
+import com.br.pet_shop_management.domain.enums.RecurrenceFrequency;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repetição de uma série: a cada {@code interval} dias, semanas ou meses, por um número fixo de
+ * ocorrências ou até uma data (inclusiva). Cada data sai da primeira ocorrência (primeira + n ×
+ * intervalo), então uma série mensal no dia 31 cai no último dia dos meses curtos sem arrastar
+ * as seguintes.
+ */
+public record RecurrenceRule(RecurrenceFrequency frequency, int interval, Integer occurrences, LocalDate until) {
+
+    public static final int MAX_OCCURRENCES = 52;
+
+    public RecurrenceRule {
+        if (frequency == null) throw new IllegalArgumentException("Recurrence frequency must be provided.");
+        if (interval < 1) throw new IllegalArgumentException("Recurrence interval must be at least 1.");
+        if ((occurrences == null) == (until == null)) {
+            throw new IllegalArgumentException("Recurrence must define either occurrences or until.");
+        }
+        if (occurrences != null && (occurrences < 1 || occurrences > MAX_OCCURRENCES)) {
+            throw new IllegalArgumentException("Recurrence occurrences must be between 1 and " + MAX_OCCURRENCES + ".");
+        }
+    }
+
+    public List<LocalDateTime> expand(LocalDateTime first) {
+        if (first == null) throw new IllegalArgumentException("First occurrence must be provided.");
+        if (until != null && until.isBefore(first.toLocalDate())) {
+            throw new IllegalArgumentException("Recurrence 'until' must not be before the first occurrence.");
+        }
+
+        List<LocalDateTime> dates = new ArrayList<>();
+        for (int n = 0; ; n++) {
+            LocalDateTime next = occurrence(first, n);
+            if (occurrences != null ? n >= occurrences : next.toLocalDate().isAfter(until)) break;
+            if (dates.size() == MAX_OCCURRENCES) {
+                throw new IllegalArgumentException("Recurrence exceeds " + MAX_OCCURRENCES + " occurrences.");
+            }
+            dates.add(next);
+        }
+        return List.copyOf(dates);
+    }
+
+    private LocalDateTime occurrence(LocalDateTime first, int n) {
+        long steps = (long) n * interval;
+        return switch (frequency) {
+            case DAILY -> first.plusDays(steps);
+            case WEEKLY -> first.plusWeeks(steps);
+            case MONTHLY -> first.plusMonths(steps);
+        };
+    }
+}
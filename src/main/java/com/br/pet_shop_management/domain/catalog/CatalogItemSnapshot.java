@@ -0,0 +1,55 @@
+package com.br.pet_shop_management.domain.catalog;
+
+import com.br.pet_shop_management.domain.entity.CatalogEntity;
+import com.br.pet_shop_management.domain.enums.PetSize;
+import com.br.pet_shop_management.domain.enums.Status;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record CatalogItemSnapshot(Long id,
+                                  String name,
+                                  String description,
+                                  Integer durationMinutes,
+                                  Status status,
+                                  Map<PetSize, BigDecimal> prices,
+                                  CatalogPriceTimeline priceTimeline) {
+
+    public CatalogItemSnapshot {
+        if (id == null) throw new IllegalArgumentException("Catalog id must be provided.");
+        prices = Collections.unmodifiableMap(new EnumMap<>(prices));
+        priceTimeline = priceTimeline == null ? CatalogPriceTimeline.empty() : priceTimeline;
+    }
+
+    public CatalogItemSnapshot(Long id, String name, String description, Integer durationMinutes, Status status, Map<PetSize, BigDecimal> prices) {
+        this(id, name, description, durationMinutes, status, prices, CatalogPriceTimeline.empty());
+    }
+
+    public static CatalogItemSnapshot from(CatalogEntity entity, CatalogPriceTimeline priceTimeline) {
+        Map<PetSize, BigDecimal> prices = new EnumMap<>(PetSize.class);
+        for (PetSize size : PetSize.values()) {
+            prices.put(size, entity.getPriceByPetSize(size));
+        }
+
+        return new CatalogItemSnapshot(
+                entity.getId(),
+                entity.getName(),
+                entity.getDescription(),
+                entity.getDurationMinutes(),
+                entity.getStatus(),
+                prices,
+                priceTimeline);
+    }
+
+    public BigDecimal getPriceByPetSize(PetSize petSize) {
+        return prices.get(petSize);
+    }
+
+    // Sem versão vigente no instante, vale o preço base do item
+    public BigDecimal priceAt(PetSize petSize, LocalDateTime at) {
+        return priceTimeline.priceAt(petSize, at).orElseGet(() -> getPriceByPetSize(petSize));
+    }
+}
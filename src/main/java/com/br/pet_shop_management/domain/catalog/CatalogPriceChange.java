@@ -0,0 +1,19 @@
+package com.br.pet_shop_management.domain.catalog;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+public record CatalogPriceChange(Long catalogId,
+                                 String name,
+                                 BigDecimal oldPriceSmall,
+                                 BigDecimal newPriceSmall,
+                                 BigDecimal oldPriceMedium,
+                                 BigDecimal newPriceMedium,
+                                 BigDecimal oldPriceLarge,
+                                 BigDecimal newPriceLarge) {
+
+    public boolean hasNonPositivePrice() {
+        return Stream.of(newPriceSmall, newPriceMedium, newPriceLarge)
+                .anyMatch(price -> price == null || price.signum() <= 0);
+    }
+}
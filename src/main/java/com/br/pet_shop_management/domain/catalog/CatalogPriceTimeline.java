@@ -0,0 +1,58 @@
+package com.br.pet_shop_management.domain.catalog;
+
+import com.br.pet_shop_management.domain.enums.PetSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Versões de preço de um item ordenadas por effectiveFrom; a consulta em um instante é uma busca binária.
+ */
+public final class CatalogPriceTimeline {
+    private static final CatalogPriceTimeline EMPTY = new CatalogPriceTimeline(new CatalogPriceVersion[0]);
+
+    private final LocalDateTime[] effectiveFrom;
+    private final CatalogPriceVersion[] versions;
+
+    private CatalogPriceTimeline(CatalogPriceVersion[] versions) {
+        this.versions = versions;
+        this.effectiveFrom = new LocalDateTime[versions.length];
+        for (int i = 0; i < versions.length; i++) {
+            this.effectiveFrom[i] = versions[i].effectiveFrom();
+        }
+    }
+
+    public static CatalogPriceTimeline of(Collection<CatalogPriceVersion> versions) {
+        if (versions == null || versions.isEmpty()) return EMPTY;
+
+        CatalogPriceVersion[] sorted = versions.stream()
+                .sorted(Comparator.comparing(CatalogPriceVersion::effectiveFrom))
+                .toArray(CatalogPriceVersion[]::new);
+        return new CatalogPriceTimeline(sorted);
+    }
+
+    public static CatalogPriceTimeline empty() {
+        return EMPTY;
+    }
+
+    public Optional<CatalogPriceVersion> versionAt(LocalDateTime at) {
+        if (at == null) throw new IllegalArgumentException("Instant must be provided.");
+
+        int index = Arrays.binarySearch(effectiveFrom, at);
+        int position = index >= 0 ? index : -index - 2;
+        return position < 0 ? Optional.empty() : Optional.of(versions[position]);
+    }
+
+    public Optional<BigDecimal> priceAt(PetSize petSize, LocalDateTime at) {
+        return versionAt(at).map(version -> version.getPriceByPetSize(petSize));
+    }
+
+    public List<LocalDateTime> effectiveInstants() {
+        return List.of(effectiveFrom);
+    }
+}
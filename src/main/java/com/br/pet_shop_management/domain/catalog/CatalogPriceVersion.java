@@ -0,0 +1,21 @@
+package com.br.pet_shop_management.domain.catalog;
+
+import com.br.pet_shop_management.domain.enums.PetSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record CatalogPriceVersion(Long catalogId,
+                                  LocalDateTime effectiveFrom,
+                                  BigDecimal priceSmall,
+                                  BigDecimal priceMedium,
+                                  BigDecimal priceLarge) {
+
+    public BigDecimal getPriceByPetSize(PetSize petSize) {
+        return switch (petSize) {
+            case SMALL -> priceSmall;
+            case MEDIUM -> priceMedium;
+            case LARGE -> priceLarge;
+        };
+    }
+}
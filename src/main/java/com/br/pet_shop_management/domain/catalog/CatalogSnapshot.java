@@ -0,0 +1,62 @@
+package com.br.pet_shop_management.domain.catalog;
+
+import com.br.pet_shop_management.domain.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+public final class CatalogSnapshot {
+    private final long version;
+    private final Map<Long, CatalogItemSnapshot> itemsById;
+    private final Map<Status, List<CatalogItemSnapshot>> itemsByStatus;
+    private final LocalDateTime[] priceChangeInstants;
+
+    private CatalogSnapshot(long version, Collection<CatalogItemSnapshot> items) {
+        List<CatalogItemSnapshot> sorted = items.stream()
+                .sorted(Comparator.comparing(CatalogItemSnapshot::id))
+                .toList();
+
+        Map<Long, CatalogItemSnapshot> byId = new HashMap<>();
+        Map<Status, List<CatalogItemSnapshot>> byStatus = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            byStatus.put(status, new ArrayList<>());
+        }
+        for (CatalogItemSnapshot item : sorted) {
+            byId.put(item.id(), item);
+            byStatus.get(item.status()).add(item);
+        }
+        byStatus.replaceAll((status, list) -> List.copyOf(list));
+
+        this.priceChangeInstants = sorted.stream()
+                .flatMap(item -> item.priceTimeline().effectiveInstants().stream())
+                .distinct()
+                .sorted()
+                .toArray(LocalDateTime[]::new);
+
+        this.version = version;
+        this.itemsById = Map.copyOf(byId);
+        this.itemsByStatus = Collections.unmodifiableMap(byStatus);
+    }
+
+    public static CatalogSnapshot of(long version, Collection<CatalogItemSnapshot> items) {
+        return new CatalogSnapshot(version, items);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    // Quantas mudanças de preço já entraram em vigor no instante; muda sem alterar a versão quando uma versão futura vigora
+    public int priceRevisionAt(LocalDateTime at) {
+        int index = Arrays.binarySearch(priceChangeInstants, at);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    public Optional<CatalogItemSnapshot> findById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(itemsById.get(id));
+    }
+
+    public List<CatalogItemSnapshot> findByStatus(Status status) {
+        return itemsByStatus.getOrDefault(status, List.of());
+    }
+}
@@ -11,12 +11,20 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "appointments")
+@Table(name = "appointments", indexes = {
+        @Index(name = "idx_appointments_pet_scheduled_status", columnList = "pet_id, scheduled_at, status"),
+        @Index(name = "idx_appointments_status_scheduled_id", columnList = "status, scheduled_at, id"),
+        @Index(name = "idx_appointments_owner_status", columnList = "owner_id, status"),
+        @Index(name = "idx_appointments_scheduled_id", columnList = "scheduled_at, id"),
+        @Index(name = "idx_appointments_owner_scheduled_id", columnList = "owner_id, scheduled_at, id"),
+        @Index(name = "idx_appointments_series_scheduled", columnList = "series_id, scheduled_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AppointmentEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointments_seq")
+    @SequenceGenerator(name = "appointments_seq", sequenceName = "appointments_seq", allocationSize = 50)
     private Long id;
 
     @Version
@@ -42,14 +50,40 @@ public class AppointmentEntity {
 
     private LocalDateTime closedAt;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id")
+    private AppointmentSeriesEntity series;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "staff_id")
+    private ResourceEntity staff;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "station_id")
+    private ResourceEntity station;
+
     public AppointmentEntity(OwnerEntity owner, PetEntity pet, LocalDateTime scheduledAt) {
+        this(owner, pet, scheduledAt, null);
+    }
+
+    public AppointmentEntity(OwnerEntity owner, PetEntity pet, LocalDateTime scheduledAt, AppointmentSeriesEntity series) {
         this.owner = owner;
         this.pet = pet;
         this.scheduledAt = scheduledAt;
+        this.series = series;
         this.status = AppointmentStatus.SCHEDULED;
         this.totalGross = MoneyUtils.zero();
     }
 
+    /** Profissional e mesa escolhidos na criação; {@code null} quando não há recurso daquele tipo cadastrado. */
+    public void assignResources(ResourceEntity staff, ResourceEntity station) {
+        if (this.status != AppointmentStatus.SCHEDULED) {
+            throw new IllegalStateException("Resources can only be assigned to SCHEDULED appointments.");
+        }
+        this.staff = staff;
+        this.station = station;
+    }
+
     public void start() {
         if (this.status != AppointmentStatus.SCHEDULED) {
             throw new IllegalStateException("Only SCHEDULED appointments can start.");
@@ -9,12 +9,16 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "appointment_items")
+@Table(name = "appointment_items", indexes = {
+        @Index(name = "idx_appointment_items_appointment_id", columnList = "appointment_id"),
+        @Index(name = "idx_appointment_items_catalog_appointment", columnList = "catalog_id, appointment_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AppointmentItemEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_items_seq")
+    @SequenceGenerator(name = "appointment_items_seq", sequenceName = "appointment_items_seq", allocationSize = 50)
     private Long id;
 
     @Version
@@ -28,6 +32,9 @@ public class AppointmentItemEntity {
     @JoinColumn(name = "catalog_id", nullable = false)
     private CatalogEntity catalog;
 
+    @Column(name = "catalog_name", nullable = false)
+    private String catalogName;
+
     @Column(nullable = false)
     private Integer quantity;
 
@@ -37,9 +44,10 @@ public class AppointmentItemEntity {
     @Column(nullable = false, precision = 12, scale = 2)
     private BigDecimal subtotal;
 
-    private AppointmentItemEntity(AppointmentEntity appointment, CatalogEntity catalog, Integer quantity, BigDecimal unitPriceApplied) {
+    private AppointmentItemEntity(AppointmentEntity appointment, CatalogEntity catalog, String catalogName, Integer quantity, BigDecimal unitPriceApplied) {
         if (appointment == null) throw new IllegalArgumentException("Appointment must be provided.");
         if (catalog == null) throw new IllegalArgumentException("Catalog must be provided.");
+        if (catalogName == null) throw new IllegalArgumentException("Catalog name must be provided.");
         if (quantity == null) throw new IllegalArgumentException("Quantity must be provided.");
         if (unitPriceApplied == null) throw new IllegalArgumentException("unitPriceApplied must be provided.");
 
@@ -57,6 +65,7 @@ public class AppointmentItemEntity {
 
         this.appointment = appointment;
         this.catalog = catalog;
+        this.catalogName = catalogName;
         this.quantity = quantity;
         this.unitPriceApplied = price;
 
@@ -64,8 +73,8 @@ public class AppointmentItemEntity {
         this.subtotal = MoneyUtils.scale(rawSubtotal);
     }
 
-    public static AppointmentItemEntity create(AppointmentEntity appointment, CatalogEntity catalog, Integer quantity, BigDecimal unitPriceApplied) {
-        return new AppointmentItemEntity(appointment, catalog, quantity, unitPriceApplied);
+    public static AppointmentItemEntity create(AppointmentEntity appointment, CatalogEntity catalog, String catalogName, Integer quantity, BigDecimal unitPriceApplied) {
+        return new AppointmentItemEntity(appointment, catalog, catalogName, quantity, unitPriceApplied);
     }
 }
 
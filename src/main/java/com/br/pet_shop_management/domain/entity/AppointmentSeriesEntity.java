@@ -0,0 +1,64 @@
+package com.br.pet_shop_management.domain.entity;
+
+import com.br.pet_shop_management.domain.appointment.RecurrenceRule;
+import com.br.pet_shop_management.domain.enums.RecurrenceFrequency;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "appointment_series")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AppointmentSeriesEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_series_seq")
+    @SequenceGenerator(name = "appointment_series_seq", sequenceName = "appointment_series_seq", allocationSize = 50)
+    private Long id;
+
+    @Version
+    private Long version;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_id", nullable = false)
+    private OwnerEntity owner;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "pet_id", nullable = false)
+    private PetEntity pet;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecurrenceFrequency frequency;
+
+    @Column(name = "repeat_interval", nullable = false)
+    private Integer interval;
+
+    @Column(nullable = false)
+    private Integer occurrences;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private AppointmentSeriesEntity(OwnerEntity owner, PetEntity pet, RecurrenceRule rule, int occurrences, LocalDateTime createdAt) {
+        if (owner == null) throw new IllegalArgumentException("Owner must be provided.");
+        if (pet == null) throw new IllegalArgumentException("Pet must be provided.");
+        if (rule == null) throw new IllegalArgumentException("Recurrence rule must be provided.");
+        if (occurrences < 1) throw new IllegalArgumentException("Series must have at least one occurrence.");
+        if (createdAt == null) throw new IllegalArgumentException("createdAt must be provided.");
+
+        this.owner = owner;
+        this.pet = pet;
+        this.frequency = rule.frequency();
+        this.interval = rule.interval();
+        this.occurrences = occurrences;
+        this.createdAt = createdAt;
+    }
+
+    public static AppointmentSeriesEntity create(OwnerEntity owner, PetEntity pet, RecurrenceRule rule, int occurrences, LocalDateTime createdAt) {
+        return new AppointmentSeriesEntity(owner, pet, rule, occurrences, createdAt);
+    }
+}
@@ -0,0 +1,49 @@
+package com.br.pet_shop_management.domain.entity;
+
+import com.br.pet_shop_management.util.MoneyUtils;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "catalog_price_history", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_catalog_price_history_catalog_effective_from", columnNames = {"catalog_id", "effective_from"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatalogPriceHistoryEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "catalog_id", nullable = false)
+    private CatalogEntity catalog;
+
+    @Column(name = "effective_from", nullable = false)
+    private LocalDateTime effectiveFrom;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal priceSmall;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal priceMedium;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal priceLarge;
+
+    public CatalogPriceHistoryEntity(CatalogEntity catalog, LocalDateTime effectiveFrom) {
+        if (catalog == null) throw new IllegalArgumentException("Catalog must be provided.");
+        if (effectiveFrom == null) throw new IllegalArgumentException("effectiveFrom must be provided.");
+
+        this.catalog = catalog;
+        this.effectiveFrom = effectiveFrom;
+        this.priceSmall = MoneyUtils.scale(catalog.getPriceSmall());
+        this.priceMedium = MoneyUtils.scale(catalog.getPriceMedium());
+        this.priceLarge = MoneyUtils.scale(catalog.getPriceLarge());
+    }
+}
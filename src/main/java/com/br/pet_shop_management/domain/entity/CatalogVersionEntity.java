@@ -0,0 +1,20 @@
+package com.br.pet_shop_management.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "catalog_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatalogVersionEntity {
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+}
@@ -3,29 +3,51 @@ package com.br.pet_shop_management.domain.entity;
 import com.br.pet_shop_management.domain.enums.Breed;
 import com.br.pet_shop_management.domain.enums.PetSize;
 import com.br.pet_shop_management.domain.enums.Species;
+import com.br.pet_shop_management.domain.enums.Status;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.Locale;
 
 @Entity
-@Table(name = "pets")
+@Table(name = "pets", uniqueConstraints = {
+        @UniqueConstraint(name = PetEntity.UK_OWNER_NORMALIZED_NAME, columnNames = {"owner_id", "normalized_name"})
+}, indexes = {
+        @Index(name = "idx_pets_owner_status_species_breed", columnList = "owner_status, species, breed"),
+        @Index(name = "idx_pets_owner_status_breed", columnList = "owner_status, breed"),
+        @Index(name = "idx_pets_owner_id_owner_status", columnList = "owner_id, owner_status")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PetEntity {
+    public static final String UK_OWNER_NORMALIZED_NAME = "uk_pets_owner_normalized_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pets_seq")
+    @SequenceGenerator(name = "pets_seq", sequenceName = "pets_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private OwnerEntity owner;
 
+    // Cópia do status do owner, mantida por OwnerService.applyAction (evita join na busca de pets)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_status", nullable = false)
+    private Status ownerStatus;
+
     @Column(nullable = false)
     private String name;
 
+    @Column(name = "normalized_name", nullable = false)
+    private String normalizedName;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private Species species;
@@ -47,7 +69,9 @@ public class PetEntity {
 
     public PetEntity(OwnerEntity owner, String name, Species species, Breed breed, PetSize size, LocalDate birthDate, String notes, String allergies) {
         this.owner = owner;
+        this.ownerStatus = owner.getStatus();
         this.name = name;
+        this.normalizedName = normalizeName(name);
         this.species = species;
         this.breed = breed;
         this.size = size;
@@ -71,4 +95,8 @@ public class PetEntity {
     public void clearAllergies() {
         this.allergies = null;
     }
+
+    private static String normalizeName(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
 }
\ No newline at end of file
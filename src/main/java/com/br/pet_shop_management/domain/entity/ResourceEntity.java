@@ -0,0 +1,63 @@
+package com.br.pet_shop_management.domain.entity;
+
+import com.br.pet_shop_management.domain.enums.ResourceType;
+import com.br.pet_shop_management.domain.enums.Status;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "resources", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_resources_name", columnNames = "name")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ResourceEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resources_seq")
+    @SequenceGenerator(name = "resources_seq", sequenceName = "resources_seq", allocationSize = 50)
+    private Long id;
+
+    @Version
+    private Long version;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ResourceType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private ResourceEntity(String name, ResourceType type, LocalDateTime createdAt) {
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("Name must be provided.");
+        if (type == null) throw new IllegalArgumentException("Resource type must be provided.");
+        if (createdAt == null) throw new IllegalArgumentException("createdAt must be provided.");
+
+        this.name = name.trim();
+        this.type = type;
+        this.status = Status.ACTIVE;
+        this.createdAt = createdAt;
+    }
+
+    public static ResourceEntity create(String name, ResourceType type, LocalDateTime createdAt) {
+        return new ResourceEntity(name, type, createdAt);
+    }
+
+    public void deactivate() {
+        this.status = Status.INACTIVE;
+    }
+
+    public void activate() {
+        this.status = Status.ACTIVE;
+    }
+}
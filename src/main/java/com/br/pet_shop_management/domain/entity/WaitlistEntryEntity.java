@@ -0,0 +1,109 @@
+package com.br.pet_shop_management.domain.entity;
+
+import com.br.pet_shop_management.domain.enums.PreferredWindow;
+import com.br.pet_shop_management.domain.enums.WaitlistStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "waitlist_entries", indexes = {
+        @Index(name = "idx_waitlist_entries_status_date", columnList = "status, desired_date")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WaitlistEntryEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_entries_seq")
+    @SequenceGenerator(name = "waitlist_entries_seq", sequenceName = "waitlist_entries_seq", allocationSize = 50)
+    private Long id;
+
+    @Version
+    private Long version;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_id", nullable = false)
+    private OwnerEntity owner;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "pet_id", nullable = false)
+    private PetEntity pet;
+
+    @Column(nullable = false)
+    private LocalDate desiredDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PreferredWindow preferredWindow;
+
+    // Soma das durações do catálogo: só encaixa em horário liberado de duração igual ou maior
+    @Column(nullable = false)
+    private Integer durationMinutes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private WaitlistStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "appointment_id")
+    private AppointmentEntity appointment;
+
+    @ElementCollection
+    @CollectionTable(name = "waitlist_entry_items", joinColumns = @JoinColumn(name = "entry_id"),
+            indexes = @Index(name = "idx_waitlist_entry_items_entry", columnList = "entry_id"))
+    private List<WaitlistItem> items = new ArrayList<>();
+
+    private WaitlistEntryEntity(OwnerEntity owner, PetEntity pet, LocalDate desiredDate, PreferredWindow preferredWindow,
+                                int durationMinutes, List<WaitlistItem> items, LocalDateTime createdAt) {
+        if (owner == null) throw new IllegalArgumentException("Owner must be provided.");
+        if (pet == null) throw new IllegalArgumentException("Pet must be provided.");
+        if (desiredDate == null) throw new IllegalArgumentException("Desired date must be provided.");
+        if (preferredWindow == null) throw new IllegalArgumentException("Preferred window must be provided.");
+        if (items == null || items.isEmpty()) throw new IllegalArgumentException("Items must be provided.");
+        if (createdAt == null) throw new IllegalArgumentException("createdAt must be provided.");
+
+        this.owner = owner;
+        this.pet = pet;
+        this.desiredDate = desiredDate;
+        this.preferredWindow = preferredWindow;
+        this.durationMinutes = durationMinutes;
+        this.items = new ArrayList<>(items);
+        this.status = WaitlistStatus.WAITING;
+        this.createdAt = createdAt;
+    }
+
+    public static WaitlistEntryEntity create(OwnerEntity owner, PetEntity pet, LocalDate desiredDate, PreferredWindow preferredWindow,
+                                             int durationMinutes, List<WaitlistItem> items, LocalDateTime createdAt) {
+        return new WaitlistEntryEntity(owner, pet, desiredDate, preferredWindow, durationMinutes, items, createdAt);
+    }
+
+    public boolean isWaiting() {
+        return this.status == WaitlistStatus.WAITING;
+    }
+
+    public void book(AppointmentEntity appointment) {
+        if (!isWaiting()) {
+            throw new IllegalStateException("Only WAITING entries can be booked.");
+        }
+        if (appointment == null) throw new IllegalArgumentException("Appointment must be provided.");
+
+        this.status = WaitlistStatus.BOOKED;
+        this.appointment = appointment;
+    }
+
+    public void cancel() {
+        if (!isWaiting()) {
+            throw new IllegalStateException("Only WAITING entries can be canceled.");
+        }
+        this.status = WaitlistStatus.CANCELED;
+    }
+}
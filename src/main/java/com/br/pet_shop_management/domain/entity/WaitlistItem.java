@@ -0,0 +1,26 @@
+package com.br.pet_shop_management.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WaitlistItem {
+    @Column(name = "catalog_id", nullable = false)
+    private Long catalogId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    public WaitlistItem(Long catalogId, Integer quantity) {
+        if (catalogId == null) throw new IllegalArgumentException("Catalog id must be provided.");
+        if (quantity == null || quantity < 1) throw new IllegalArgumentException("Quantity must be >= 1.");
+
+        this.catalogId = catalogId;
+        this.quantity = quantity;
+    }
+}
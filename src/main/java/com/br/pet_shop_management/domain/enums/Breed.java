@@ -1,7 +1,10 @@
 package com.br.pet_shop_management.domain.enums;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 public enum Breed {
     // DOG
@@ -37,6 +40,8 @@ public enum Breed {
     AMERICAN_SHORTHAIR(Species.CAT),
     MIXED_CAT(Species.CAT);
 
+    private static final Map<Species, List<Breed>> BY_SPECIES = indexBySpecies();
+
     private final Species species;
 
     Breed(Species species) {
@@ -52,8 +57,19 @@ public enum Breed {
     }
 
     public static List<Breed> bySpecies(Species species) {
-        return Arrays.stream(values())
-                .filter(breed -> breed.species == species)
-                .toList();
+        return BY_SPECIES.getOrDefault(species, List.of());
+    }
+
+    public static Map<Species, List<Breed>> groupedBySpecies() {
+        return BY_SPECIES;
+    }
+
+    private static Map<Species, List<Breed>> indexBySpecies() {
+        Map<Species, List<Breed>> index = new EnumMap<>(Species.class);
+        for (Breed breed : values()) {
+            index.computeIfAbsent(breed.species, s -> new ArrayList<>()).add(breed);
+        }
+        index.replaceAll((species, breeds) -> List.copyOf(breeds));
+        return Collections.unmodifiableMap(index);
     }
 }
\ No newline at end of file
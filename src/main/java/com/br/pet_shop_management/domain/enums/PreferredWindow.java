@@ -0,0 +1,13 @@
+package com.br.pet_shop_management.domain.enums;
+
+import java.time.LocalTime;
+
+public enum PreferredWindow {
+    MORNING,
+    AFTERNOON,
+    ANY;
+
+    public static PreferredWindow of(LocalTime time) {
+        return time.isBefore(LocalTime.NOON) ? MORNING : AFTERNOON;
+    }
+}
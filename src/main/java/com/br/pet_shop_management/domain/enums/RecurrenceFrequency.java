@@ -0,0 +1,7 @@
+package com.br.pet_shop_management.domain.enums;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY
+}
@@ -0,0 +1,6 @@
+package com.br.pet_shop_management.domain.enums;
+
+public enum ResourceType {
+    STAFF,
+    STATION
+}
@@ -0,0 +1,8 @@
+package com.br.pet_shop_management.domain.enums;
+
+public enum WaitlistStatus {
+    WAITING,
+    BOOKED,
+    CANCELED,
+    EXPIRED
+}
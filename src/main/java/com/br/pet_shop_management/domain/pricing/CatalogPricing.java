@@ -1,9 +1,11 @@
 package com.br.pet_shop_management.domain.pricing;
 
+import com.br.pet_shop_management.domain.catalog.CatalogItemSnapshot;
 import com.br.pet_shop_management.domain.entity.CatalogEntity;
 import com.br.pet_shop_management.domain.enums.PetSize;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 public final class CatalogPricing {
     private CatalogPricing() {}
@@ -16,8 +18,24 @@ public final class CatalogPricing {
             throw new IllegalArgumentException("PetSize must not be null");
         }
 
-        BigDecimal unitPrice = catalog.getPriceByPetSize(petSize);
+        return requirePositive(catalog.getPriceByPetSize(petSize));
+    }
+
+    public static BigDecimal resolveUnitPrice(CatalogItemSnapshot catalog, PetSize petSize, LocalDateTime at) {
+        if (catalog == null) {
+            throw new IllegalArgumentException("CatalogItemSnapshot must not be null");
+        }
+        if (petSize == null) {
+            throw new IllegalArgumentException("PetSize must not be null");
+        }
+        if (at == null) {
+            throw new IllegalArgumentException("Instant must not be null");
+        }
+
+        return requirePositive(catalog.priceAt(petSize, at));
+    }
 
+    private static BigDecimal requirePositive(BigDecimal unitPrice) {
         if (unitPrice == null || unitPrice.signum() <= 0) {
             throw new IllegalStateException("Resolved unit price must be greater than zero");
         }
@@ -0,0 +1,35 @@
+package com.br.pet_shop_management.domain.pricing;
+
+import com.br.pet_shop_management.domain.enums.PaymentMethod;
+import com.br.pet_shop_management.util.MoneyUtils;
+
+import java.math.BigDecimal;
+
+public final class PaymentPricing {
+    private static final BigDecimal INSTANT_PAYMENT_FACTOR = new BigDecimal("0.95");
+
+    private PaymentPricing() {}
+
+    public static BigDecimal calculateFinalAmount(BigDecimal totalGross, PaymentMethod method, int installments, BigDecimal interestPerExtraInstallment) {
+        if (totalGross == null || totalGross.signum() <= 0) {
+            throw new IllegalStateException("Invalid appointment totalGross.");
+        }
+
+        BigDecimal gross = MoneyUtils.scale(totalGross);
+
+        if (method == PaymentMethod.PIX || method == PaymentMethod.CASH) {
+            return MoneyUtils.scale(gross.multiply(INSTANT_PAYMENT_FACTOR));
+        }
+
+        if (installments <= 2) {
+            return MoneyUtils.scale(gross);
+        }
+
+        if (interestPerExtraInstallment == null || interestPerExtraInstallment.signum() < 0) {
+            throw new IllegalStateException("Invalid card interest rate configuration.");
+        }
+
+        BigDecimal multiplier = BigDecimal.ONE.add(interestPerExtraInstallment.multiply(BigDecimal.valueOf(installments - 2L)));
+        return MoneyUtils.scale(gross.multiply(multiplier));
+    }
+}
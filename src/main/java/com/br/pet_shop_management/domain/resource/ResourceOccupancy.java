@@ -0,0 +1,7 @@
+package com.br.pet_shop_management.domain.resource;
+
+import java.time.LocalDateTime;
+
+/** Um agendamento ativo visto pelos recursos: quem ocupa, desde quando e por quantos minutos (soma dos itens no catálogo). */
+public record ResourceOccupancy(Long appointmentId, Long staffId, Long stationId, LocalDateTime scheduledAt, Long minutes) {
+}
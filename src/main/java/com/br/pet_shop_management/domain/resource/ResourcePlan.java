@@ -0,0 +1,123 @@
+package com.br.pet_shop_management.domain.resource;
+
+import com.br.pet_shop_management.domain.entity.ResourceEntity;
+import com.br.pet_shop_management.domain.enums.ResourceType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Ocupação dos recursos numa faixa de dias: um {@link BitSet} de 1440 bits (um por minuto) por
+ * recurso e dia, montado a partir de uma única consulta. Um intervalo está livre quando não há bit
+ * ligado nele ({@code nextSetBit}); entre os recursos livres vence o que deixa a menor sobra em
+ * volta do intervalo (best fit), para não picotar a agenda e guardar espaço para atendimentos
+ * longos. Empate vai para o recurso menos ocupado no dia e, depois, para o menor id. Quem já tem
+ * recurso (remarcação, itens novos) fica com ele enquanto ele estiver livre.
+ */
+public final class ResourcePlan {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final Map<ResourceType, List<ResourceEntity>> resourcesByType = new EnumMap<>(ResourceType.class);
+    private final Map<Long, Map<LocalDate, BitSet>> timelines = new HashMap<>();
+
+    public ResourcePlan(List<ResourceEntity> resources, List<ResourceOccupancy> occupancy) {
+        for (ResourceEntity resource : resources) {
+            resourcesByType.computeIfAbsent(resource.getType(), type -> new ArrayList<>()).add(resource);
+            timelines.put(resource.getId(), new HashMap<>());
+        }
+        for (ResourceOccupancy row : occupancy) {
+            int minutes = row.minutes() == null ? 0 : row.minutes().intValue();
+            if (row.staffId() != null) occupy(row.staffId(), row.scheduledAt(), minutes);
+            if (row.stationId() != null) occupy(row.stationId(), row.scheduledAt(), minutes);
+        }
+    }
+
+    /** Há recurso desse tipo no plano? Sem nenhum cadastrado o tipo não limita a agenda. */
+    public boolean covers(ResourceType type) {
+        return resourcesByType.containsKey(type);
+    }
+
+    /**
+     * Escolhe e ocupa um recurso livre de {@code start} por {@code minutes}, preferindo {@code currentId}
+     * quando ele é desse tipo e está livre; vazio quando todos estão ocupados.
+     */
+    public Optional<ResourceEntity> assign(ResourceType type, LocalDateTime start, int minutes, Long currentId) {
+        int length = Math.max(1, minutes);
+        LocalDateTime end = start.plusMinutes(length);
+        List<ResourceEntity> candidates = resourcesByType.getOrDefault(type, List.of());
+
+        Optional<ResourceEntity> current = candidates.stream()
+                .filter(resource -> resource.getId().equals(currentId) && isFree(resource.getId(), start, length))
+                .findFirst();
+        if (current.isPresent()) {
+            occupy(currentId, start, length);
+            return current;
+        }
+
+        Optional<ResourceEntity> best = candidates.stream()
+                .filter(resource -> isFree(resource.getId(), start, length))
+                .min(Comparator.<ResourceEntity>comparingInt(resource -> slack(resource.getId(), start, end))
+                        .thenComparingInt(resource -> timeline(resource.getId(), start.toLocalDate()).cardinality())
+                        .thenComparing(ResourceEntity::getId));
+
+        best.ifPresent(resource -> occupy(resource.getId(), start, length));
+        return best;
+    }
+
+    /** Minutos ocupados do recurso no dia, dentro de {@code [fromMinute, toMinute)}. */
+    public int occupiedMinutes(Long resourceId, LocalDate date, int fromMinute, int toMinute) {
+        return timeline(resourceId, date).get(fromMinute, toMinute).cardinality();
+    }
+
+    private boolean isFree(Long resourceId, LocalDateTime start, int minutes) {
+        LocalDate day = start.toLocalDate();
+        int from = minuteOf(start);
+        int left = minutes;
+        while (left > 0) {
+            int to = Math.min(MINUTES_PER_DAY, from + left);
+            int next = timeline(resourceId, day).nextSetBit(from);
+            if (next >= 0 && next < to) return false;
+            left -= to - from;
+            from = 0;
+            day = day.plusDays(1);
+        }
+        return true;
+    }
+
+    private void occupy(Long resourceId, LocalDateTime start, int minutes) {
+        if (!timelines.containsKey(resourceId)) return;
+
+        LocalDate day = start.toLocalDate();
+        int from = minuteOf(start);
+        int left = minutes;
+        while (left > 0) {
+            int to = Math.min(MINUTES_PER_DAY, from + left);
+            timeline(resourceId, day).set(from, to);
+            left -= to - from;
+            from = 0;
+            day = day.plusDays(1);
+        }
+    }
+
+    // Minutos livres colados ao intervalo, antes e depois, até o próximo atendimento (ou a virada do dia)
+    private int slack(Long resourceId, LocalDateTime start, LocalDateTime end) {
+        int from = minuteOf(start);
+        int before = from - 1 - timeline(resourceId, start.toLocalDate()).previousSetBit(from - 1);
+
+        int to = minuteOf(end);
+        int next = timeline(resourceId, end.toLocalDate()).nextSetBit(to);
+        int after = (next < 0 ? MINUTES_PER_DAY : next) - to;
+
+        return before + after;
+    }
+
+    private BitSet timeline(Long resourceId, LocalDate date) {
+        return timelines.computeIfAbsent(resourceId, id -> new HashMap<>())
+                .computeIfAbsent(date, day -> new BitSet(MINUTES_PER_DAY));
+    }
+
+    private static int minuteOf(LocalDateTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
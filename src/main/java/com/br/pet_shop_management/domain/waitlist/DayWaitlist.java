@@ -0,0 +1,173 @@
+package com.br.pet_shop_management.domain.waitlist;
+
+import com.br.pet_shop_management.domain.enums.PreferredWindow;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Fila de espera de um dia, indexada por janela e duração. Em cada janela as entradas ficam em
+ * um conjunto ordenado por chegada para cada duração, e uma árvore de segmentos sobre as durações
+ * (um minuto por folha) guarda a mais antiga de cada faixa. Um horário liberado consulta só a sua
+ * janela e ANY, com o prefixo das durações que cabem nele: a escolha custa O(log n), por mais
+ * entradas longas que estejam na frente.
+ * <p>
+ * Uma entrada retirada por {@link #pollBest} fica pendente até voltar ({@link #restore}) ou ser
+ * encerrada ({@link #settle}). Se ela for cancelada nesse meio tempo, {@link #remove} deixa a marca
+ * e a devolução é ignorada, para a entrada cancelada não reaparecer na fila.
+ */
+public final class DayWaitlist {
+    public static final Comparator<WaitlistCandidate> PRIORITY =
+            Comparator.comparing(WaitlistCandidate::createdAt).thenComparing(WaitlistCandidate::entryId);
+
+    private final LocalDate date;
+    private final Map<PreferredWindow, DurationIndex> indexes = new EnumMap<>(PreferredWindow.class);
+    private final Map<Long, WaitlistCandidate> candidatesById = new HashMap<>();
+    private final Set<Long> polled = new HashSet<>();
+    private final Set<Long> removedWhilePolled = new HashSet<>();
+
+    public DayWaitlist(LocalDate date) {
+        this.date = date;
+        for (PreferredWindow window : PreferredWindow.values()) {
+            indexes.put(window, new DurationIndex());
+        }
+    }
+
+    public LocalDate date() {
+        return date;
+    }
+
+    public synchronized void add(WaitlistCandidate candidate) {
+        if (!candidate.date().equals(date)) {
+            throw new IllegalArgumentException("Waitlist entry " + candidate.entryId() + " is not for " + date + ".");
+        }
+        if (candidatesById.putIfAbsent(candidate.entryId(), candidate) == null) {
+            indexes.get(candidate.window()).add(candidate);
+        }
+    }
+
+    public synchronized boolean remove(Long entryId) {
+        WaitlistCandidate candidate = candidatesById.remove(entryId);
+        if (candidate == null) {
+            return polled.contains(entryId) && removedWhilePolled.add(entryId);
+        }
+        return indexes.get(candidate.window()).remove(candidate);
+    }
+
+    /** Devolve uma entrada retirada por {@link #pollBest}, a menos que ela tenha saído da fila enquanto estava fora. */
+    public synchronized boolean restore(WaitlistCandidate candidate) {
+        polled.remove(candidate.entryId());
+        if (removedWhilePolled.remove(candidate.entryId())) return false;
+
+        add(candidate);
+        return true;
+    }
+
+    /** Encerra uma entrada retirada por {@link #pollBest} que não volta mais (reservada ou já fora da espera). */
+    public synchronized void settle(Long entryId) {
+        polled.remove(entryId);
+        removedWhilePolled.remove(entryId);
+    }
+
+    /** Retira a entrada mais antiga que aceita o horário e cabe em {@code availableMinutes}. */
+    public synchronized Optional<WaitlistCandidate> pollBest(LocalTime time, int availableMinutes) {
+        DurationIndex window = indexes.get(PreferredWindow.of(time));
+        DurationIndex any = indexes.get(PreferredWindow.ANY);
+        WaitlistCandidate fromWindow = window.oldestWithin(availableMinutes);
+        WaitlistCandidate fromAny = any.oldestWithin(availableMinutes);
+        if (fromWindow == null && fromAny == null) return Optional.empty();
+
+        boolean takeWindow = fromAny == null || (fromWindow != null && PRIORITY.compare(fromWindow, fromAny) <= 0);
+        WaitlistCandidate best = takeWindow ? fromWindow : fromAny;
+        (takeWindow ? window : any).remove(best);
+        candidatesById.remove(best.entryId());
+        polled.add(best.entryId());
+        return Optional.of(best);
+    }
+
+    public synchronized boolean hasCandidatesFor(LocalTime time) {
+        return !indexes.get(PreferredWindow.of(time)).isEmpty() || !indexes.get(PreferredWindow.ANY).isEmpty();
+    }
+
+    public synchronized List<WaitlistCandidate> candidates() {
+        return candidatesById.values().stream().sorted(PRIORITY).toList();
+    }
+
+    public synchronized boolean isEmpty() {
+        return candidatesById.isEmpty() && polled.isEmpty();
+    }
+
+    /**
+     * Entradas de uma janela por duração. Cada folha da árvore é uma duração em minutos e guarda a
+     * entrada mais antiga dela; cada nó interno, a mais antiga entre os filhos. Inserir, remover e
+     * achar a mais antiga até uma duração custam O(log n). Durações acima de {@code MAX_DURATION}
+     * minutos dividem a última folha, que só atende quando a mais antiga dela também cabe.
+     */
+    private static final class DurationIndex {
+        private static final int LEAVES = 2048;
+        private static final int MAX_DURATION = LEAVES - 1;
+
+        private final Map<Integer, TreeSet<WaitlistCandidate>> byDuration = new HashMap<>();
+        private final WaitlistCandidate[] tree = new WaitlistCandidate[2 * LEAVES];
+        private int size;
+
+        void add(WaitlistCandidate candidate) {
+            int leaf = leafOf(candidate.durationMinutes());
+            if (byDuration.computeIfAbsent(leaf, duration -> new TreeSet<>(PRIORITY)).add(candidate)) {
+                size++;
+                refresh(leaf);
+            }
+        }
+
+        boolean remove(WaitlistCandidate candidate) {
+            int leaf = leafOf(candidate.durationMinutes());
+            TreeSet<WaitlistCandidate> bucket = byDuration.get(leaf);
+            if (bucket == null || !bucket.remove(candidate)) return false;
+
+            if (bucket.isEmpty()) byDuration.remove(leaf);
+            size--;
+            refresh(leaf);
+            return true;
+        }
+
+        WaitlistCandidate oldestWithin(int availableMinutes) {
+            if (availableMinutes < 0 || size == 0) return null;
+
+            WaitlistCandidate best = null;
+            // prefixo [0, limite] da árvore, de baixo para cima
+            int lo = LEAVES;
+            int hi = LEAVES + leafOf(availableMinutes) + 1;
+            while (lo < hi) {
+                if ((lo & 1) == 1) best = older(best, tree[lo++]);
+                if ((hi & 1) == 1) best = older(best, tree[--hi]);
+                lo >>= 1;
+                hi >>= 1;
+            }
+            return best == null || best.durationMinutes() > availableMinutes ? null : best;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void refresh(int leaf) {
+            TreeSet<WaitlistCandidate> bucket = byDuration.get(leaf);
+            int node = LEAVES + leaf;
+            tree[node] = bucket == null ? null : bucket.first();
+            for (node >>= 1; node > 0; node >>= 1) {
+                tree[node] = older(tree[2 * node], tree[2 * node + 1]);
+            }
+        }
+
+        private static int leafOf(int minutes) {
+            return Math.clamp(minutes, 0, MAX_DURATION);
+        }
+
+        private static WaitlistCandidate older(WaitlistCandidate a, WaitlistCandidate b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            return PRIORITY.compare(a, b) <= 0 ? a : b;
+        }
+    }
+}
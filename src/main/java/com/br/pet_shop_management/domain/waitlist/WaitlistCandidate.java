@@ -0,0 +1,28 @@
+package com.br.pet_shop_management.domain.waitlist;
+
+import com.br.pet_shop_management.domain.entity.WaitlistEntryEntity;
+import com.br.pet_shop_management.domain.enums.PreferredWindow;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** O que a fila em memória precisa para escolher uma entrada; os itens ficam no banco até a reserva. */
+public record WaitlistCandidate(Long entryId,
+                                Long ownerId,
+                                Long petId,
+                                LocalDate date,
+                                PreferredWindow window,
+                                int durationMinutes,
+                                LocalDateTime createdAt) {
+
+    public static WaitlistCandidate of(WaitlistEntryEntity entry) {
+        return new WaitlistCandidate(
+                entry.getId(),
+                entry.getOwner().getId(),
+                entry.getPet().getId(),
+                entry.getDesiredDate(),
+                entry.getPreferredWindow(),
+                entry.getDurationMinutes(),
+                entry.getCreatedAt());
+    }
+}
@@ -0,0 +1,93 @@
+package com.br.pet_shop_management.infrastructure.cache;
+
+import com.br.pet_shop_management.application.event.CatalogChangedEvent;
+import com.br.pet_shop_management.domain.catalog.CatalogItemSnapshot;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceTimeline;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceVersion;
+import com.br.pet_shop_management.domain.catalog.CatalogSnapshot;
+import com.br.pet_shop_management.infrastructure.persistence.CatalogPriceHistoryRepository;
+import com.br.pet_shop_management.infrastructure.persistence.CatalogRepository;
+import com.br.pet_shop_management.infrastructure.persistence.CatalogVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cópia imutável do catálogo em memória. Leituras são lock-free; a troca é atômica
+ * após cada escrita confirmada e, entre nós, quando o contador em catalog_version muda.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshotHolder {
+
+    private final CatalogRepository catalogRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final CatalogPriceHistoryRepository catalogPriceHistoryRepository;
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+
+    // ReentrantLock em vez de synchronized: a recarga faz I/O de banco e não deve prender a carrier thread
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public CatalogSnapshot current() {
+        CatalogSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : reload();
+    }
+
+    public CatalogSnapshot reload() {
+        reloadLock.lock();
+        try {
+            return doReload();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private CatalogSnapshot doReload() {
+        // Versão lida antes das linhas: no pior caso a cópia fica mais nova que a versão e é recarregada no próximo ciclo
+        long version = readVersion();
+        Map<Long, List<CatalogPriceVersion>> versionsByCatalogId = catalogPriceHistoryRepository.findAllVersions().stream()
+                .collect(Collectors.groupingBy(CatalogPriceVersion::catalogId));
+        List<CatalogItemSnapshot> items = catalogRepository.findAll().stream()
+                .map(entity -> CatalogItemSnapshot.from(entity,
+                        CatalogPriceTimeline.of(versionsByCatalogId.get(entity.getId()))))
+                .toList();
+
+        CatalogSnapshot snapshot = CatalogSnapshot.of(version, items);
+        current.set(snapshot);
+
+        log.info("catalogSnapshot published: version={}, itemsCount={}", version, items.size());
+        return snapshot;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        log.info("catalogSnapshot invalidated: catalogId={}", event.catalogId());
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.snapshot.refresh-interval:PT30S}")
+    public void refreshIfStale() {
+        CatalogSnapshot snapshot = current.get();
+        if (snapshot == null) return;
+
+        long version = readVersion();
+        if (version != snapshot.version()) {
+            log.info("catalogSnapshot stale: localVersion={}, dbVersion={}", snapshot.version(), version);
+            reload();
+        }
+    }
+
+    private long readVersion() {
+        return catalogVersionRepository.findCurrentVersion().orElse(0L);
+    }
+}
@@ -0,0 +1,210 @@
+package com.br.pet_shop_management.infrastructure.cache;
+
+import com.br.pet_shop_management.application.event.AppointmentChangedEvent;
+import com.br.pet_shop_management.domain.agenda.AgendaEntry;
+import com.br.pet_shop_management.domain.agenda.DayAgenda;
+import com.br.pet_shop_management.domain.entity.AppointmentEntity;
+import com.br.pet_shop_management.domain.entity.AppointmentItemEntity;
+import com.br.pet_shop_management.infrastructure.datasource.RoutingContext;
+import com.br.pet_shop_management.infrastructure.persistence.AppointmentItemRepository;
+import com.br.pet_shop_management.infrastructure.persistence.AppointmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Agenda por dia em memória. Cada dia é lido do banco uma vez (hoje e amanhã já na subida e
+ * à meia-noite) e depois acompanha os eventos de agendamento e pagamento após o commit.
+ * A leitura de um dia carregado não toca o banco; a recarga periódica só corrige escritas
+ * feitas por outros nós.
+ */
+@Slf4j
+@Component
+public class DailyAgendaHolder {
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentItemRepository appointmentItemRepository;
+    private final int maxDays;
+
+    private final Map<LocalDate, DayAgenda> days = new ConcurrentHashMap<>();
+    // Eventos que chegam enquanto o dia é lido do banco; reaplicados sobre o resultado da leitura
+    private final Map<LocalDate, Queue<AppointmentChangedEvent>> loading = new ConcurrentHashMap<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    public DailyAgendaHolder(AppointmentRepository appointmentRepository,
+                             AppointmentItemRepository appointmentItemRepository,
+                             @Value("${agenda.max-days:31}") int maxDays) {
+        this.appointmentRepository = appointmentRepository;
+        this.appointmentItemRepository = appointmentItemRepository;
+        this.maxDays = maxDays;
+    }
+
+    public DayAgenda agenda(LocalDate date) {
+        DayAgenda agenda = days.get(date);
+        if (agenda != null) return agenda;
+
+        loadLock.lock();
+        try {
+            // outra requisição pode ter carregado o dia enquanto esta esperava o lock
+            agenda = days.get(date);
+            return agenda != null ? agenda : load(date);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        LocalDate date = event.scheduledAt().toLocalDate();
+
+        // Enfileira antes de aplicar: se a leitura do dia terminar no meio, o evento é reaplicado por ela
+        Queue<AppointmentChangedEvent> pending = loading.get(date);
+        if (pending != null) pending.add(event);
+
+        // Um commit mais novo já levou o agendamento para outro dia: este evento chegou atrasado
+        boolean superseded = days.entrySet().stream()
+                .anyMatch(day -> !day.getKey().equals(date) && isNewer(day.getValue(), event));
+        if (superseded) {
+            log.info("dailyAgenda stale event ignored: appointmentId={}, version={}", event.appointmentId(), event.version());
+            return;
+        }
+
+        days.computeIfPresent(date, (day, agenda) -> apply(agenda, event));
+        days.forEach((day, agenda) -> {
+            if (!day.equals(date)) days.computeIfPresent(day, (d, a) -> isNewer(a, event) ? a : a.without(event.appointmentId()));
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${agenda.rollover-cron:5 0 0 * * *}")
+    public void rollover() {
+        LocalDate today = LocalDate.now();
+        days.keySet().removeIf(day -> day.isBefore(today));
+        load(today);
+        load(today.plusDays(1));
+    }
+
+    @Scheduled(fixedDelayString = "${agenda.refresh-interval:PT10M}", initialDelayString = "${agenda.refresh-interval:PT10M}")
+    public void refresh() {
+        days.keySet().forEach(this::load);
+    }
+
+    private DayAgenda load(LocalDate date) {
+        loadLock.lock();
+        try {
+            Queue<AppointmentChangedEvent> pending = new ConcurrentLinkedQueue<>();
+            loading.put(date, pending);
+            try {
+                DayAgenda read = read(date);
+
+                if (!days.containsKey(date) && !makeRoomFor(date)) {
+                    log.info("dailyAgenda not cached: date={}, cachedDays={}", date, days.size());
+                    return drain(read, pending);
+                }
+
+                // A fila só sai de loading dentro do compute: um evento que não a encontre mais
+                // espera o compute terminar e é aplicado pelo computeIfPresent sobre o dia já publicado
+                return days.compute(date, (day, previous) -> {
+                    DayAgenda agenda = drain(read, pending);
+                    loading.remove(date, pending);
+                    return agenda;
+                });
+            } finally {
+                // leitura com erro ou dia fora do cache
+                loading.remove(date, pending);
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private static DayAgenda drain(DayAgenda agenda, Queue<AppointmentChangedEvent> pending) {
+        AppointmentChangedEvent event;
+        while ((event = pending.poll()) != null) {
+            agenda = apply(agenda, event);
+        }
+        return agenda;
+    }
+
+    // Com o limite atingido, sai o dia mais distante de hoje, se for mais distante que o pedido
+    private boolean makeRoomFor(LocalDate date) {
+        if (days.size() < maxDays) return true;
+
+        LocalDate today = LocalDate.now();
+        LocalDate farthest = days.keySet().stream()
+                .max(Comparator.comparingLong(day -> Math.abs(ChronoUnit.DAYS.between(today, day))))
+                .orElseThrow();
+        if (Math.abs(ChronoUnit.DAYS.between(today, farthest)) <= Math.abs(ChronoUnit.DAYS.between(today, date))) {
+            return false;
+        }
+        days.remove(farthest);
+        return true;
+    }
+
+    private DayAgenda read(LocalDate date) {
+        // Sempre no primário: uma réplica atrasada desfaria eventos já aplicados
+        boolean pinned = RoutingContext.isPinnedToPrimary();
+        RoutingContext.pinToPrimary();
+        try {
+            return readFromPrimary(date);
+        } finally {
+            if (!pinned) RoutingContext.clear();
+        }
+    }
+
+    private DayAgenda readFromPrimary(LocalDate date) {
+        List<AppointmentEntity> appointments = appointmentRepository.findScheduledBetween(
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+
+        Map<Long, List<String>> itemNamesByAppointmentId = appointments.isEmpty()
+                ? Map.of()
+                : appointmentItemRepository.findByAppointmentIdIn(appointments.stream().map(AppointmentEntity::getId).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(item -> item.getAppointment().getId(),
+                                Collectors.mapping(AppointmentItemEntity::getCatalogName, Collectors.toList())));
+
+        List<AgendaEntry> entries = appointments.stream()
+                .map(a -> new AgendaEntry(a.getId(), a.getScheduledAt(), a.getPet().getId(), a.getOwner().getId(),
+                        a.getStatus(), a.getTotalGross(), itemNamesByAppointmentId.get(a.getId()), a.getVersion()))
+                .toList();
+
+        log.info("dailyAgenda loaded: date={}, entriesCount={}", date, entries.size());
+        return DayAgenda.of(date, entries);
+    }
+
+    private static DayAgenda apply(DayAgenda agenda, AppointmentChangedEvent event) {
+        if (isNewer(agenda, event)) return agenda;
+
+        // PAID não traz itens: mantém os que a agenda já conhece
+        List<String> itemNames = event.itemNames() != null
+                ? event.itemNames()
+                : agenda.findById(event.appointmentId()).map(AgendaEntry::itemNames).orElse(List.of());
+
+        return agenda.with(new AgendaEntry(event.appointmentId(), event.scheduledAt(), event.petId(), event.ownerId(),
+                event.status(), event.totalGross(), itemNames, event.version()));
+    }
+
+    // A agenda já tem o agendamento numa versão mais nova que a do evento
+    private static boolean isNewer(DayAgenda agenda, AppointmentChangedEvent event) {
+        if (event.version() == null) return false;
+        return agenda.findById(event.appointmentId())
+                .map(AgendaEntry::version)
+                .filter(version -> version != null && version > event.version())
+                .isPresent();
+    }
+}
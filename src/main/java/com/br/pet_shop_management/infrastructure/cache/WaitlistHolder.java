@@ -0,0 +1,116 @@
+package com.br.pet_shop_management.infrastructure.cache;
+
+import com.br.pet_shop_management.application.event.WaitlistChangedEvent;
+import com.br.pet_shop_management.domain.waitlist.DayWaitlist;
+import com.br.pet_shop_management.domain.waitlist.WaitlistCandidate;
+import com.br.pet_shop_management.infrastructure.datasource.RoutingContext;
+import com.br.pet_shop_management.infrastructure.persistence.WaitlistEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Filas de espera por dia em memória. O banco guarda as entradas para o restart: a subida
+ * recarrega as que ainda esperam e, daí em diante, a memória segue os eventos pós-commit.
+ * Uma entrada retirada da fila só é reservada depois de conferida com lock no banco, então
+ * uma memória atrasada (outro nó) no máximo perde a vez, nunca reserva duas vezes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistHolder {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+
+    private final Map<LocalDate, DayWaitlist> days = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        boolean pinned = RoutingContext.isPinnedToPrimary();
+        RoutingContext.pinToPrimary();
+        try {
+            List<WaitlistCandidate> waiting = waitlistEntryRepository.findWaitingFrom(LocalDate.now()).stream()
+                    .map(WaitlistCandidate::of)
+                    .toList();
+            waiting.forEach(this::add);
+            log.info("waitlist loaded: entriesCount={}, daysCount={}", waiting.size(), days.size());
+        } finally {
+            if (!pinned) RoutingContext.clear();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onWaitlistChanged(WaitlistChangedEvent event) {
+        if (event.waiting()) {
+            add(event.candidate());
+        } else {
+            remove(event.candidate());
+        }
+    }
+
+    public Optional<WaitlistCandidate> pollBest(LocalDateTime slot, int availableMinutes) {
+        DayWaitlist day = days.get(slot.toLocalDate());
+        return day == null ? Optional.empty() : day.pollBest(slot.toLocalTime(), availableMinutes);
+    }
+
+    public boolean hasCandidatesFor(LocalDateTime slot) {
+        DayWaitlist day = days.get(slot.toLocalDate());
+        return day != null && day.hasCandidatesFor(slot.toLocalTime());
+    }
+
+    /**
+     * Devolve à fila uma entrada retirada que não pôde ser reservada agora (mantém a posição original).
+     * Se ela foi cancelada enquanto estava fora, continua fora.
+     */
+    public void restore(WaitlistCandidate candidate) {
+        if (candidate.date().isBefore(LocalDate.now())) return;
+        days.compute(candidate.date(), (date, day) -> {
+            DayWaitlist waitlist = day == null ? new DayWaitlist(date) : day;
+            waitlist.restore(candidate);
+            return waitlist.isEmpty() ? null : waitlist;
+        });
+    }
+
+    /** Encerra uma entrada retirada que foi reservada ou já não espera mais. */
+    public void settle(WaitlistCandidate candidate) {
+        days.computeIfPresent(candidate.date(), (date, day) -> {
+            day.settle(candidate.entryId());
+            return day.isEmpty() ? null : day;
+        });
+    }
+
+    public List<WaitlistCandidate> candidates(LocalDate date) {
+        DayWaitlist day = days.get(date);
+        return day == null ? List.of() : day.candidates();
+    }
+
+    public void dropBefore(LocalDate date) {
+        days.keySet().removeIf(day -> day.isBefore(date));
+    }
+
+    private void add(WaitlistCandidate candidate) {
+        if (candidate.date().isBefore(LocalDate.now())) return;
+        days.compute(candidate.date(), (date, day) -> {
+            DayWaitlist waitlist = day == null ? new DayWaitlist(date) : day;
+            waitlist.add(candidate);
+            return waitlist;
+        });
+    }
+
+    private void remove(WaitlistCandidate candidate) {
+        days.computeIfPresent(candidate.date(), (date, day) -> {
+            day.remove(candidate.entryId());
+            return day.isEmpty() ? null : day;
+        });
+    }
+}
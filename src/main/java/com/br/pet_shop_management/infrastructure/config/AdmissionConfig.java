@@ -0,0 +1,51 @@
+package com.br.pet_shop_management.infrastructure.config;
+
+import com.br.pet_shop_management.infrastructure.web.AdmissionControlInterceptor;
+import com.br.pet_shop_management.infrastructure.web.AdmissionLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "admission", name = "enabled", havingValue = "true")
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    private final AdmissionProperties properties;
+    private final AdmissionLimiter limiter;
+    private final Counter rejected;
+
+    public AdmissionConfig(AdmissionProperties properties,
+                           @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+
+        int permits = properties.getPermits() > 0 ? properties.getPermits() : poolSize;
+        this.limiter = new AdmissionLimiter(permits, properties.getMaxQueue(), properties.getMaxWait());
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("petshop.admission.in-flight", limiter, AdmissionLimiter::inFlight).register(registry);
+            Gauge.builder("petshop.admission.waiting", limiter, AdmissionLimiter::waiting).register(registry);
+            this.rejected = Counter.builder("petshop.admission.rejected").register(registry);
+        } else {
+            this.rejected = null;
+        }
+
+        log.info("admissionControl enabled: permits={}, maxQueue={}, maxWait={}",
+                permits, properties.getMaxQueue(), properties.getMaxWait());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionControlInterceptor(limiter, properties.getRetryAfter(), rejected))
+                .excludePathPatterns("/actuator/**", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/reference-data");
+    }
+}
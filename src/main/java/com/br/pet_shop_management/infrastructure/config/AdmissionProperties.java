@@ -0,0 +1,19 @@
+package com.br.pet_shop_management.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+    private boolean enabled = false;
+    /** Requisições simultâneas admitidas; 0 = tamanho do pool de conexões. */
+    private int permits = 0;
+    private int maxQueue = 200;
+    private Duration maxWait = Duration.ofMillis(500);
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,20 @@
+package com.br.pet_shop_management.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "appointment-feed")
+public class AppointmentFeedProperties {
+    private int maxSubscribers = 200;
+    /** Eventos pendentes por assinante; com a fila cheia o assinante é desconectado. */
+    private int queueCapacity = 64;
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    /** Duração máxima de uma conexão; o EventSource do navegador reconecta sozinho. */
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration retryAfter = Duration.ofSeconds(5);
+}
@@ -0,0 +1,20 @@
+package com.br.pet_shop_management.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jfr.recording")
+public class JfrProperties {
+    private boolean enabled = true;
+    private Duration maxAge = Duration.ofMinutes(10);
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+    private Path dumpDirectory = Path.of(System.getProperty("java.io.tmpdir"), "petshop-jfr");
+    private int maxDumps = 3;
+}
@@ -0,0 +1,22 @@
+package com.br.pet_shop_management.infrastructure.config;
+
+import com.br.pet_shop_management.infrastructure.metrics.StatementMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    // Ausente nos testes de fatia web (@WebMvcTest), onde o actuator não é carregado
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        meterRegistry.ifAvailable(registryBean -> registry.addInterceptor(new StatementMetricsInterceptor(registryBean)));
+    }
+}
@@ -4,5 +4,6 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties(PaymentProperties.class)
+@EnableConfigurationProperties({PaymentProperties.class, JfrProperties.class, AdmissionProperties.class,
+        ReadReplicaProperties.class, AppointmentFeedProperties.class})
 public class PropertiesConfig {}
\ No newline at end of file
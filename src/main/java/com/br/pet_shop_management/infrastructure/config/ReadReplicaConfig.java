@@ -0,0 +1,103 @@
+package com.br.pet_shop_management.infrastructure.config;
+
+import com.br.pet_shop_management.infrastructure.datasource.ReadYourWritesTracker;
+import com.br.pet_shop_management.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.br.pet_shop_management.infrastructure.web.ReplicaRoutingInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Dois pools (primário e réplica) atrás de um DataSource que roteia pela flag readOnly da
+ * transação. Sem read-replica.url a réplica aponta para o mesmo banco do primário, o que
+ * permite exercitar o roteamento com uma única instância local.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig implements WebMvcConfigurer {
+
+    private final ReadReplicaProperties properties;
+    private final ReadYourWritesTracker tracker;
+
+    public ReadReplicaConfig(ReadReplicaProperties properties) {
+        this.properties = properties;
+        this.tracker = new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(ObjectProvider<JdbcConnectionDetails> connectionDetails,
+                                              DataSourceProperties dataSourceProperties) {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        HikariDataSource dataSource = (details != null)
+                ? build(details.getJdbcUrl(), details.getUsername(), details.getPassword(), details.getDriverClassName())
+                : build(dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(),
+                        dataSourceProperties.determinePassword(), dataSourceProperties.determineDriverClassName());
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("read-replica.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("primaryDataSource") HikariDataSource primary) {
+        HikariDataSource dataSource = build(
+                StringUtils.hasText(properties.getUrl()) ? properties.getUrl() : primary.getJdbcUrl(),
+                StringUtils.hasText(properties.getUsername()) ? properties.getUsername() : primary.getUsername(),
+                StringUtils.hasText(properties.getPassword()) ? properties.getPassword() : primary.getPassword(),
+                primary.getDriverClassName());
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, meterRegistry.getIfAvailable()));
+        // valores padrão informados ao proxy para que ele não abra uma conexão só para descobri-los
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+
+        log.info("readReplica enabled: replica={}, readYourWritesWindow={}",
+                StringUtils.hasText(properties.getUrl()) ? properties.getUrl() : "same as primary",
+                properties.getReadYourWritesWindow());
+        return proxy;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReplicaRoutingInterceptor(tracker, properties.getClientIdHeader()))
+                .excludePathPatterns("/actuator/**", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/reference-data");
+    }
+
+    private static HikariDataSource build(String url, String username, String password, String driverClassName) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .driverClassName(driverClassName)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.br.pet_shop_management.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "read-replica")
+public class ReadReplicaProperties {
+    private boolean enabled = false;
+    /** JDBC da réplica; vazio = mesmo banco do primário, em um pool separado. */
+    private String url;
+    private String username;
+    private String password;
+    /** Tempo após uma escrita em que as leituras do mesmo cliente ficam no primário; zero desliga. */
+    private Duration readYourWritesWindow = Duration.ZERO;
+    /** Cabeçalho que identifica o cliente; sem ele vale o endereço remoto. */
+    private String clientIdHeader = "X-Client-Id";
+}
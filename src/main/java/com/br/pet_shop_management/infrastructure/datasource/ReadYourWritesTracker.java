@@ -0,0 +1,45 @@
+package com.br.pet_shop_management.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lembra, por cliente, até quando as leituras devem ir ao primário depois de uma escrita
+ * confirmada. Estado local do nó: com vários nós atrás de balanceador sem afinidade, a
+ * janela só vale para o nó que recebeu a escrita.
+ */
+public class ReadYourWritesTracker {
+    private static final int EVICTION_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final ConcurrentHashMap<String, Long> deadlines = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public boolean isEnabled() {
+        return windowNanos > 0;
+    }
+
+    public void recordWrite(String clientId) {
+        if (!isEnabled() || clientId == null) return;
+
+        long now = System.nanoTime();
+        deadlines.put(clientId, now + windowNanos);
+        if (deadlines.size() > EVICTION_THRESHOLD) {
+            deadlines.values().removeIf(deadline -> deadline - now <= 0);
+        }
+    }
+
+    public boolean isWithinWindow(String clientId) {
+        if (!isEnabled() || clientId == null) return false;
+
+        Long deadline = deadlines.get(clientId);
+        if (deadline == null) return false;
+        if (deadline - System.nanoTime() > 0) return true;
+
+        deadlines.remove(clientId, deadline);
+        return false;
+    }
+}
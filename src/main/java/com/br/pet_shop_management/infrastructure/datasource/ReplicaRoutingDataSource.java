@@ -0,0 +1,48 @@
+package com.br.pet_shop_management.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Transações somente leitura vão para a réplica; todo o resto (escritas, FOR UPDATE, Flyway,
+ * código fora de transação) fica no primário. Precisa ficar atrás de um
+ * LazyConnectionDataSourceProxy: o JpaTransactionManager pede a conexão antes de marcar a
+ * transação como readOnly, e o proxy só busca a conexão física no primeiro comando.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+
+        if (meterRegistry != null) {
+            this.primaryRoutes = Counter.builder("petshop.datasource.routes").tag("route", "primary").register(meterRegistry);
+            this.replicaRoutes = Counter.builder("petshop.datasource.routes").tag("route", "replica").register(meterRegistry);
+        } else {
+            this.primaryRoutes = null;
+            this.replicaRoutes = null;
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !RoutingContext.isPinnedToPrimary() ? Route.REPLICA : Route.PRIMARY;
+
+        Counter counter = (route == Route.REPLICA) ? replicaRoutes : primaryRoutes;
+        if (counter != null) counter.increment();
+        return route;
+    }
+}
@@ -0,0 +1,24 @@
+package com.br.pet_shop_management.infrastructure.datasource;
+
+/**
+ * Marca a thread atual para usar só o primário, mesmo em transações somente leitura:
+ * requisições de escrita (cujas leituras de checagem não podem vir atrasadas) e clientes
+ * dentro da janela de read-your-writes.
+ */
+public final class RoutingContext {
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private RoutingContext() {}
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
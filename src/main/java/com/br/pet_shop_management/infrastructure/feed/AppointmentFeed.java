@@ -0,0 +1,179 @@
+package com.br.pet_shop_management.infrastructure.feed;
+
+import com.br.pet_shop_management.application.event.AppointmentChangedEvent;
+import com.br.pet_shop_management.infrastructure.config.AppointmentFeedProperties;
+import com.br.pet_shop_management.infrastructure.web.AdmissionRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Distribui as mudanças de agendamento confirmadas aos assinantes SSE do dia. Cada assinante
+ * tem uma fila limitada esvaziada por uma tarefa própria, então um cliente lento não segura a
+ * thread do commit nem os demais; quando a fila enche ele é desconectado e reconecta depois.
+ */
+@Slf4j
+@Component
+public class AppointmentFeed {
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final AppointmentFeedProperties properties;
+    private final Executor sender;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter droppedSlow;
+    private final Counter droppedDisconnected;
+
+    @Autowired
+    public AppointmentFeed(AppointmentFeedProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("appointment-feed-", 0).factory()),
+                meterRegistry.getIfAvailable());
+    }
+
+    AppointmentFeed(AppointmentFeedProperties properties, Executor sender, MeterRegistry registry) {
+        this.properties = properties;
+        this.sender = sender;
+
+        if (registry != null) {
+            Gauge.builder("petshop.appointment-feed.subscribers", subscribers, Set::size).register(registry);
+            this.droppedSlow = Counter.builder("petshop.appointment-feed.dropped").tag("reason", "slow").register(registry);
+            this.droppedDisconnected = Counter.builder("petshop.appointment-feed.dropped").tag("reason", "disconnected").register(registry);
+        } else {
+            this.droppedSlow = null;
+            this.droppedDisconnected = null;
+        }
+    }
+
+    public SseEmitter subscribe(LocalDate date) {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            log.warn("appointmentFeed subscribe rejected: subscribers={}", subscribers.size());
+            throw new AdmissionRejectedException("Appointment feed is at capacity.", properties.getRetryAfter());
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(date, emitter, properties.getQueueCapacity());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        log.info("appointmentFeed subscribed: date={}, subscribers={}", date, subscribers.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        LocalDate date = event.scheduledAt().toLocalDate();
+        // remarcação para outro dia interessa também a quem acompanha o dia de origem
+        LocalDate previousDate = event.previousScheduledAt() == null ? date : event.previousScheduledAt().toLocalDate();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.date.equals(date) || subscriber.date.equals(previousDate)) {
+                enqueue(subscriber, event);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${appointment-feed.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, HEARTBEAT);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        if (sender instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Object message) {
+        if (!subscriber.queue.offer(message)) {
+            if (remove(subscriber, droppedSlow)) {
+                log.warn("appointmentFeed subscriber dropped: slow consumer. date={}, queueCapacity={}",
+                        subscriber.date, properties.getQueueCapacity());
+            }
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Object message;
+            while ((message = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(toSse(message));
+                } catch (IOException | IllegalStateException e) {
+                    // cliente que fechou a conexão: caso normal, sem WARN
+                    if (remove(subscriber, droppedDisconnected)) {
+                        log.info("appointmentFeed subscriber disconnected: date={}, msg={}", subscriber.date, e.getMessage());
+                    }
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // um evento pode ter entrado entre o último poll e a liberação da flag
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean remove(Subscriber subscriber, Counter counter) {
+        if (!subscribers.remove(subscriber)) return false;
+
+        subscriber.queue.clear();
+        if (counter != null) counter.increment();
+        // fora da thread do commit: complete() espera um send que pode estar preso no socket do cliente lento
+        sender.execute(subscriber.emitter::complete);
+        return true;
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(Object message) {
+        if (message == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        AppointmentChangedEvent event = (AppointmentChangedEvent) message;
+        return SseEmitter.event()
+                .name(event.type().name())
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private static final class Subscriber {
+        private final LocalDate date;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Object> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(LocalDate date, SseEmitter emitter, int capacity) {
+            this.date = date;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.br.pet_shop_management.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.br.pet_shop_management.AppointmentOperation")
+@Label("Appointment Operation")
+@Category({"Pet Shop", "Appointments"})
+@Description("createAppointment, addAppointmentItems e applyAction do AppointmentService")
+public class AppointmentOperationEvent extends OperationEvent {
+
+    @Label("Appointment Id")
+    public long appointmentId;
+
+    @Label("Owner Id")
+    public long ownerId;
+
+    @Label("Pet Id")
+    public long petId;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Items Count")
+    public int itemsCount;
+
+    private AppointmentOperationEvent(String operation) {
+        super(operation);
+    }
+
+    public static AppointmentOperationEvent begin(String operation) {
+        AppointmentOperationEvent event = new AppointmentOperationEvent(operation);
+        event.start();
+        return event;
+    }
+
+    public void setAppointmentId(Long appointmentId) {
+        this.appointmentId = idOf(appointmentId);
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = idOf(ownerId);
+    }
+
+    public void setPetId(Long petId) {
+        this.petId = idOf(petId);
+    }
+}
@@ -0,0 +1,95 @@
+package com.br.pet_shop_management.infrastructure.jfr;
+
+import com.br.pet_shop_management.infrastructure.config.JfrProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Gravação JFR contínua limitada por idade e tamanho (jfr.recording.max-age / max-size).
+ * Um dump grava só essa janela em arquivo local, sem parar a gravação; ficam só os
+ * jfr.recording.max-dumps arquivos mais novos, para dumps repetidos não encherem o disco.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jfr.recording", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ContinuousRecording {
+
+    private static final String FILE_PREFIX = "pet-shop-";
+    private static final String FILE_SUFFIX = ".jfr";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final JfrProperties properties;
+
+    private Recording recording;
+
+    @PostConstruct
+    void start() throws IOException, ParseException {
+        recording = new Recording(Configuration.getConfiguration("default"));
+        recording.setName("pet-shop-continuous");
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        recording.setToDisk(true);
+        recording.enable(AppointmentOperationEvent.class);
+        recording.enable(PaymentOperationEvent.class);
+        recording.enable(OwnerOperationEvent.class);
+        recording.start();
+
+        log.info("jfrRecording started: maxAge={}, maxSize={}", properties.getMaxAge(), properties.getMaxSize());
+    }
+
+    public synchronized JfrDump dump() throws IOException {
+        Files.createDirectories(properties.getDumpDirectory());
+        LocalDateTime createdAt = LocalDateTime.now();
+        Path file = properties.getDumpDirectory().resolve(FILE_PREFIX + FILE_TIMESTAMP.format(createdAt) + FILE_SUFFIX);
+
+        recording.dump(file);
+        long sizeBytes = Files.size(file);
+        deleteOlderDumps();
+
+        log.info("jfrRecording dumped: file={}, sizeBytes={}", file, sizeBytes);
+        return new JfrDump(file.toAbsolutePath().toString(), sizeBytes, properties.getMaxAge(), createdAt);
+    }
+
+    // O timestamp no nome ordena os arquivos do mais antigo para o mais novo
+    private void deleteOlderDumps() throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(properties.getDumpDirectory())) {
+            dumps = files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        }
+
+        int keep = Math.max(1, properties.getMaxDumps());
+        for (Path old : dumps.subList(0, Math.max(0, dumps.size() - keep))) {
+            Files.deleteIfExists(old);
+            log.info("jfrRecording old dump deleted: file={}", old);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.br.pet_shop_management.infrastructure.jfr;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public record JfrDump(String file,
+                      long sizeBytes,
+                      Duration window,
+                      LocalDateTime createdAt) {
+}
@@ -0,0 +1,26 @@
+package com.br.pet_shop_management.infrastructure.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * POST /actuator/jfr: grava em arquivo local a janela atual da gravação contínua.
+ */
+@Component
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jfr.recording", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JfrEndpoint {
+
+    private final ContinuousRecording continuousRecording;
+
+    @WriteOperation
+    public JfrDump dump() throws IOException {
+        return continuousRecording.dump();
+    }
+}
@@ -0,0 +1,82 @@
+package com.br.pet_shop_management.infrastructure.jfr;
+
+import com.br.pet_shop_management.infrastructure.metrics.StatementCountingInspector;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Base dos eventos JFR de operações de negócio. O evento começa dentro do serviço e só é gravado
+ * no fim da transação, para que flush, commit e o desfecho entrem na medição.
+ * Sem gravação JFR ativa, start() não registra nada e os campos são apenas atribuições.
+ */
+@Category("Pet Shop")
+@StackTrace(false)
+public abstract class OperationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("SQL Statements")
+    public long statements;
+
+    @Label("Lock Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long lockWait;
+
+    @Label("Outcome")
+    public String outcome;
+
+    private transient long statementsAtBegin;
+
+    protected OperationEvent(String operation) {
+        this.operation = operation;
+    }
+
+    protected void start() {
+        if (!isEnabled()) return;
+
+        statementsAtBegin = StatementCountingInspector.current();
+        begin();
+
+        // Fora de transação (ex.: testes unitários) não há fim de transação para gravar o evento
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    finish(status);
+                }
+            });
+        }
+    }
+
+    /** Mede a espera pelo lock pessimista (select ... for update). */
+    public <T> T timeLockWait(Supplier<T> lockingQuery) {
+        long startedAt = System.nanoTime();
+        try {
+            return lockingQuery.get();
+        } finally {
+            lockWait = System.nanoTime() - startedAt;
+        }
+    }
+
+    private void finish(int status) {
+        statements = StatementCountingInspector.current() - statementsAtBegin;
+        outcome = switch (status) {
+            case TransactionSynchronization.STATUS_COMMITTED -> "COMMITTED";
+            case TransactionSynchronization.STATUS_ROLLED_BACK -> "ROLLED_BACK";
+            default -> "UNKNOWN";
+        };
+        commit();
+    }
+
+    protected static long idOf(Long id) {
+        return id == null ? 0 : id;
+    }
+}
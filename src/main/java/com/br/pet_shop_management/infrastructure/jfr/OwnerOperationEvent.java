@@ -0,0 +1,36 @@
+package com.br.pet_shop_management.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.br.pet_shop_management.OwnerOperation")
+@Label("Owner Operation")
+@Category({"Pet Shop", "Owners"})
+@Description("applyAction do OwnerService")
+public class OwnerOperationEvent extends OperationEvent {
+
+    @Label("Owner Id")
+    public long ownerId;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Pets Updated")
+    public int petsUpdated;
+
+    private OwnerOperationEvent(String operation) {
+        super(operation);
+    }
+
+    public static OwnerOperationEvent begin(String operation) {
+        OwnerOperationEvent event = new OwnerOperationEvent(operation);
+        event.start();
+        return event;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = idOf(ownerId);
+    }
+}
@@ -0,0 +1,43 @@
+package com.br.pet_shop_management.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.br.pet_shop_management.PaymentOperation")
+@Label("Payment Operation")
+@Category({"Pet Shop", "Payments"})
+@Description("registerPayment do PaymentService")
+public class PaymentOperationEvent extends OperationEvent {
+
+    @Label("Appointment Id")
+    public long appointmentId;
+
+    @Label("Payment Id")
+    public long paymentId;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Installments")
+    public int installments;
+
+    private PaymentOperationEvent(String operation) {
+        super(operation);
+    }
+
+    public static PaymentOperationEvent begin(String operation) {
+        PaymentOperationEvent event = new PaymentOperationEvent(operation);
+        event.start();
+        return event;
+    }
+
+    public void setAppointmentId(Long appointmentId) {
+        this.appointmentId = idOf(appointmentId);
+    }
+
+    public void setPaymentId(Long paymentId) {
+        this.paymentId = idOf(paymentId);
+    }
+}
@@ -0,0 +1,97 @@
+package com.br.pet_shop_management.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Amostragem por logger: cada logger sob loggerPrefix emite no máximo maxInfoPerSecond linhas
+ * INFO (ou abaixo) por segundo; WARN e ERROR sempre passam. Como é um TurboFilter, a linha
+ * descartada não chega a virar evento nem a formatar parâmetros.
+ */
+public class LoggerRateSamplingFilter extends TurboFilter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final ConcurrentHashMap<String, AtomicLong> windows = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private final LongSupplier currentTimeMillis;
+
+    private int maxInfoPerSecond = 50;
+    private String loggerPrefix = "";
+
+    public LoggerRateSamplingFilter() {
+        this(System::currentTimeMillis);
+    }
+
+    LoggerRateSamplingFilter(LongSupplier currentTimeMillis) {
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format nulo = checagem isXxxEnabled(); níveis desligados já são barrados pelo próprio logger
+        if (!isStarted() || format == null || level == null
+                || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        AtomicLong window = windows.computeIfAbsent(logger.getName(), name -> new AtomicLong());
+        if (tryAcquire(window, currentTimeMillis.getAsLong() / 1000)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        dropped.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    // Janela de um segundo por logger em um único long: segundo nos bits altos, contador nos baixos
+    private boolean tryAcquire(AtomicLong window, long second) {
+        while (true) {
+            long current = window.get();
+            long currentSecond = current >>> COUNT_BITS;
+            long count = current & COUNT_MASK;
+
+            if (currentSecond == second && count >= maxInfoPerSecond) {
+                return false;
+            }
+
+            long next = currentSecond == second
+                    ? current + 1
+                    : (second << COUNT_BITS) | 1;
+            if (window.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public void setMaxInfoPerSecond(int maxInfoPerSecond) {
+        this.maxInfoPerSecond = maxInfoPerSecond;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix == null ? "" : loggerPrefix;
+    }
+
+    @Override
+    public void start() {
+        if (maxInfoPerSecond < 0 || maxInfoPerSecond > COUNT_MASK) {
+            addError("maxInfoPerSecond must be between 0 and " + COUNT_MASK);
+            return;
+        }
+        super.start();
+    }
+}
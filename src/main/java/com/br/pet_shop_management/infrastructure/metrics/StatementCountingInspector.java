@@ -0,0 +1,36 @@
+package com.br.pet_shop_management.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread atual.
+ * Registrado via hibernate.session_factory.statement_inspector; a requisição zera e lê o contador.
+ * Os {@code nextval} das sequences pooled também são contados à parte: só aparecem quando o bloco
+ * de ids do nó acaba, então quem precisa de uma contagem estável (os orçamentos dos testes) os desconta.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[2]);
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        count[0]++;
+        if (sql.regionMatches(true, 0, "select nextval(", 0, 15)) count[1]++;
+        return sql;
+    }
+
+    public static long current() {
+        return COUNT.get()[0];
+    }
+
+    public static long sequenceFetches() {
+        return COUNT.get()[1];
+    }
+
+    public static void reset() {
+        long[] count = COUNT.get();
+        count[0] = 0;
+        count[1] = 0;
+    }
+}
@@ -2,6 +2,7 @@ package com.br.pet_shop_management.infrastructure.persistence;
 
 import com.br.pet_shop_management.domain.entity.AppointmentEntity;
 import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.domain.resource.ResourceOccupancy;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,11 +12,13 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface AppointmentRepository extends JpaRepository<AppointmentEntity, Long> {
+public interface AppointmentRepository extends JpaRepository<AppointmentEntity, Long>, AppointmentRepositoryCustom {
     @EntityGraph(attributePaths = {"owner", "pet"})
     Optional<AppointmentEntity> findDetailedById(Long id);
 
@@ -27,7 +30,7 @@ public interface AppointmentRepository extends JpaRepository<AppointmentEntity,
     @EntityGraph(attributePaths = {"owner", "pet"})
     @Query("""
     select a from AppointmentEntity a where a.scheduledAt > :now
-      and a.status in :statuses order by a.scheduledAt asc""")
+      and a.status in :statuses order by a.scheduledAt asc, a.id asc""")
     Page<AppointmentEntity> findFutureByStatuses(
             @Param("now") LocalDateTime now,
             @Param("statuses") List<AppointmentStatus> statuses,
@@ -36,12 +39,69 @@ public interface AppointmentRepository extends JpaRepository<AppointmentEntity,
     @EntityGraph(attributePaths = {"owner", "pet"})
     @Query("""
     select a from AppointmentEntity a where a.scheduledAt < :now
-      and a.status in :statuses order by a.scheduledAt desc""")
+      and a.status in :statuses order by a.scheduledAt desc, a.id desc""")
     Page<AppointmentEntity> findHistoryByStatuses(
             @Param("now") LocalDateTime now,
             @Param("statuses") List<AppointmentStatus> statuses,
             Pageable pageable);
 
+    // Carga da agenda de um dia (idx_appointments_scheduled_id): só ids de owner/pet, sem join
+    @Query("""
+    select a from AppointmentEntity a where a.scheduledAt >= :from and a.scheduledAt < :to
+      order by a.scheduledAt asc, a.id asc""")
+    List<AppointmentEntity> findScheduledBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // Conflitos de uma série inteira em uma consulta (idx_appointments_pet_scheduled_status)
+    @Query("""
+    select a.scheduledAt from AppointmentEntity a where a.pet.id = :petId
+      and a.scheduledAt >= :from and a.scheduledAt <= :to and a.status in :statuses""")
+    List<LocalDateTime> findBookedTimes(
+            @Param("petId") Long petId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("statuses") List<AppointmentStatus> statuses);
+
+    // Ocupação dos recursos só nos dias pedidos (idx_appointments_staff_day / idx_appointments_station_day):
+    // uma linha por agendamento, com a duração somada dos itens no catálogo
+    @Query("""
+    select new com.br.pet_shop_management.domain.resource.ResourceOccupancy(
+           a.id, a.staff.id, a.station.id, a.scheduledAt, sum(c.durationMinutes * i.quantity))
+      from AppointmentItemEntity i join i.appointment a join i.catalog c
+     where cast(a.scheduledAt as LocalDate) in :days and a.status in :statuses
+       and (a.staff is not null or a.station is not null)
+     group by a.id, a.staff.id, a.station.id, a.scheduledAt""")
+    List<ResourceOccupancy> findResourceOccupancy(
+            @Param("days") Collection<LocalDate> days,
+            @Param("statuses") List<AppointmentStatus> statuses);
+
+    // Mesmo que findBookedTimes, sem os agendamentos que a remarcação está movendo (saem juntos do
+    // horário antigo); as ocorrências da série que ficam onde estão continuam contando como conflito
+    @Query("""
+    select a.scheduledAt from AppointmentEntity a where a.pet.id = :petId
+      and a.scheduledAt >= :from and a.scheduledAt <= :to and a.status in :statuses
+      and a.id not in :movingIds""")
+    List<LocalDateTime> findBookedTimesExcept(
+            @Param("petId") Long petId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("statuses") List<AppointmentStatus> statuses,
+            @Param("movingIds") Collection<Long> movingIds);
+
+    // Ocorrências que a remarcação vai mover, com recursos e duração para reavaliar a ocupação
+    @Query("""
+    select new com.br.pet_shop_management.domain.resource.ResourceOccupancy(
+           a.id, a.staff.id, a.station.id, a.scheduledAt, sum(c.durationMinutes * i.quantity))
+      from AppointmentItemEntity i join i.appointment a join i.catalog c
+     where a.series.id = :seriesId and a.status = :status and a.scheduledAt > :after
+     group by a.id, a.staff.id, a.station.id, a.scheduledAt
+     order by a.scheduledAt""")
+    List<ResourceOccupancy> findSeriesOccupancy(
+            @Param("seriesId") Long seriesId,
+            @Param("status") AppointmentStatus status,
+            @Param("after") LocalDateTime after);
+
     boolean existsByPetIdAndScheduledAtAndStatusIn(Long petId, LocalDateTime scheduledAt, List<AppointmentStatus> statuses);
     boolean existsByOwnerIdAndStatusIn(Long ownerId, List<AppointmentStatus> statuses);
 }
\ No newline at end of file
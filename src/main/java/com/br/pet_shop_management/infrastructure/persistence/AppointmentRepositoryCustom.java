@@ -0,0 +1,19 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.domain.appointment.AppointmentSummary;
+import com.br.pet_shop_management.domain.entity.AppointmentEntity;
+import com.br.pet_shop_management.domain.resource.ResourceOccupancy;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AppointmentRepositoryCustom {
+    List<AppointmentSummary> searchSummaries(Specification<AppointmentEntity> spec, Sort.Direction direction, int limit);
+
+    List<AppointmentSummary> cancelSeries(Long seriesId, LocalDateTime after);
+
+    List<AppointmentSummary> shiftSeries(Long seriesId, LocalDateTime after, Duration shift, List<ResourceOccupancy> assignments);
+}
@@ -0,0 +1,126 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.domain.appointment.AppointmentSummary;
+import com.br.pet_shop_management.domain.entity.AppointmentEntity;
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.domain.resource.ResourceOccupancy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+public class AppointmentRepositoryCustomImpl implements AppointmentRepositoryCustom {
+
+    // Só ocorrências futuras ainda não iniciadas; as demais já são do dia a dia do balcão
+    private static final String SERIES_SCOPE = """
+             a.series_id = :seriesId and a.status = 'SCHEDULED' and a.scheduled_at > :after
+            returning a.id, a.owner_id, a.pet_id, a.scheduled_at, a.status, a.total_gross, a.closed_at, a.version""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Seleciona só as colunas do resumo (owner e pet pela FK, sem join), na ordem
+     * (scheduledAt, id) que a paginação por chave usa como cursor.
+     */
+    @Override
+    public List<AppointmentSummary> searchSummaries(Specification<AppointmentEntity> spec, Sort.Direction direction, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AppointmentSummary> query = cb.createQuery(AppointmentSummary.class);
+        Root<AppointmentEntity> root = query.from(AppointmentEntity.class);
+
+        query.select(cb.construct(AppointmentSummary.class,
+                root.get("id"),
+                root.get("owner").get("id"),
+                root.get("pet").get("id"),
+                root.get("scheduledAt"),
+                root.get("status"),
+                root.get("totalGross"),
+                root.get("closedAt"),
+                root.get("version")));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(direction == Sort.Direction.DESC
+                ? List.of(cb.desc(root.get("scheduledAt")), cb.desc(root.get("id")))
+                : List.of(cb.asc(root.get("scheduledAt")), cb.asc(root.get("id"))));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<AppointmentSummary> cancelSeries(Long seriesId, LocalDateTime after) {
+        return updateSeries("update appointments a set status = 'CANCELED', version = a.version + 1 where" + SERIES_SCOPE,
+                seriesId, after, null, null);
+    }
+
+    // Os recursos de cada ocorrência chegam em arrays paralelos: continua um UPDATE só
+    @Override
+    public List<AppointmentSummary> shiftSeries(Long seriesId, LocalDateTime after, Duration shift,
+                                                List<ResourceOccupancy> assignments) {
+        return updateSeries("""
+                update appointments a set scheduled_at = a.scheduled_at + :shiftSeconds * interval '1 second',
+                       staff_id = r.staff_id, station_id = r.station_id, version = a.version + 1
+                  from unnest(cast(:ids as bigint[]), cast(:staffIds as bigint[]), cast(:stationIds as bigint[]))
+                       as r(id, staff_id, station_id)
+                 where a.id = r.id and""" + SERIES_SCOPE,
+                seriesId, after, shift, assignments);
+    }
+
+    /**
+     * Um único UPDATE com RETURNING: altera todas as ocorrências da série e devolve as linhas
+     * como ficaram, para os eventos pós-commit, sem um SELECT antes ou depois.
+     */
+    @SuppressWarnings("unchecked")
+    private List<AppointmentSummary> updateSeries(String sql, Long seriesId, LocalDateTime after, Duration shift,
+                                                  List<ResourceOccupancy> assignments) {
+        // o UPDATE não passa pelo contexto de persistência: nada carregado pode ficar pendente ou desatualizado
+        entityManager.flush();
+        entityManager.clear();
+
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .addScalar("owner_id", Long.class)
+                .addScalar("pet_id", Long.class)
+                .addScalar("scheduled_at", LocalDateTime.class)
+                .addScalar("status", String.class)
+                .addScalar("total_gross", BigDecimal.class)
+                .addScalar("closed_at", LocalDateTime.class)
+                .addScalar("version", Long.class)
+                .setParameter("seriesId", seriesId)
+                .setParameter("after", after);
+        if (shift != null) {
+            query.setParameter("shiftSeconds", shift.toSeconds());
+        }
+        if (assignments != null) {
+            query.setParameter("ids", assignments.stream().map(ResourceOccupancy::appointmentId).toArray(Long[]::new));
+            query.setParameter("staffIds", assignments.stream().map(ResourceOccupancy::staffId).toArray(Long[]::new));
+            query.setParameter("stationIds", assignments.stream().map(ResourceOccupancy::stationId).toArray(Long[]::new));
+        }
+
+        return query.getResultList().stream()
+                .map(row -> new AppointmentSummary(
+                        (Long) row[0],
+                        (Long) row[1],
+                        (Long) row[2],
+                        (LocalDateTime) row[3],
+                        AppointmentStatus.valueOf((String) row[4]),
+                        (BigDecimal) row[5],
+                        (LocalDateTime) row[6],
+                        (Long) row[7]))
+                // RETURNING não garante ordem
+                .sorted(Comparator.comparing(AppointmentSummary::scheduledAt).thenComparing(AppointmentSummary::id))
+                .toList();
+    }
+}
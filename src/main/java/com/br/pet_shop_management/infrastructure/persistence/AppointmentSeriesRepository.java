@@ -0,0 +1,19 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.domain.entity.AppointmentSeriesEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface AppointmentSeriesRepository extends JpaRepository<AppointmentSeriesEntity, Long> {
+    // Serializa cancelamentos/remarcações da mesma série
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = {"owner", "pet"})
+    @Query("select s from AppointmentSeriesEntity s where s.id = :id")
+    Optional<AppointmentSeriesEntity> findDetailedByIdForUpdate(@Param("id") Long id);
+}
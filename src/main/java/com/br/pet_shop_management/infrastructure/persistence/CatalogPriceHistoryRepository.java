@@ -0,0 +1,22 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.domain.catalog.CatalogPriceVersion;
+import com.br.pet_shop_management.domain.entity.CatalogPriceHistoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CatalogPriceHistoryRepository extends JpaRepository<CatalogPriceHistoryEntity, Long>, CatalogPriceHistoryRepositoryCustom {
+    @Query("""
+    select new com.br.pet_shop_management.domain.catalog.CatalogPriceVersion(
+      h.catalog.id, h.effectiveFrom, h.priceSmall, h.priceMedium, h.priceLarge)
+    from CatalogPriceHistoryEntity h""")
+    List<CatalogPriceVersion> findAllVersions();
+
+    @Modifying
+    @Query("delete from CatalogPriceHistoryEntity h where h.catalog.id = :catalogId")
+    int deleteByCatalogId(@Param("catalogId") Long catalogId);
+}
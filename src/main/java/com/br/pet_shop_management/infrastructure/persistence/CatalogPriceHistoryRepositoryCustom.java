@@ -0,0 +1,9 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.domain.catalog.CatalogPriceVersion;
+
+import java.util.List;
+
+public interface CatalogPriceHistoryRepositoryCustom {
+    int insertVersionSet(List<CatalogPriceVersion> versions);
+}
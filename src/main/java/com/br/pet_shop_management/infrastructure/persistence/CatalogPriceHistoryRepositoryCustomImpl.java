@@ -0,0 +1,37 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.domain.catalog.CatalogPriceVersion;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+public class CatalogPriceHistoryRepositoryCustomImpl implements CatalogPriceHistoryRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Um único INSERT multi-linha para todo o conjunto de versões
+    @Override
+    public int insertVersionSet(List<CatalogPriceVersion> versions) {
+        if (versions == null || versions.isEmpty()) return 0;
+
+        StringBuilder sql = new StringBuilder("""
+                insert into catalog_price_history (catalog_id, effective_from, price_small, price_medium, price_large) values\s""");
+        for (int i = 0; i < versions.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?)");
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (CatalogPriceVersion version : versions) {
+            query.setParameter(position++, version.catalogId());
+            query.setParameter(position++, version.effectiveFrom());
+            query.setParameter(position++, version.priceSmall());
+            query.setParameter(position++, version.priceMedium());
+            query.setParameter(position++, version.priceLarge());
+        }
+        return query.executeUpdate();
+    }
+}
@@ -4,9 +4,11 @@ import com.br.pet_shop_management.domain.entity.CatalogEntity;
 import com.br.pet_shop_management.domain.enums.Status;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface CatalogRepository extends JpaRepository<CatalogEntity, Long> {
+public interface CatalogRepository extends JpaRepository<CatalogEntity, Long>, CatalogRepositoryCustom {
     Page<CatalogEntity> findByStatus(Status status, Pageable pageable);
+    Slice<CatalogEntity> findSliceByStatus(Status status, Pageable pageable);
     boolean existsByName(String name);
 }
\ No newline at end of file
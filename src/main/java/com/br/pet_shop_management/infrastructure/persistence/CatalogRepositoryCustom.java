@@ -0,0 +1,13 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.domain.catalog.CatalogPriceChange;
+import com.br.pet_shop_management.domain.enums.Status;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CatalogRepositoryCustom {
+    List<CatalogPriceChange> adjustPrices(BigDecimal factor, BigDecimal delta, Status status, Collection<Long> catalogIds, LocalDateTime at);
+}
@@ -0,0 +1,79 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.domain.catalog.CatalogPriceChange;
+import com.br.pet_shop_management.domain.enums.Status;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class CatalogRepositoryCustomImpl implements CatalogRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Um único UPDATE para todo o conjunto filtrado. O preço de partida é o vigente em {@code at}
+     * (histórico, ou a coluna base quando não há versão), e as linhas são travadas antes do cálculo.
+     * round(numeric, 2) do PostgreSQL arredonda metade para longe do zero, o mesmo que HALF_UP para preços positivos.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CatalogPriceChange> adjustPrices(BigDecimal factor, BigDecimal delta, Status status, Collection<Long> catalogIds, LocalDateTime at) {
+        StringBuilder filter = new StringBuilder("true");
+        if (status != null) filter.append(" and ct.status = :status");
+        if (catalogIds != null && !catalogIds.isEmpty()) filter.append(" and ct.id in (:catalogIds)");
+
+        String sql = """
+                update catalog c set
+                  price_small = round(cur.price_small * :factor + :delta, 2),
+                  price_medium = round(cur.price_medium * :factor + :delta, 2),
+                  price_large = round(cur.price_large * :factor + :delta, 2),
+                  version = coalesce(c.version, 0) + 1
+                from (
+                  select ct.id,
+                    coalesce(h.price_small, ct.price_small) as price_small,
+                    coalesce(h.price_medium, ct.price_medium) as price_medium,
+                    coalesce(h.price_large, ct.price_large) as price_large
+                  from catalog ct
+                  left join lateral (
+                    select ph.price_small, ph.price_medium, ph.price_large
+                    from catalog_price_history ph
+                    where ph.catalog_id = ct.id and ph.effective_from <= :at
+                    order by ph.effective_from desc
+                    limit 1
+                  ) h on true
+                  where %s
+                  for update of ct
+                ) cur
+                where c.id = cur.id
+                returning c.id, c.name,
+                  cur.price_small, c.price_small,
+                  cur.price_medium, c.price_medium,
+                  cur.price_large, c.price_large""".formatted(filter);
+
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("factor", factor)
+                .setParameter("delta", delta)
+                .setParameter("at", at);
+        if (status != null) query.setParameter("status", status.name());
+        if (catalogIds != null && !catalogIds.isEmpty()) query.setParameter("catalogIds", catalogIds);
+
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .map(row -> new CatalogPriceChange(
+                        ((Number) row[0]).longValue(),
+                        (String) row[1],
+                        (BigDecimal) row[2],
+                        (BigDecimal) row[3],
+                        (BigDecimal) row[4],
+                        (BigDecimal) row[5],
+                        (BigDecimal) row[6],
+                        (BigDecimal) row[7]))
+                .toList();
+    }
+}
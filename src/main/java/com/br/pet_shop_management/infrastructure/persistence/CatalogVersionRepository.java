@@ -0,0 +1,19 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.domain.entity.CatalogVersionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersionEntity, Long> {
+    @Query("select v.version from CatalogVersionEntity v where v.id = 1")
+    Optional<Long> findCurrentVersion();
+
+    @Modifying
+    @Query(value = """
+    insert into catalog_version (id, version) values (1, 1)
+    on conflict (id) do update set version = catalog_version.version + 1""", nativeQuery = true)
+    void increment();
+}
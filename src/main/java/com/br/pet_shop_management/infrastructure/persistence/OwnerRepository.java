@@ -4,11 +4,19 @@ import com.br.pet_shop_management.domain.entity.OwnerEntity;
 import com.br.pet_shop_management.domain.enums.Status;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.Optional;
 
 public interface OwnerRepository extends JpaRepository<OwnerEntity, Long> {
     boolean existsByCpf(String cpf);
     Optional<OwnerEntity> findByCpf(String cpf);
     Page<OwnerEntity> findByStatus(Status status, Pageable pageable);
+    Slice<OwnerEntity> findSliceByStatus(Status status, Pageable pageable);
+
+    @Query("select o.version from OwnerEntity o where o.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -1,14 +1,20 @@
 package com.br.pet_shop_management.infrastructure.persistence;
 
 import com.br.pet_shop_management.domain.entity.PetEntity;
+import com.br.pet_shop_management.domain.enums.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
+
 public interface PetRepository extends JpaRepository<PetEntity, Long>, JpaSpecificationExecutor<PetEntity> {
-    @Query("""
-    select case when count(p) > 0 then true else false end
-    from PetEntity p where p.owner.id = :ownerId and lower(p.name) = lower(:name)""")
-    boolean existsPetDuplicate(@Param("ownerId") Long ownerId, @Param("name") String name);
+    @Query("select p.version from PetEntity p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update PetEntity p set p.ownerStatus = :status where p.owner.id = :ownerId")
+    int updateOwnerStatus(@Param("ownerId") Long ownerId, @Param("status") Status status);
 }
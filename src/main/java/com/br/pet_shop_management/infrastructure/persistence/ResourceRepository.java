@@ -0,0 +1,30 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.domain.entity.ResourceEntity;
+import com.br.pet_shop_management.domain.enums.ResourceType;
+import com.br.pet_shop_management.domain.enums.Status;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ResourceRepository extends JpaRepository<ResourceEntity, Long> {
+    boolean existsByName(String name);
+
+    List<ResourceEntity> findAllByOrderByTypeAscNameAsc();
+
+    List<ResourceEntity> findByTypeOrderByNameAsc(ResourceType type);
+
+    List<ResourceEntity> findByStatusOrderByIdAsc(Status status);
+
+    // Serializa só as reservas que disputam os mesmos dias: uma trava consultiva por dia (chave
+    // 50 = recursos, dias desde a época), liberada no commit ou rollback. Em ordem crescente para
+    // que duas transações nunca se esperem em ciclo.
+    @Query(value = """
+    select count(*) from (
+        select pg_advisory_xact_lock(50, d)
+          from (select distinct d from unnest(cast(:epochDays as integer[])) d order by d) days
+    ) locked""", nativeQuery = true)
+    long lockDays(@Param("epochDays") Integer[] epochDays);
+}
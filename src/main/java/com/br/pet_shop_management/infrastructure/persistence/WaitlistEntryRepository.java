@@ -0,0 +1,35 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.domain.entity.WaitlistEntryEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntryEntity, Long> {
+    // Dois nós com a mesma fila em memória não reservam a mesma entrada duas vezes
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = {"owner", "pet"})
+    @Query("select e from WaitlistEntryEntity e where e.id = :id")
+    Optional<WaitlistEntryEntity> findDetailedByIdForUpdate(@Param("id") Long id);
+
+    // Recarga da fila na subida (idx_waitlist_entries_status_date): owner/pet só pelo id, sem join
+    @Query("""
+    select e from WaitlistEntryEntity e
+     where e.status = com.br.pet_shop_management.domain.enums.WaitlistStatus.WAITING and e.desiredDate >= :from""")
+    List<WaitlistEntryEntity> findWaitingFrom(@Param("from") LocalDate from);
+
+    @Modifying
+    @Query("""
+    update WaitlistEntryEntity e set e.status = com.br.pet_shop_management.domain.enums.WaitlistStatus.EXPIRED,
+           e.version = e.version + 1
+     where e.status = com.br.pet_shop_management.domain.enums.WaitlistStatus.WAITING and e.desiredDate < :before""")
+    int expireBefore(@Param("before") LocalDate before);
+}
@@ -0,0 +1,73 @@
+package com.br.pet_shop_management.infrastructure.persistence.spec;
+
+import com.br.pet_shop_management.domain.entity.AppointmentEntity;
+import com.br.pet_shop_management.domain.entity.AppointmentItemEntity;
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public final class AppointmentSpecifications {
+    private AppointmentSpecifications() {}
+
+    public static Specification<AppointmentEntity> hasOwnerId(Long ownerId) {
+        return (root, query, cb) ->
+                ownerId == null ? cb.conjunction() : cb.equal(root.get("owner").get("id"), ownerId);
+    }
+
+    public static Specification<AppointmentEntity> hasPetId(Long petId) {
+        return (root, query, cb) ->
+                petId == null ? cb.conjunction() : cb.equal(root.get("pet").get("id"), petId);
+    }
+
+    public static Specification<AppointmentEntity> hasStatusIn(Collection<AppointmentStatus> statuses) {
+        return (root, query, cb) ->
+                statuses == null || statuses.isEmpty() ? cb.conjunction() : root.get("status").in(statuses);
+    }
+
+    // exists em vez de join: um agendamento com o serviço repetido não aparece duas vezes
+    public static Specification<AppointmentEntity> hasCatalogId(Long catalogId) {
+        return (root, query, cb) -> {
+            if (catalogId == null) return cb.conjunction();
+
+            Subquery<Long> items = query.subquery(Long.class);
+            var item = items.from(AppointmentItemEntity.class);
+            items.select(item.get("id")).where(
+                    cb.equal(item.get("appointment"), root),
+                    cb.equal(item.get("catalog").get("id"), catalogId));
+            return cb.exists(items);
+        };
+    }
+
+    public static Specification<AppointmentEntity> scheduledFrom(LocalDateTime from) {
+        return (root, query, cb) ->
+                from == null ? cb.conjunction() : cb.greaterThanOrEqualTo(root.get("scheduledAt"), from);
+    }
+
+    public static Specification<AppointmentEntity> scheduledBefore(LocalDateTime to) {
+        return (root, query, cb) ->
+                to == null ? cb.conjunction() : cb.lessThan(root.get("scheduledAt"), to);
+    }
+
+    /**
+     * Posição depois da última linha entregue, na ordem (scheduledAt, id). A primeira condição
+     * é um limite de faixa que o índice usa; a segunda só desempata o instante da própria linha.
+     */
+    public static Specification<AppointmentEntity> after(LocalDateTime scheduledAt, Long id, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            if (scheduledAt == null || id == null) return cb.conjunction();
+
+            if (direction == Sort.Direction.DESC) {
+                return cb.and(
+                        cb.lessThanOrEqualTo(root.get("scheduledAt"), scheduledAt),
+                        cb.or(cb.lessThan(root.get("scheduledAt"), scheduledAt), cb.lessThan(root.get("id"), id)));
+            }
+            return cb.and(
+                    cb.greaterThanOrEqualTo(root.get("scheduledAt"), scheduledAt),
+                    cb.or(cb.greaterThan(root.get("scheduledAt"), scheduledAt), cb.greaterThan(root.get("id"), id)));
+        };
+    }
+}
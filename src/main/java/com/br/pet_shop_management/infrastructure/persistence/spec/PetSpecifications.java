@@ -26,6 +26,6 @@ public final class PetSpecifications {
 
     public static Specification<PetEntity> hasOwnerStatus(Status status) {
         return (root, query, cb) ->
-                status == null ? cb.conjunction() : cb.equal(root.get("owner").get("status"), status);
+                status == null ? cb.conjunction() : cb.equal(root.get("ownerStatus"), status);
     }
 }
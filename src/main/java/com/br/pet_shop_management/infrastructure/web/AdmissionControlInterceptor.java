@@ -0,0 +1,56 @@
+package com.br.pet_shop_management.infrastructure.web;
+
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Admite a requisição no AdmissionLimiter antes do handler e devolve a vaga ao final.
+ * Em requisições assíncronas (streams) a vaga é devolvida quando a thread original é liberada.
+ */
+@RequiredArgsConstructor
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ADMITTED_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".admitted";
+
+    private final AdmissionLimiter limiter;
+    private final Duration retryAfter;
+    private final Counter rejected;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(ADMITTED_ATTRIBUTE) != null) {
+            return true;
+        }
+
+        if (!limiter.tryAcquire()) {
+            if (rejected != null) rejected.increment();
+            throw new AdmissionRejectedException("Server is busy. Please retry later.", retryAfter);
+        }
+
+        request.setAttribute(ADMITTED_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    private void release(HttpServletRequest request) {
+        if (Boolean.TRUE.equals(request.getAttribute(ADMITTED_ATTRIBUTE))) {
+            // Marca como devolvida sem remover, para o dispatch assíncrono não tentar admitir de novo
+            request.setAttribute(ADMITTED_ATTRIBUTE, Boolean.FALSE);
+            limiter.release();
+        }
+    }
+}
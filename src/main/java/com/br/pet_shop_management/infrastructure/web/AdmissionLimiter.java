@@ -0,0 +1,65 @@
+package com.br.pet_shop_management.infrastructure.web;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limita as requisições em execução ao número de conexões do pool. As excedentes esperam em uma
+ * fila curta (barata com virtual threads) por até maxWait; com a fila cheia ou o prazo vencido,
+ * a requisição é recusada antes de ocupar thread de banco ou conexão.
+ */
+public class AdmissionLimiter {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public AdmissionLimiter(int permits, int maxQueue, Duration maxWait) {
+        if (permits < 1) throw new IllegalArgumentException("Admission permits must be at least 1.");
+        if (maxQueue < 0) throw new IllegalArgumentException("Admission queue must not be negative.");
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            return false;
+        }
+
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int inFlight() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    public int waiting() {
+        return waiting.get();
+    }
+
+    public int maxPermits() {
+        return maxPermits;
+    }
+}
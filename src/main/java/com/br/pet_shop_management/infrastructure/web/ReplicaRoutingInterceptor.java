@@ -0,0 +1,56 @@
+package com.br.pet_shop_management.infrastructure.web;
+
+import com.br.pet_shop_management.infrastructure.datasource.ReadYourWritesTracker;
+import com.br.pet_shop_management.infrastructure.datasource.RoutingContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * Prende ao primário as requisições de escrita e as leituras do cliente que escreveu há
+ * pouco; ao fim de uma escrita bem-sucedida abre a janela de read-your-writes do cliente.
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReadYourWritesTracker tracker;
+    private final String clientIdHeader;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isWrite(request) || tracker.isWithinWindow(clientId(request))) {
+            RoutingContext.pinToPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RoutingContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        try {
+            if (isWrite(request) && ex == null && response.getStatus() < 400) {
+                tracker.recordWrite(clientId(request));
+            }
+        } finally {
+            RoutingContext.clear();
+        }
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        return !SAFE_METHODS.contains(request.getMethod());
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String header = request.getHeader(clientIdHeader);
+        return (header == null || header.isBlank()) ? request.getRemoteAddr() : header;
+    }
+}
@@ -0,0 +1,13 @@
+package com.br.pet_shop_management.util;
+
+public final class ETagUtils {
+    private ETagUtils() {}
+
+    public static String fromVersion(long version) {
+        return fromVersion(String.valueOf(version));
+    }
+
+    public static String fromVersion(String version) {
+        return "\"" + version + "\"";
+    }
+}
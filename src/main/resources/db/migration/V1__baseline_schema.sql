@@ -0,0 +1,110 @@
+-- Schema base, idêntico ao que o Hibernate gerava com ddl-auto=update (mesmos nomes de
+-- constraints), para que bancos já existentes possam ser marcados como V1 via baseline.
+
+create table owners (
+    id bigint generated by default as identity,
+    version bigint,
+    address varchar(255),
+    cpf varchar(255) not null,
+    email varchar(255),
+    name varchar(255) not null,
+    phone varchar(255) not null,
+    status varchar(255) not null check ((status in ('ACTIVE','INACTIVE'))),
+    primary key (id),
+    constraint ukrfnfhfowwc6uwisbyskbee2uo unique (cpf)
+);
+
+create table pets (
+    birth_date date,
+    id bigint generated by default as identity,
+    owner_id bigint not null,
+    version bigint,
+    allergies varchar(255),
+    breed varchar(255) not null check ((breed in ('LABRADOR_RETRIEVER','GOLDEN_RETRIEVER','GERMAN_SHEPHERD','FRENCH_BULLDOG','ENGLISH_BULLDOG','POODLE','BEAGLE','ROTTWEILER','YORKSHIRE_TERRIER','DACHSHUND','SHIH_TZU','PUG','BOXER','BORDER_COLLIE','SIBERIAN_HUSKY','CHIHUAHUA','PIT_BULL','MIXED_DOG','PERSIAN','SIAMESE','MAINE_COON','RAGDOLL','BENGAL','BRITISH_SHORTHAIR','SPHYNX','SCOTTISH_FOLD','ABYSSINIAN','AMERICAN_SHORTHAIR','MIXED_CAT'))),
+    name varchar(255) not null,
+    normalized_name varchar(255) not null,
+    notes varchar(255),
+    owner_status varchar(255) not null check ((owner_status in ('ACTIVE','INACTIVE'))),
+    size varchar(255) not null check ((size in ('SMALL','MEDIUM','LARGE'))),
+    species varchar(255) not null check ((species in ('DOG','CAT'))),
+    primary key (id),
+    constraint uk_pets_owner_normalized_name unique (owner_id, normalized_name)
+);
+
+create table catalog (
+    duration_minutes integer not null,
+    price_large numeric(12,2) not null,
+    price_medium numeric(12,2) not null,
+    price_small numeric(12,2) not null,
+    id bigint generated by default as identity,
+    version bigint,
+    description varchar(255),
+    name varchar(255) not null,
+    status varchar(255) not null check ((status in ('ACTIVE','INACTIVE'))),
+    primary key (id)
+);
+
+create table catalog_price_history (
+    price_large numeric(12,2) not null,
+    price_medium numeric(12,2) not null,
+    price_small numeric(12,2) not null,
+    catalog_id bigint not null,
+    effective_from timestamp(6) not null,
+    id bigint generated by default as identity,
+    primary key (id),
+    constraint uk_catalog_price_history_catalog_effective_from unique (catalog_id, effective_from)
+);
+
+create table catalog_version (
+    id bigint not null,
+    version bigint not null,
+    primary key (id)
+);
+
+create table appointments (
+    total_gross numeric(12,2) not null,
+    closed_at timestamp(6),
+    id bigint generated by default as identity,
+    owner_id bigint not null,
+    pet_id bigint not null,
+    scheduled_at timestamp(6) not null,
+    version bigint,
+    status varchar(255) not null check ((status in ('SCHEDULED','IN_PROGRESS','WAITING_PAYMENT','COMPLETED','CANCELED'))),
+    primary key (id)
+);
+
+create table appointment_items (
+    quantity integer not null,
+    subtotal numeric(12,2) not null,
+    unit_price_applied numeric(12,2) not null,
+    appointment_id bigint not null,
+    catalog_id bigint not null,
+    id bigint generated by default as identity,
+    version bigint,
+    catalog_name varchar(255) not null,
+    primary key (id)
+);
+
+create table payments (
+    final_amount numeric(12,2) not null,
+    installments integer not null,
+    appointment_id bigint not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    version bigint,
+    method varchar(255) not null check ((method in ('PIX','CASH','CARD'))),
+    status varchar(255) not null check ((status in ('APPROVED'))),
+    primary key (id)
+);
+
+create index idx_pets_owner_status_species_breed on pets (owner_status, species, breed);
+create index idx_pets_owner_status_breed on pets (owner_status, breed);
+create index idx_pets_owner_id_owner_status on pets (owner_id, owner_status);
+
+alter table if exists appointment_items add constraint FK6ft2s2upivo9qvf5dtp4p9tqd foreign key (appointment_id) references appointments;
+alter table if exists appointment_items add constraint FKlc4foyc6qnk36jcimrhknippx foreign key (catalog_id) references catalog;
+alter table if exists appointments add constraint FKculhi6hbol88vcfvgyw5qulxx foreign key (owner_id) references owners;
+alter table if exists appointments add constraint FK62dl3dvwsbveq3vv067becwmj foreign key (pet_id) references pets;
+alter table if exists catalog_price_history add constraint FKocehdmays691pmucvrkmomes2 foreign key (catalog_id) references catalog;
+alter table if exists payments add constraint FK9a0odew03qao7nlbdsesrux5u foreign key (appointment_id) references appointments;
+alter table if exists pets add constraint FK6teg4kcjcnjhduguft56wcfoa foreign key (owner_id) references owners;
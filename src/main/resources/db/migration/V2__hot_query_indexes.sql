@@ -0,0 +1,23 @@
+-- Índices das consultas quentes. "if not exists" porque bancos criados pelo ddl-auto
+-- entram no Flyway como baseline V1 e podem já ter algum deles criado à mão.
+
+-- Conflito de horário do pet: existsByPetIdAndScheduledAtAndStatusIn.
+create index if not exists idx_appointments_pet_scheduled_status on appointments (pet_id, scheduled_at, status);
+
+-- Agenda futura/histórico: status in (...) + faixa de scheduled_at, desempate por id.
+create index if not exists idx_appointments_status_scheduled_id on appointments (status, scheduled_at, id);
+
+-- Desativação do tutor: existsByOwnerIdAndStatusIn.
+create index if not exists idx_appointments_owner_status on appointments (owner_id, status);
+
+-- Itens por atendimento (findByAppointmentId / findByAppointmentIdIn) e o FK em cascata.
+create index if not exists idx_appointment_items_appointment_id on appointment_items (appointment_id);
+
+-- Pagamento único por atendimento: existsByAppointmentId.
+create index if not exists idx_payments_appointment_id on payments (appointment_id);
+
+-- Listagem por status do catálogo (findByStatus / findSliceByStatus).
+create index if not exists idx_catalog_status on catalog (status);
+
+-- pets(owner_id) não ganha índice próprio: idx_pets_owner_id_owner_status e
+-- uk_pets_owner_normalized_name já começam por owner_id e atendem a busca pelo prefixo.
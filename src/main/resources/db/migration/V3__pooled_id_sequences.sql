@@ -0,0 +1,30 @@
+-- Ids por sequence com incremento 50 (otimizador pooled do Hibernate): cada nextval reserva
+-- um bloco de ids no nó e os INSERTs deixam de depender do retorno do IDENTITY, o que libera
+-- o batching JDBC. O próximo valor fica em max(id) + 50 porque o Hibernate trata o valor
+-- devolvido como o topo do bloco (ids de valor - 49 até valor).
+-- catalog_price_history continua IDENTITY: a carga em lote dela é um INSERT multi-linha nativo
+-- que depende do default da coluna.
+
+alter table owners alter column id drop identity;
+create sequence owners_seq increment by 50 owned by owners.id;
+select setval('owners_seq', coalesce((select max(id) from owners), 0) + 50, false);
+
+alter table pets alter column id drop identity;
+create sequence pets_seq increment by 50 owned by pets.id;
+select setval('pets_seq', coalesce((select max(id) from pets), 0) + 50, false);
+
+alter table catalog alter column id drop identity;
+create sequence catalog_seq increment by 50 owned by catalog.id;
+select setval('catalog_seq', coalesce((select max(id) from catalog), 0) + 50, false);
+
+alter table appointments alter column id drop identity;
+create sequence appointments_seq increment by 50 owned by appointments.id;
+select setval('appointments_seq', coalesce((select max(id) from appointments), 0) + 50, false);
+
+alter table appointment_items alter column id drop identity;
+create sequence appointment_items_seq increment by 50 owned by appointment_items.id;
+select setval('appointment_items_seq', coalesce((select max(id) from appointment_items), 0) + 50, false);
+
+alter table payments alter column id drop identity;
+create sequence payments_seq increment by 50 owned by payments.id;
+select setval('payments_seq', coalesce((select max(id) from payments), 0) + 50, false);
@@ -0,0 +1,11 @@
+-- Índices da busca de agendamentos (GET /appointments/search), todos na ordem (scheduled_at, id) do cursor.
+-- Filtro por pet usa idx_appointments_pet_scheduled_status (V2); status sem owner/pet usa idx_appointments_status_scheduled_id (V2).
+
+-- Só período (ou nenhum filtro): percorre a faixa já na ordem da paginação; também serve a carga da agenda diária
+create index if not exists idx_appointments_scheduled_id on appointments (scheduled_at, id);
+
+-- Owner (+ período, + status como filtro): poucas linhas por owner, já ordenadas
+create index if not exists idx_appointments_owner_scheduled_id on appointments (owner_id, scheduled_at, id);
+
+-- Serviço do catálogo: o exists parte do item para o agendamento
+create index if not exists idx_appointment_items_catalog_appointment on appointment_items (catalog_id, appointment_id);
@@ -0,0 +1,25 @@
+-- Séries de agendamentos recorrentes (POST /appointments/series). A regra fica na série; cada
+-- ocorrência continua sendo um agendamento comum, ligado à série por series_id.
+
+create table appointment_series (
+    id bigint not null,
+    version bigint,
+    owner_id bigint not null,
+    pet_id bigint not null,
+    frequency varchar(255) not null check ((frequency in ('DAILY','WEEKLY','MONTHLY'))),
+    repeat_interval integer not null,
+    occurrences integer not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+create sequence appointment_series_seq increment by 50 owned by appointment_series.id;
+
+alter table if exists appointment_series add constraint fk_appointment_series_owner foreign key (owner_id) references owners;
+alter table if exists appointment_series add constraint fk_appointment_series_pet foreign key (pet_id) references pets;
+
+alter table appointments add column series_id bigint;
+alter table if exists appointments add constraint fk_appointments_series foreign key (series_id) references appointment_series;
+
+-- Cancelar/remarcar a série: um único UPDATE pelas ocorrências futuras dela
+create index if not exists idx_appointments_series_scheduled on appointments (series_id, scheduled_at);
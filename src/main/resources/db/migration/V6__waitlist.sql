@@ -0,0 +1,34 @@
+-- Lista de espera por cancelamento. A fila de cada dia vive em memória; esta tabela é o que
+-- sobrevive ao restart: as entradas WAITING de hoje em diante são recarregadas na subida.
+
+create table waitlist_entries (
+    id bigint not null,
+    version bigint,
+    owner_id bigint not null,
+    pet_id bigint not null,
+    desired_date date not null,
+    preferred_window varchar(255) not null check ((preferred_window in ('MORNING','AFTERNOON','ANY'))),
+    duration_minutes integer not null,
+    status varchar(255) not null check ((status in ('WAITING','BOOKED','CANCELED','EXPIRED'))),
+    created_at timestamp(6) not null,
+    appointment_id bigint,
+    primary key (id)
+);
+
+create table waitlist_entry_items (
+    entry_id bigint not null,
+    catalog_id bigint not null,
+    quantity integer not null
+);
+
+create sequence waitlist_entries_seq increment by 50 owned by waitlist_entries.id;
+
+alter table if exists waitlist_entries add constraint fk_waitlist_entries_owner foreign key (owner_id) references owners;
+alter table if exists waitlist_entries add constraint fk_waitlist_entries_pet foreign key (pet_id) references pets;
+alter table if exists waitlist_entries add constraint fk_waitlist_entries_appointment foreign key (appointment_id) references appointments;
+alter table if exists waitlist_entry_items add constraint fk_waitlist_entry_items_entry foreign key (entry_id) references waitlist_entries;
+alter table if exists waitlist_entry_items add constraint fk_waitlist_entry_items_catalog foreign key (catalog_id) references catalog;
+
+-- Recarga na subida e expiração à meia-noite: só as WAITING a partir de/antes de uma data
+create index if not exists idx_waitlist_entries_status_date on waitlist_entries (status, desired_date);
+create index if not exists idx_waitlist_entry_items_entry on waitlist_entry_items (entry_id);
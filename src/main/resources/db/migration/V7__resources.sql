@@ -0,0 +1,20 @@
+-- Recursos que executam o atendimento: profissionais (STAFF) e mesas/boxes (STATION). Cada
+-- agendamento novo ocupa um de cada tipo cadastrado, pela duração dos itens no catálogo.
+
+create table resources (
+    id bigint not null,
+    version bigint,
+    name varchar(255) not null,
+    type varchar(255) not null check ((type in ('STAFF','STATION'))),
+    status varchar(255) not null check ((status in ('ACTIVE','INACTIVE'))),
+    created_at timestamp(6) not null,
+    primary key (id),
+    constraint uk_resources_name unique (name)
+);
+
+create sequence resources_seq increment by 50 owned by resources.id;
+
+alter table appointments add column staff_id bigint;
+alter table appointments add column station_id bigint;
+alter table if exists appointments add constraint fk_appointments_staff foreign key (staff_id) references resources;
+alter table if exists appointments add constraint fk_appointments_station foreign key (station_id) references resources;
@@ -0,0 +1,8 @@
+-- Ocupação dos recursos (findResourceOccupancy): a reserva e o uso diário leem só os dias pedidos,
+-- por cast(scheduled_at as date) in (...), e só agendamentos com profissional ou mesa. Um índice
+-- parcial por coluna; o planner junta os dois num BitmapOr para o "staff ou station".
+create index if not exists idx_appointments_staff_day
+    on appointments ((cast(scheduled_at as date)), staff_id) where staff_id is not null;
+
+create index if not exists idx_appointments_station_day
+    on appointments ((cast(scheduled_at as date)), station_id) where station_id is not null;
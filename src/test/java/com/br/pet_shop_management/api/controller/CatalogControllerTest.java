@@ -3,17 +3,21 @@ package com.br.pet_shop_management.api.controller;
 import com.br.pet_shop_management.api.dto.response.CatalogDTO;
 import com.br.pet_shop_management.application.service.CatalogService;
 import com.br.pet_shop_management.domain.enums.Status;
+import com.br.pet_shop_management.infrastructure.web.AdmissionRejectedException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
@@ -59,6 +63,7 @@ class CatalogControllerTest {
         PageRequest pageable = PageRequest.of(0, 10);
         Page<CatalogDTO> page = new PageImpl<>(List.of(dtoActive()), pageable, 1);
 
+        when(catalogService.currentCatalogVersion()).thenReturn("7.0");
         when(catalogService.findCatalogItems(eq(Status.ACTIVE), any())).thenReturn(page);
 
         mockMvc.perform(get("/catalog")
@@ -67,14 +72,49 @@ class CatalogControllerTest {
                         .param("size", "10"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"7.0\""))
                 .andExpect(jsonPath("$.content[0].id").value(1))
                 .andExpect(jsonPath("$.content[0].status").value("ACTIVE"))
                 .andExpect(jsonPath("$.totalElements").value(1));
 
+        verify(catalogService).currentCatalogVersion();
         verify(catalogService).findCatalogItems(eq(Status.ACTIVE), any());
         verifyNoMoreInteractions(catalogService);
     }
 
+    @Test
+    void findCatalogItems_shouldReturn304WhenCatalogVersionUnchanged() throws Exception {
+        when(catalogService.currentCatalogVersion()).thenReturn("7.0");
+
+        mockMvc.perform(get("/catalog").header("If-None-Match", "\"7.0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(catalogService).currentCatalogVersion();
+        verifyNoMoreInteractions(catalogService);
+    }
+
+    @Test
+    void findCatalogItems_withCountFalse_shouldReturnSliceWithoutTotals() throws Exception {
+        PageRequest pageable = PageRequest.of(0, 10);
+        Slice<CatalogDTO> slice = new SliceImpl<>(List.of(dtoActive()), pageable, true);
+
+        when(catalogService.currentCatalogVersion()).thenReturn("7.0");
+        when(catalogService.findCatalogItemsSlice(eq(Status.ACTIVE), any())).thenReturn(slice);
+
+        mockMvc.perform(get("/catalog")
+                        .param("status", "ACTIVE")
+                        .param("count", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(catalogService).currentCatalogVersion();
+        verify(catalogService).findCatalogItemsSlice(eq(Status.ACTIVE), any());
+        verifyNoMoreInteractions(catalogService);
+    }
+
     @Test
     void saveCatalogItem_shouldReturn201() throws Exception {
         when(catalogService.saveCatalogItem(any())).thenReturn(dtoActive());
@@ -132,4 +172,17 @@ class CatalogControllerTest {
         verify(catalogService).deleteCatalogItem(1L);
         verifyNoMoreInteractions(catalogService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findById_whenAdmissionIsRejected_shouldReturn503WithRetryAfter() throws Exception {
+        when(catalogService.findById(1L))
+                .thenThrow(new AdmissionRejectedException("Server is busy. Please retry later.", Duration.ofMillis(1500)));
+
+        mockMvc.perform(get("/catalog/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status").value(503))
+                .andExpect(jsonPath("$.message").value("Server is busy. Please retry later."))
+                .andExpect(jsonPath("$.path").value("/catalog/1"));
+    }
+}
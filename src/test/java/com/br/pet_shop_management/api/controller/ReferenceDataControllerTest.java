@@ -0,0 +1,46 @@
+package com.br.pet_shop_management.api.controller;
+
+import com.br.pet_shop_management.application.service.ReferenceDataService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReferenceDataController.class)
+@Import(ReferenceDataService.class)
+class ReferenceDataControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void getReferenceData_shouldReturn200WithEtagAndCacheControl() throws Exception {
+        mockMvc.perform(get("/reference-data"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", "max-age=86400, public"))
+                .andExpect(jsonPath("$.species[0]").value("DOG"))
+                .andExpect(jsonPath("$.breeds.CAT[0]").value("PERSIAN"))
+                .andExpect(jsonPath("$.petSizes.length()").value(3))
+                .andExpect(jsonPath("$.paymentMethods[0]").value("PIX"))
+                .andExpect(jsonPath("$.appointmentStatuses[4]").value("CANCELED"));
+    }
+
+    @Test
+    void getReferenceData_shouldReturn304WhenEtagMatches() throws Exception {
+        String etag = mockMvc.perform(get("/reference-data"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/reference-data").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+}
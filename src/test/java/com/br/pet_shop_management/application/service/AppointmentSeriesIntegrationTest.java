@@ -0,0 +1,156 @@
+package com.br.pet_shop_management.application.service;
+
+import com.br.pet_shop_management.api.dto.request.AppointmentForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentItemForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSeriesForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSeriesUpdateForm;
+import com.br.pet_shop_management.api.dto.request.RecurrenceForm;
+import com.br.pet_shop_management.api.dto.request.enums.AppointmentAction;
+import com.br.pet_shop_management.api.dto.request.enums.AppointmentSeriesAction;
+import com.br.pet_shop_management.api.dto.response.AgendaEntryDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentSeriesDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentSummaryDTO;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.api.dto.response.PetDTO;
+import com.br.pet_shop_management.application.exception.DomainRuleException;
+import com.br.pet_shop_management.application.exception.InvalidInputException;
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.domain.enums.RecurrenceFrequency;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AppointmentSeriesIntegrationTest extends PostgresIntegrationTest {
+
+    private OwnerDTO owner;
+    private PetDTO pet;
+    private Long bath;
+    private Long grooming;
+    private LocalDateTime first;
+
+    @BeforeEach
+    void setUp() {
+        owner = newOwner();
+        pet = newPet(owner.id());
+        bath = newCatalogItem().id();
+        grooming = newCatalogItem().id();
+        // faixa distante e única por execução, fora do alcance de nextSlot()
+        first = LocalDate.now().plusYears(7).plusDays(System.nanoTime() % 3000).atTime(10, 0);
+    }
+
+    @Test
+    void createSeries_shouldExpandRuleIntoLinkedAppointments() {
+        AppointmentSeriesDTO series = createSeries(RecurrenceFrequency.WEEKLY, 2, 4);
+
+        assertThat(series.appointments()).extracting(AppointmentSummaryDTO::scheduledAt)
+                .containsExactly(first, first.plusWeeks(2), first.plusWeeks(4), first.plusWeeks(6));
+        assertThat(series.appointments()).extracting(AppointmentSummaryDTO::status).containsOnly(AppointmentStatus.SCHEDULED);
+
+        AppointmentDTO third = appointmentService.findById(series.appointments().get(2).id());
+        assertThat(third.seriesId()).isEqualTo(series.id());
+        assertThat(third.items()).hasSize(2);
+        assertThat(third.totalGross()).isEqualByComparingTo(series.appointments().get(0).totalGross());
+    }
+
+    @Test
+    void createSeries_withConflictingOccurrence_shouldPersistNothing() {
+        appointmentService.createAppointment(new AppointmentForm(owner.id(), pet.id(), first.plusWeeks(2), items(bath)));
+
+        assertThatThrownBy(() -> createSeries(RecurrenceFrequency.WEEKLY, 1, 4))
+                .isInstanceOf(DomainRuleException.class)
+                .hasMessageContaining(first.plusWeeks(2).toString());
+
+        assertThat(appointmentService.getAgenda(first.toLocalDate()).entries()).isEmpty();
+    }
+
+    @Test
+    void createSeries_withRuleOverLimit_shouldReject() {
+        RecurrenceForm daily = new RecurrenceForm(RecurrenceFrequency.DAILY, 1, null, first.toLocalDate().plusDays(60));
+
+        assertThatThrownBy(() -> appointmentService.createAppointmentSeries(
+                new AppointmentSeriesForm(owner.id(), pet.id(), first, daily, items(bath))))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    void createSeries_withoutQuantity_shouldRejectAsInvalidInput() {
+        assertThatThrownBy(() -> appointmentService.createAppointmentSeries(new AppointmentSeriesForm(owner.id(), pet.id(), first,
+                new RecurrenceForm(RecurrenceFrequency.WEEKLY, 1, 2, null), List.of(new AppointmentItemForm(bath, null)))))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessage("Quantity must be at least 1.");
+    }
+
+    @Test
+    void rescheduleSeries_shouldMoveAheadOccurrencesAndTheirAgendaEntries() {
+        AppointmentSeriesDTO series = createSeries(RecurrenceFrequency.WEEKLY, 1, 3);
+        Long started = series.appointments().get(0).id();
+        appointmentService.applyAction(started, AppointmentAction.START);
+        LocalDate oldDay = first.plusWeeks(1).toLocalDate();
+        appointmentService.getAgenda(oldDay);
+
+        // uma semana adiante: cai sobre a própria ocorrência seguinte, que também se move
+        AppointmentSeriesDTO moved = appointmentService.rescheduleAppointmentSeries(
+                series.id(), new AppointmentSeriesUpdateForm(Duration.ofDays(7)));
+
+        assertThat(moved.appointments()).extracting(AppointmentSummaryDTO::scheduledAt)
+                .containsExactly(first.plusWeeks(2), first.plusWeeks(3));
+        assertThat(appointmentService.findById(started).scheduledAt()).isEqualTo(first);
+        assertThat(appointmentService.getAgenda(oldDay).entries()).isEmpty();
+        List<AgendaEntryDTO> newDay = appointmentService.getAgenda(first.plusWeeks(3).toLocalDate()).entries();
+        assertThat(newDay).singleElement().satisfies(entry -> assertThat(entry.itemNames()).hasSize(2));
+    }
+
+    @Test
+    void rescheduleSeries_ontoAnotherAppointment_shouldReject() {
+        AppointmentSeriesDTO series = createSeries(RecurrenceFrequency.WEEKLY, 1, 3);
+        appointmentService.createAppointment(new AppointmentForm(owner.id(), pet.id(), first.plusWeeks(2).plusHours(1), items(bath)));
+
+        assertThatThrownBy(() -> appointmentService.rescheduleAppointmentSeries(
+                series.id(), new AppointmentSeriesUpdateForm(Duration.ofHours(1))))
+                .isInstanceOf(DomainRuleException.class);
+        assertThat(appointmentService.findById(series.appointments().get(0).id()).scheduledAt()).isEqualTo(first);
+    }
+
+    @Test
+    void rescheduleSeries_ontoAnOccurrenceThatStays_shouldReject() {
+        AppointmentSeriesDTO series = createSeries(RecurrenceFrequency.WEEKLY, 1, 3);
+        // a segunda ocorrência já começou: não se move e continua ocupando o horário
+        appointmentService.applyAction(series.appointments().get(1).id(), AppointmentAction.START);
+
+        assertThatThrownBy(() -> appointmentService.rescheduleAppointmentSeries(
+                series.id(), new AppointmentSeriesUpdateForm(Duration.ofDays(-7))))
+                .isInstanceOf(DomainRuleException.class)
+                .hasMessageContaining(first.plusWeeks(1).toString());
+        assertThat(appointmentService.findById(series.appointments().get(2).id()).scheduledAt()).isEqualTo(first.plusWeeks(2));
+    }
+
+    @Test
+    void cancelSeries_shouldCancelOnlyScheduledOccurrences() {
+        AppointmentSeriesDTO series = createSeries(RecurrenceFrequency.MONTHLY, 1, 3);
+        Long started = series.appointments().get(0).id();
+        appointmentService.applyAction(started, AppointmentAction.START);
+
+        AppointmentSeriesDTO canceled = appointmentService.applySeriesAction(series.id(), AppointmentSeriesAction.CANCEL);
+
+        assertThat(canceled.appointments()).extracting(AppointmentSummaryDTO::id)
+                .containsExactlyInAnyOrder(series.appointments().get(1).id(), series.appointments().get(2).id());
+        assertThat(canceled.appointments()).extracting(AppointmentSummaryDTO::status).containsOnly(AppointmentStatus.CANCELED);
+        assertThat(appointmentService.findById(started).status()).isEqualTo(AppointmentStatus.IN_PROGRESS);
+        assertThat(appointmentService.getAgenda(first.plusMonths(2).toLocalDate()).entries())
+                .extracting(AgendaEntryDTO::status).containsExactly(AppointmentStatus.CANCELED);
+    }
+
+    private AppointmentSeriesDTO createSeries(RecurrenceFrequency frequency, int interval, int occurrences) {
+        return appointmentService.createAppointmentSeries(new AppointmentSeriesForm(owner.id(), pet.id(), first,
+                new RecurrenceForm(frequency, interval, occurrences, null), items(bath, grooming)));
+    }
+}
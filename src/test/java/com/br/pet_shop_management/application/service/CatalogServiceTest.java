@@ -1,24 +1,42 @@
 package com.br.pet_shop_management.application.service;
 
 import com.br.pet_shop_management.api.dto.request.CatalogForm;
+import com.br.pet_shop_management.api.dto.request.CatalogPriceAdjustmentForm;
+import com.br.pet_shop_management.api.dto.request.CatalogPriceItemForm;
+import com.br.pet_shop_management.api.dto.request.CatalogPriceVersionForm;
 import com.br.pet_shop_management.api.dto.request.enums.CatalogAction;
+import com.br.pet_shop_management.api.dto.request.enums.PriceAdjustmentType;
 import com.br.pet_shop_management.api.dto.response.CatalogDTO;
+import com.br.pet_shop_management.api.dto.response.CatalogPriceAdjustmentDTO;
+import com.br.pet_shop_management.api.dto.response.CatalogPriceDTO;
 import com.br.pet_shop_management.application.exception.DomainRuleException;
+import com.br.pet_shop_management.application.event.CatalogChangedEvent;
 import com.br.pet_shop_management.application.exception.InvalidInputException;
+import com.br.pet_shop_management.domain.catalog.CatalogItemSnapshot;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceChange;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceTimeline;
+import com.br.pet_shop_management.domain.catalog.CatalogPriceVersion;
+import com.br.pet_shop_management.domain.catalog.CatalogSnapshot;
 import com.br.pet_shop_management.domain.entity.CatalogEntity;
+import com.br.pet_shop_management.domain.enums.PetSize;
 import com.br.pet_shop_management.domain.enums.Status;
+import com.br.pet_shop_management.infrastructure.cache.CatalogSnapshotHolder;
+import com.br.pet_shop_management.infrastructure.persistence.CatalogPriceHistoryRepository;
 import com.br.pet_shop_management.infrastructure.persistence.CatalogRepository;
-import com.br.pet_shop_management.infrastructure.persistence.OwnerRepository;
+import com.br.pet_shop_management.infrastructure.persistence.CatalogVersionRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -31,6 +49,18 @@ class CatalogServiceTest {
     @Mock
     private CatalogRepository catalogRepository;
 
+    @Mock
+    private CatalogVersionRepository catalogVersionRepository;
+
+    @Mock
+    private CatalogPriceHistoryRepository catalogPriceHistoryRepository;
+
+    @Mock
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CatalogService catalogService;
 
@@ -56,36 +86,79 @@ class CatalogServiceTest {
         );
     }
 
+    private static CatalogItemSnapshot snapshotItem(Long id, Status status) {
+        return new CatalogItemSnapshot(id, "Banho " + id, "desc", 30, status, Map.of(
+                PetSize.SMALL, new BigDecimal("10.00"),
+                PetSize.MEDIUM, new BigDecimal("15.00"),
+                PetSize.LARGE, new BigDecimal("20.00")));
+    }
+
+    private static CatalogSnapshot snapshot() {
+        return CatalogSnapshot.of(1L, List.of(
+                snapshotItem(3L, Status.ACTIVE),
+                snapshotItem(1L, Status.ACTIVE),
+                snapshotItem(2L, Status.INACTIVE)));
+    }
+
     // ---------- findCatalogItems ----------
 
     @Test
     void findCatalogItems_shouldDefaultToActiveWhenStatusNull() {
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(catalogRepository.findByStatus(eq(Status.ACTIVE), eq(pageable)))
-                .thenReturn(new PageImpl<>(List.of(anyEntity()), pageable, 1));
+        when(catalogSnapshotHolder.current()).thenReturn(snapshot());
 
         Page<CatalogDTO> result = catalogService.findCatalogItems(null, pageable);
 
         assertThat(result).isNotNull();
-        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(CatalogDTO::id).containsExactly(1L, 3L);
 
-        verify(catalogRepository).findByStatus(Status.ACTIVE, pageable);
+        verifyNoInteractions(catalogRepository);
     }
 
     @Test
     void findCatalogItems_shouldUseProvidedStatus() {
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(catalogRepository.findByStatus(eq(Status.INACTIVE), eq(pageable)))
-                .thenReturn(Page.empty(pageable));
+        when(catalogSnapshotHolder.current()).thenReturn(snapshot());
 
         Page<CatalogDTO> result = catalogService.findCatalogItems(Status.INACTIVE, pageable);
 
         assertThat(result).isNotNull();
-        assertThat(result.getTotalElements()).isZero();
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().getFirst().status()).isEqualTo(Status.INACTIVE);
+
+        verifyNoInteractions(catalogRepository);
+    }
+
+    @Test
+    void findCatalogItems_shouldQueryRepositoryWhenSorted() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("name"));
+
+        when(catalogSnapshotHolder.current()).thenReturn(snapshot());
+        when(catalogRepository.findByStatus(eq(Status.ACTIVE), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(anyEntity()), pageable, 1));
+
+        Page<CatalogDTO> result = catalogService.findCatalogItems(null, pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(1);
 
-        verify(catalogRepository).findByStatus(Status.INACTIVE, pageable);
+        verify(catalogRepository).findByStatus(Status.ACTIVE, pageable);
+    }
+
+    @Test
+    void findCatalogItemsSlice_shouldPageSnapshotWithoutCount() {
+        Pageable pageable = PageRequest.of(0, 1);
+
+        when(catalogSnapshotHolder.current()).thenReturn(snapshot());
+
+        Slice<CatalogDTO> result = catalogService.findCatalogItemsSlice(null, pageable);
+
+        assertThat(result.getNumberOfElements()).isEqualTo(1);
+        assertThat(result.hasNext()).isTrue();
+
+        verifyNoInteractions(catalogRepository);
     }
 
     // ---------- findById ----------
@@ -93,6 +166,7 @@ class CatalogServiceTest {
     @Test
     void findById_shouldReturnDtoWhenFound() {
         when(catalogRepository.findById(1L)).thenReturn(Optional.of(anyEntity()));
+        when(catalogSnapshotHolder.current()).thenReturn(snapshot());
 
         CatalogDTO dto = catalogService.findById(1L);
 
@@ -111,6 +185,111 @@ class CatalogServiceTest {
         verify(catalogRepository).findById(99L);
     }
 
+    // ---------- findPriceAt ----------
+
+    private static CatalogSnapshot snapshotWithPriceVersions() {
+        CatalogPriceTimeline timeline = CatalogPriceTimeline.of(List.of(
+                new CatalogPriceVersion(1L, LocalDateTime.of(2025, 3, 1, 0, 0),
+                        new BigDecimal("12.00"), new BigDecimal("17.00"), new BigDecimal("22.00")),
+                new CatalogPriceVersion(1L, LocalDateTime.of(2025, 1, 1, 0, 0),
+                        new BigDecimal("11.00"), new BigDecimal("16.00"), new BigDecimal("21.00"))));
+        CatalogItemSnapshot base = snapshotItem(1L, Status.ACTIVE);
+        CatalogItemSnapshot item = new CatalogItemSnapshot(base.id(), base.name(), base.description(),
+                base.durationMinutes(), base.status(), base.prices(), timeline);
+        return CatalogSnapshot.of(1L, List.of(item));
+    }
+
+    @Test
+    void findPriceAt_shouldResolveVersionInEffectAtInstant() {
+        when(catalogSnapshotHolder.current()).thenReturn(snapshotWithPriceVersions());
+
+        CatalogPriceDTO between = catalogService.findPriceAt(1L, PetSize.MEDIUM, LocalDateTime.of(2025, 2, 15, 10, 0));
+        CatalogPriceDTO exact = catalogService.findPriceAt(1L, PetSize.MEDIUM, LocalDateTime.of(2025, 3, 1, 0, 0));
+
+        assertThat(between.price()).isEqualByComparingTo("16.00");
+        assertThat(exact.price()).isEqualByComparingTo("17.00");
+        verifyNoInteractions(catalogRepository, catalogPriceHistoryRepository);
+    }
+
+    @Test
+    void findPriceAt_shouldFallBackToBasePriceBeforeFirstVersion() {
+        when(catalogSnapshotHolder.current()).thenReturn(snapshotWithPriceVersions());
+
+        CatalogPriceDTO dto = catalogService.findPriceAt(1L, PetSize.LARGE, LocalDateTime.of(2024, 12, 31, 23, 59));
+
+        assertThat(dto.price()).isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    void findPriceAt_shouldThrowWhenCatalogNotFound() {
+        when(catalogSnapshotHolder.current()).thenReturn(snapshotWithPriceVersions());
+
+        assertThatThrownBy(() -> catalogService.findPriceAt(99L, PetSize.SMALL, null))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Catalog item not found.");
+    }
+
+    // ---------- registerPriceVersion ----------
+
+    private static CatalogPriceItemForm priceItem(Long catalogId) {
+        return new CatalogPriceItemForm(catalogId, new BigDecimal("11.5"), new BigDecimal("16.5"), new BigDecimal("21.5"));
+    }
+
+    @Test
+    void registerPriceVersion_shouldInsertSetAndPublishChange() {
+        LocalDateTime effectiveFrom = LocalDateTime.now().plusDays(7);
+        CatalogPriceVersionForm form = new CatalogPriceVersionForm(effectiveFrom, List.of(priceItem(1L), priceItem(3L)));
+
+        when(catalogSnapshotHolder.current()).thenReturn(snapshot());
+        when(catalogPriceHistoryRepository.insertVersionSet(anyList())).thenReturn(2);
+
+        var result = catalogService.registerPriceVersion(form);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.getFirst().priceSmall()).isEqualByComparingTo("11.50");
+        assertThat(result.getFirst().effectiveFrom()).isEqualTo(effectiveFrom);
+        verify(catalogPriceHistoryRepository).insertVersionSet(anyList());
+        verify(catalogVersionRepository).increment();
+        verify(eventPublisher).publishEvent(any(CatalogChangedEvent.class));
+    }
+
+    @Test
+    void registerPriceVersion_shouldThrowWhenEffectiveFromInPast() {
+        CatalogPriceVersionForm form = new CatalogPriceVersionForm(LocalDateTime.now().minusDays(1), List.of(priceItem(1L)));
+
+        assertThatThrownBy(() -> catalogService.registerPriceVersion(form))
+                .isInstanceOf(DomainRuleException.class)
+                .hasMessage("Price versions cannot take effect in the past.");
+
+        verifyNoInteractions(catalogPriceHistoryRepository, catalogVersionRepository);
+    }
+
+    @Test
+    void registerPriceVersion_shouldThrowWhenCatalogRepeated() {
+        CatalogPriceVersionForm form = new CatalogPriceVersionForm(null, List.of(priceItem(1L), priceItem(1L)));
+
+        when(catalogSnapshotHolder.current()).thenReturn(snapshot());
+
+        assertThatThrownBy(() -> catalogService.registerPriceVersion(form))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessage("Each catalog item can appear only once per price version.");
+
+        verifyNoInteractions(catalogPriceHistoryRepository);
+    }
+
+    @Test
+    void registerPriceVersion_shouldThrowWhenCatalogNotFound() {
+        CatalogPriceVersionForm form = new CatalogPriceVersionForm(null, List.of(priceItem(99L)));
+
+        when(catalogSnapshotHolder.current()).thenReturn(snapshot());
+
+        assertThatThrownBy(() -> catalogService.registerPriceVersion(form))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Catalog item not found.");
+
+        verifyNoInteractions(catalogPriceHistoryRepository);
+    }
+
     // ---------- saveCatalogItem ----------
 
     @Test
@@ -159,6 +338,9 @@ class CatalogServiceTest {
         assertThat(dto).isNotNull();
         verify(catalogRepository).existsByName("Banho");
         verify(catalogRepository).save(any(CatalogEntity.class));
+        verify(catalogPriceHistoryRepository).save(any());
+        verify(catalogVersionRepository).increment();
+        verify(eventPublisher).publishEvent(any(CatalogChangedEvent.class));
     }
 
     // ---------- applyAction ----------
@@ -203,6 +385,7 @@ class CatalogServiceTest {
 
         verify(catalogRepository).findById(1L);
         verify(catalogRepository, never()).save(any());
+        verifyNoInteractions(catalogVersionRepository, eventPublisher);
     }
 
     @Test
@@ -211,6 +394,7 @@ class CatalogServiceTest {
 
         when(catalogRepository.findById(1L)).thenReturn(Optional.of(entity));
         when(catalogRepository.save(any(CatalogEntity.class))).thenReturn(entity);
+        when(catalogSnapshotHolder.current()).thenReturn(snapshot());
 
         CatalogDTO dto = catalogService.applyAction(1L, CatalogAction.ACTIVATE);
 
@@ -239,6 +423,7 @@ class CatalogServiceTest {
 
         when(catalogRepository.findById(1L)).thenReturn(Optional.of(entity));
         when(catalogRepository.save(any(CatalogEntity.class))).thenReturn(entity);
+        when(catalogSnapshotHolder.current()).thenReturn(snapshot());
 
         CatalogDTO dto = catalogService.applyAction(1L, CatalogAction.DEACTIVATE);
 
@@ -262,6 +447,92 @@ class CatalogServiceTest {
     }
 
 
+    // ---------- adjustPrices ----------
+
+    private static CatalogPriceChange change(Long id, String newPriceSmall) {
+        return new CatalogPriceChange(id, "Banho " + id,
+                new BigDecimal("10.00"), new BigDecimal(newPriceSmall),
+                new BigDecimal("15.00"), new BigDecimal("16.50"),
+                new BigDecimal("20.00"), new BigDecimal("22.00"));
+    }
+
+    @Test
+    void adjustPrices_shouldApplyPercentageAsFactorAndPublishChange() {
+        CatalogPriceAdjustmentForm form = new CatalogPriceAdjustmentForm(
+                PriceAdjustmentType.PERCENTAGE, new BigDecimal("10"), Status.ACTIVE, null);
+
+        when(catalogRepository.adjustPrices(any(), any(), eq(Status.ACTIVE), isNull(), any()))
+                .thenReturn(List.of(change(1L, "11.00")));
+
+        CatalogPriceAdjustmentDTO result = catalogService.adjustPrices(form);
+
+        assertThat(result.changes()).hasSize(1);
+        assertThat(result.changes().getFirst().newPriceSmall()).isEqualByComparingTo("11.00");
+        verify(catalogRepository).adjustPrices(
+                argThat(factor -> factor.compareTo(new BigDecimal("1.1")) == 0),
+                argThat(delta -> delta.signum() == 0),
+                eq(Status.ACTIVE), isNull(), any());
+        verify(catalogPriceHistoryRepository).insertVersionSet(argThat(versions -> versions.size() == 1));
+        verify(catalogVersionRepository).increment();
+        verify(eventPublisher).publishEvent(any(CatalogChangedEvent.class));
+    }
+
+    @Test
+    void adjustPrices_shouldApplyAbsoluteAsDelta() {
+        CatalogPriceAdjustmentForm form = new CatalogPriceAdjustmentForm(
+                PriceAdjustmentType.ABSOLUTE, new BigDecimal("-2.50"), null, List.of(1L));
+
+        when(catalogRepository.adjustPrices(any(), any(), isNull(), eq(List.of(1L)), any()))
+                .thenReturn(List.of(change(1L, "7.50")));
+
+        catalogService.adjustPrices(form);
+
+        verify(catalogRepository).adjustPrices(
+                argThat(factor -> factor.compareTo(BigDecimal.ONE) == 0),
+                argThat(delta -> delta.compareTo(new BigDecimal("-2.50")) == 0),
+                isNull(), eq(List.of(1L)), any());
+    }
+
+    @Test
+    void adjustPrices_shouldThrowWhenResultIsNonPositive() {
+        CatalogPriceAdjustmentForm form = new CatalogPriceAdjustmentForm(
+                PriceAdjustmentType.ABSOLUTE, new BigDecimal("-10.00"), null, null);
+
+        when(catalogRepository.adjustPrices(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(change(1L, "0.00")));
+
+        assertThatThrownBy(() -> catalogService.adjustPrices(form))
+                .isInstanceOf(DomainRuleException.class)
+                .hasMessage("Price adjustment would result in non-positive prices.");
+
+        verifyNoInteractions(catalogPriceHistoryRepository, catalogVersionRepository, eventPublisher);
+    }
+
+    @Test
+    void adjustPrices_shouldThrowWhenPercentageAtOrBelowMinusHundred() {
+        CatalogPriceAdjustmentForm form = new CatalogPriceAdjustmentForm(
+                PriceAdjustmentType.PERCENTAGE, new BigDecimal("-100"), null, null);
+
+        assertThatThrownBy(() -> catalogService.adjustPrices(form))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessage("Percentage adjustment must be greater than -100.");
+
+        verifyNoInteractions(catalogRepository);
+    }
+
+    @Test
+    void adjustPrices_shouldNotPublishWhenNothingMatched() {
+        CatalogPriceAdjustmentForm form = new CatalogPriceAdjustmentForm(
+                PriceAdjustmentType.PERCENTAGE, new BigDecimal("5"), Status.INACTIVE, null);
+
+        when(catalogRepository.adjustPrices(any(), any(), any(), any(), any())).thenReturn(List.of());
+
+        CatalogPriceAdjustmentDTO result = catalogService.adjustPrices(form);
+
+        assertThat(result.changes()).isEmpty();
+        verifyNoInteractions(catalogPriceHistoryRepository, catalogVersionRepository, eventPublisher);
+    }
+
     // ---------- deleteCatalogItem ----------
 
     @Test
@@ -281,7 +552,10 @@ class CatalogServiceTest {
         catalogService.deleteCatalogItem(1L);
 
         verify(catalogRepository).findById(1L);
+        verify(catalogPriceHistoryRepository).deleteByCatalogId(entity.getId());
         verify(catalogRepository).delete(entity);
+        verify(catalogVersionRepository).increment();
+        verify(eventPublisher).publishEvent(any(CatalogChangedEvent.class));
     }
 
     @Test
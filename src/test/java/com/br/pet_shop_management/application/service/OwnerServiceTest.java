@@ -10,6 +10,7 @@ import com.br.pet_shop_management.domain.entity.OwnerEntity;
 import com.br.pet_shop_management.domain.enums.Status;
 import com.br.pet_shop_management.infrastructure.persistence.AppointmentRepository;
 import com.br.pet_shop_management.infrastructure.persistence.OwnerRepository;
+import com.br.pet_shop_management.infrastructure.persistence.PetRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +35,9 @@ class OwnerServiceTest {
     @Mock
     AppointmentRepository appointmentRepository;
 
+    @Mock
+    PetRepository petRepository;
+
     @InjectMocks
     OwnerService ownerService;
 
@@ -78,6 +82,24 @@ class OwnerServiceTest {
         verifyNoInteractions(appointmentRepository);
     }
 
+    @Test
+    void findAllSlice_shouldReturnActiveOwnersWithoutCount() {
+        Pageable pageable = PageRequest.of(0, 10);
+        OwnerEntity entity = ownerActive(1L, "12345678901", "11999998888");
+
+        when(ownerRepository.findSliceByStatus(eq(Status.ACTIVE), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(entity), pageable, false));
+
+        Slice<OwnerDTO> result = ownerService.findAllSlice(pageable);
+
+        assertThat(result.getNumberOfElements()).isEqualTo(1);
+        assertThat(result.hasNext()).isFalse();
+
+        verify(ownerRepository).findSliceByStatus(Status.ACTIVE, pageable);
+        verify(ownerRepository, never()).findByStatus(any(), any());
+        verifyNoInteractions(appointmentRepository);
+    }
+
     // ---------- findByCpf ----------
 
     @Test
@@ -344,6 +366,7 @@ class OwnerServiceTest {
 
         verify(ownerRepository).findByCpf("12345678901");
         verify(ownerRepository).save(owner);
+        verify(petRepository).updateOwnerStatus(owner.getId(), Status.ACTIVE);
         verifyNoInteractions(appointmentRepository);
     }
 
@@ -378,6 +401,7 @@ class OwnerServiceTest {
         verify(ownerRepository).findByCpf("12345678901");
         verify(appointmentRepository).existsByOwnerIdAndStatusIn(eq(owner.getId()), anyList());
         verify(ownerRepository, never()).save(any());
+        verifyNoInteractions(petRepository);
     }
 
     @Test
@@ -397,5 +421,6 @@ class OwnerServiceTest {
         verify(ownerRepository).findByCpf("12345678901");
         verify(appointmentRepository).existsByOwnerIdAndStatusIn(eq(owner.getId()), anyList());
         verify(ownerRepository).save(owner);
+        verify(petRepository).updateOwnerStatus(owner.getId(), Status.INACTIVE);
     }
 }
\ No newline at end of file
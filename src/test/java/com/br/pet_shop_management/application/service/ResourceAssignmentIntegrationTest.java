@@ -0,0 +1,257 @@
+package com.br.pet_shop_management.application.service;
+
+import com.br.pet_shop_management.api.dto.request.AppointmentForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSeriesForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSeriesUpdateForm;
+import com.br.pet_shop_management.api.dto.request.RecurrenceForm;
+import com.br.pet_shop_management.api.dto.request.ResourceForm;
+import com.br.pet_shop_management.api.dto.request.enums.AppointmentAction;
+import com.br.pet_shop_management.api.dto.request.enums.ResourceAction;
+import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentSeriesDTO;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.api.dto.response.ResourceDTO;
+import com.br.pet_shop_management.api.dto.response.ResourceUtilizationDTO;
+import com.br.pet_shop_management.application.exception.DomainRuleException;
+import com.br.pet_shop_management.domain.enums.RecurrenceFrequency;
+import com.br.pet_shop_management.domain.enums.ResourceType;
+import com.br.pet_shop_management.infrastructure.persistence.ResourceRepository;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResourceAssignmentIntegrationTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ResourceService resourceService;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<ResourceDTO> created = new ArrayList<>();
+    private Long bath;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        bath = newCatalogItem().id();
+        // faixa distante e única por execução, fora do alcance de nextSlot(), das séries e da fila de espera
+        day = LocalDate.now().plusYears(10).plusDays(System.nanoTime() % 3000);
+    }
+
+    // Recursos valem para todos os agendamentos: desativados ao fim para não limitar as outras classes
+    @AfterEach
+    void tearDown() {
+        created.forEach(resource -> resourceService.applyAction(resource.id(), ResourceAction.DEACTIVATE));
+    }
+
+    @Test
+    void createAppointment_shouldUseEachStaffOnceAndRejectWhenAllAreBusy() {
+        ResourceDTO ana = newResource(ResourceType.STAFF);
+        ResourceDTO bia = newResource(ResourceType.STAFF);
+        LocalDateTime ten = day.atTime(10, 0);
+
+        AppointmentDTO first = book(ten);
+        AppointmentDTO second = book(ten.plusMinutes(15));
+
+        assertThat(List.of(first.staffId(), second.staffId())).containsExactlyInAnyOrder(ana.id(), bia.id());
+        assertThat(first.stationId()).isNull();
+        assertThatThrownBy(() -> book(ten.plusMinutes(20)))
+                .isInstanceOf(DomainRuleException.class)
+                .hasMessageContaining("No staff available");
+    }
+
+    @Test
+    void createAppointment_shouldPickTheTightestFit() {
+        ResourceDTO ana = newResource(ResourceType.STAFF);
+        ResourceDTO bia = newResource(ResourceType.STAFF);
+        book(day.atTime(9, 0), ana);
+        book(day.atTime(10, 0), ana);
+        book(day.atTime(14, 0), bia);
+
+        // o buraco de 30 min entre 9h30 e 10h da Ana serve exato; a tarde livre da Bia fica inteira
+        assertThat(book(day.atTime(9, 30)).staffId()).isEqualTo(ana.id());
+    }
+
+    @Test
+    void cancel_shouldFreeTheResource() {
+        newResource(ResourceType.STAFF);
+        newResource(ResourceType.STATION);
+        AppointmentDTO first = book(day.atTime(11, 0));
+        assertThat(first.stationId()).isNotNull();
+
+        appointmentService.applyAction(first.id(), AppointmentAction.CANCEL);
+
+        AppointmentDTO replacement = book(day.atTime(11, 0));
+        assertThat(replacement.staffId()).isEqualTo(first.staffId());
+        assertThat(replacement.stationId()).isEqualTo(first.stationId());
+    }
+
+    @Test
+    void createSeries_withBusyOccurrence_shouldPersistNothing() {
+        newResource(ResourceType.STAFF);
+        LocalDateTime first = day.atTime(15, 0);
+        book(first.plusWeeks(1));
+        OwnerDTO owner = newOwner();
+        Long petId = newPet(owner.id()).id();
+
+        assertThatThrownBy(() -> appointmentService.createAppointmentSeries(new AppointmentSeriesForm(owner.id(), petId, first,
+                new RecurrenceForm(RecurrenceFrequency.WEEKLY, 1, 3, null), items(bath))))
+                .isInstanceOf(DomainRuleException.class)
+                .hasMessageContaining(first.plusWeeks(1).toString());
+        assertThat(appointmentService.getAgenda(day).entries()).isEmpty();
+    }
+
+    @Test
+    void addItems_pastTheNextBookingOfTheOnlyStaff_shouldReject() {
+        newResource(ResourceType.STAFF);
+        AppointmentDTO first = book(day.atTime(10, 0));
+        book(day.atTime(10, 30));
+
+        assertThatThrownBy(() -> appointmentService.addAppointmentItems(first.id(), items(bath)))
+                .isInstanceOf(DomainRuleException.class)
+                .hasMessageContaining("No staff available");
+        assertThat(appointmentService.findById(first.id()).items()).hasSize(1);
+    }
+
+    @Test
+    void addItems_whenTheStaffIsBusyLater_shouldMoveToAFreeOne() {
+        ResourceDTO ana = newResource(ResourceType.STAFF);
+        ResourceDTO bia = newResource(ResourceType.STAFF);
+        AppointmentDTO first = book(day.atTime(10, 0), ana);
+        book(day.atTime(10, 30), ana);
+
+        assertThat(appointmentService.addAppointmentItems(first.id(), items(bath)).staffId()).isEqualTo(bia.id());
+    }
+
+    @Test
+    void rescheduleSeries_ontoABusyStaff_shouldReject() {
+        newResource(ResourceType.STAFF);
+        AppointmentSeriesDTO series = newSeries(day.atTime(15, 0));
+        book(day.plusWeeks(1).atTime(16, 0));
+
+        assertThatThrownBy(() -> appointmentService.rescheduleAppointmentSeries(series.id(),
+                new AppointmentSeriesUpdateForm(Duration.ofHours(1))))
+                .isInstanceOf(DomainRuleException.class)
+                .hasMessageContaining(day.plusWeeks(1).atTime(16, 0).toString());
+        assertThat(appointmentService.findById(series.appointments().get(1).id()).scheduledAt())
+                .isEqualTo(day.plusWeeks(1).atTime(15, 0));
+    }
+
+    @Test
+    void rescheduleSeries_overlappingItsOwnSlots_shouldKeepTheStaff() {
+        newResource(ResourceType.STAFF);
+        newResource(ResourceType.STAFF);
+        AppointmentSeriesDTO series = newSeries(day.atTime(15, 0));
+        Long staffId = appointmentService.findById(series.appointments().get(0).id()).staffId();
+
+        appointmentService.rescheduleAppointmentSeries(series.id(), new AppointmentSeriesUpdateForm(Duration.ofMinutes(15)));
+
+        assertThat(series.appointments())
+                .extracting(occurrence -> appointmentService.findById(occurrence.id()))
+                .allSatisfy(moved -> {
+                    assertThat(moved.scheduledAt().toLocalTime()).isEqualTo(LocalTime.of(15, 15));
+                    assertThat(moved.staffId()).isEqualTo(staffId);
+                });
+    }
+
+    @Test
+    void createAppointment_shouldOnlyWaitForBookingsOnTheSameDay() throws Exception {
+        newResource(ResourceType.STAFF);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // outra reserva em andamento segurando a trava do dia
+            Future<?> holder = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                resourceRepository.lockDays(new Integer[]{(int) day.toEpochDay()});
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(executor.submit(() -> book(day.plusDays(1).atTime(10, 0))).get(10, TimeUnit.SECONDS).staffId()).isNotNull();
+
+            Future<AppointmentDTO> sameDay = executor.submit(() -> book(day.atTime(10, 0)));
+            assertThatThrownBy(() -> sameDay.get(500, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+            assertThat(sameDay.get(10, TimeUnit.SECONDS).staffId()).isNotNull();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void utilization_shouldReportBookedMinutesWithinOpeningHours() {
+        ResourceDTO staff = newResource(ResourceType.STAFF);
+        book(day.atTime(9, 0));
+        book(day.atTime(16, 0));
+
+        ResourceUtilizationDTO usage = resourceService.getUtilization(day).stream()
+                .filter(row -> row.resourceId().equals(staff.id()))
+                .findFirst().orElseThrow();
+
+        assertThat(usage.appointmentsCount()).isEqualTo(2);
+        assertThat(usage.bookedMinutes()).isEqualTo(60);
+        assertThat(usage.capacityMinutes()).isEqualTo(600);
+        assertThat(usage.utilization()).isEqualByComparingTo(new BigDecimal("0.1"));
+    }
+
+    private ResourceDTO newResource(ResourceType type) {
+        ResourceDTO resource = resourceService.saveResource(new ResourceForm(type + " " + System.nanoTime() % 1_000_000_000L, type));
+        created.add(resource);
+        return resource;
+    }
+
+    private AppointmentSeriesDTO newSeries(LocalDateTime first) {
+        OwnerDTO owner = newOwner();
+        return appointmentService.createAppointmentSeries(new AppointmentSeriesForm(owner.id(), newPet(owner.id()).id(), first,
+                new RecurrenceForm(RecurrenceFrequency.WEEKLY, 1, 3, null), items(bath)));
+    }
+
+    private AppointmentDTO book(LocalDateTime slot) {
+        OwnerDTO owner = newOwner();
+        return appointmentService.createAppointment(new AppointmentForm(owner.id(), newPet(owner.id()).id(), slot, items(bath)));
+    }
+
+    // Ocupa um recurso específico: desativa os outros só durante a reserva
+    private AppointmentDTO book(LocalDateTime slot, ResourceDTO resource) {
+        List<ResourceDTO> others = created.stream().filter(other -> !other.id().equals(resource.id())).toList();
+        others.forEach(other -> resourceService.applyAction(other.id(), ResourceAction.DEACTIVATE));
+        try {
+            return book(slot);
+        } finally {
+            others.forEach(other -> resourceService.applyAction(other.id(), ResourceAction.ACTIVATE));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.br.pet_shop_management.application.service;
+
+import com.br.pet_shop_management.api.dto.request.AppointmentForm;
+import com.br.pet_shop_management.api.dto.request.CatalogForm;
+import com.br.pet_shop_management.api.dto.request.WaitlistForm;
+import com.br.pet_shop_management.api.dto.request.enums.AppointmentAction;
+import com.br.pet_shop_management.api.dto.request.enums.WaitlistAction;
+import com.br.pet_shop_management.api.dto.response.AgendaEntryDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.api.dto.response.WaitlistEntryDTO;
+import com.br.pet_shop_management.application.exception.DomainRuleException;
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.domain.enums.PreferredWindow;
+import com.br.pet_shop_management.domain.enums.WaitlistStatus;
+import com.br.pet_shop_management.infrastructure.persistence.WaitlistEntryRepository;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WaitlistIntegrationTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    private Long bath;
+    private LocalDate day;
+    private LocalDateTime morningSlot;
+
+    @BeforeEach
+    void setUp() {
+        bath = newCatalogItem().id();
+        // faixa distante e única por execução, fora do alcance de nextSlot() e das séries
+        day = LocalDate.now().plusYears(8).plusDays(System.nanoTime() % 3000);
+        morningSlot = day.atTime(10, 0);
+    }
+
+    @Test
+    void cancel_shouldBackfillOldestEntryThatFitsTheSlot() {
+        AppointmentDTO canceled = bookSlot(morningSlot);
+        Long longService = catalogService.saveCatalogItem(new CatalogForm("Long service " + System.nanoTime() % 100_000,
+                null, 90, new BigDecimal("50.00"), new BigDecimal("60.00"), new BigDecimal("75.00"))).id();
+
+        WaitlistEntryDTO afternoon = join(PreferredWindow.AFTERNOON, bath);
+        WaitlistEntryDTO tooLong = join(PreferredWindow.ANY, longService);
+        WaitlistEntryDTO morning = join(PreferredWindow.MORNING, bath);
+        WaitlistEntryDTO later = join(PreferredWindow.ANY, bath);
+
+        appointmentService.applyAction(canceled.id(), AppointmentAction.CANCEL);
+
+        eventually(() -> {
+            assertThat(waitlistEntryRepository.findById(morning.id()).orElseThrow().getStatus()).isEqualTo(WaitlistStatus.BOOKED);
+            assertThat(waitlistService.listWaitlist(day)).extracting(WaitlistEntryDTO::id)
+                    .containsExactly(afternoon.id(), tooLong.id(), later.id());
+        });
+        assertThat(appointmentService.getAgenda(day).entries())
+                .filteredOn(entry -> entry.status() == AppointmentStatus.SCHEDULED)
+                .singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.petId()).isEqualTo(morning.petId());
+                    assertThat(entry.time()).isEqualTo(morningSlot.toLocalTime());
+                });
+    }
+
+    @Test
+    void cancel_withBlockedCandidate_shouldBookNextAndKeepBlockedWaiting() {
+        AppointmentDTO canceled = bookSlot(morningSlot);
+        WaitlistEntryDTO busy = join(PreferredWindow.MORNING, bath);
+        WaitlistEntryDTO free = join(PreferredWindow.MORNING, bath);
+        // o pet da primeira entrada já tem outro atendimento no mesmo horário
+        appointmentService.createAppointment(new AppointmentForm(busy.ownerId(), busy.petId(), morningSlot, items(bath)));
+
+        appointmentService.applyAction(canceled.id(), AppointmentAction.CANCEL);
+
+        eventually(() -> {
+            assertThat(waitlistEntryRepository.findById(free.id()).orElseThrow().getStatus()).isEqualTo(WaitlistStatus.BOOKED);
+            assertThat(waitlistService.listWaitlist(day)).extracting(WaitlistEntryDTO::id).containsExactly(busy.id());
+        });
+    }
+
+    @Test
+    void canceledEntry_shouldLeaveTheQueueAndNotBeBooked() {
+        AppointmentDTO canceled = bookSlot(morningSlot);
+        WaitlistEntryDTO entry = join(PreferredWindow.MORNING, bath);
+
+        WaitlistEntryDTO left = waitlistService.applyAction(entry.id(), WaitlistAction.CANCEL);
+        appointmentService.applyAction(canceled.id(), AppointmentAction.CANCEL);
+
+        assertThat(left.status()).isEqualTo(WaitlistStatus.CANCELED);
+        assertThat(waitlistService.listWaitlist(day)).isEmpty();
+        assertThat(appointmentService.getAgenda(day).entries())
+                .extracting(AgendaEntryDTO::status).containsExactly(AppointmentStatus.CANCELED);
+        assertThatThrownBy(() -> waitlistService.applyAction(entry.id(), WaitlistAction.CANCEL))
+                .isInstanceOf(DomainRuleException.class);
+    }
+
+    @Test
+    void joinWaitlist_forPastDate_shouldReject() {
+        OwnerDTO owner = newOwner();
+        Long petId = newPet(owner.id()).id();
+
+        assertThatThrownBy(() -> waitlistService.joinWaitlist(new WaitlistForm(
+                owner.id(), petId, LocalDate.now().minusDays(1), PreferredWindow.ANY, items(bath))))
+                .isInstanceOf(DomainRuleException.class);
+    }
+
+    // A reserva da fila roda fora da thread do cancelamento: repete a verificação até passar ou estourar o prazo
+    private static void eventually(Runnable assertion) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (true) {
+            try {
+                assertion.run();
+                return;
+            } catch (AssertionError e) {
+                if (System.nanoTime() > deadline) throw e;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("Interrupted while waiting for the waitlist backfill.", e);
+            }
+        }
+    }
+
+    private AppointmentDTO bookSlot(LocalDateTime slot) {
+        OwnerDTO owner = newOwner();
+        return appointmentService.createAppointment(new AppointmentForm(owner.id(), newPet(owner.id()).id(), slot, items(bath)));
+    }
+
+    private WaitlistEntryDTO join(PreferredWindow window, Long catalogId) {
+        OwnerDTO owner = newOwner();
+        return waitlistService.joinWaitlist(new WaitlistForm(owner.id(), newPet(owner.id()).id(), day, window, items(catalogId)));
+    }
+}
@@ -0,0 +1,175 @@
+package com.br.pet_shop_management.application.service.budget;
+
+import com.br.pet_shop_management.api.dto.request.AppointmentForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSearchForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSeriesForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSeriesUpdateForm;
+import com.br.pet_shop_management.api.dto.request.RecurrenceForm;
+import com.br.pet_shop_management.api.dto.request.enums.AppointmentAction;
+import com.br.pet_shop_management.api.dto.request.enums.AppointmentSeriesAction;
+import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentSeriesDTO;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.api.dto.response.PetDTO;
+import com.br.pet_shop_management.domain.enums.RecurrenceFrequency;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.br.pet_shop_management.support.StatementBudget.assertWithin;
+
+class AppointmentServiceStatementBudgetTest extends PostgresIntegrationTest {
+
+    private OwnerDTO owner;
+    private PetDTO pet;
+    private Long bath;
+    private Long grooming;
+    private Long nails;
+
+    @BeforeEach
+    void setUp() {
+        owner = newOwner();
+        pet = newPet(owner.id());
+        bath = newCatalogItem().id();
+        grooming = newCatalogItem().id();
+        nails = newCatalogItem().id();
+    }
+
+    @Test
+    void createAppointment_withOneItem_shouldStayWithinBudget() {
+        // owner, pet, conflito, recursos ativos (sem nenhum, sem trava nem leitura de ocupação), insert do
+        // agendamento, lote de itens
+        assertWithin(6, "createAppointment(1 item)", () -> appointmentService.createAppointment(
+                new AppointmentForm(owner.id(), pet.id(), nextSlot(), items(bath))));
+    }
+
+    @Test
+    void createAppointment_withThreeItems_shouldStayWithinBudget() {
+        // itens vão em um único lote JDBC; preços vêm do snapshot do catálogo
+        assertWithin(6, "createAppointment(3 items)", () -> appointmentService.createAppointment(
+                new AppointmentForm(owner.id(), pet.id(), nextSlot(), items(bath, grooming, nails))));
+    }
+
+    @Test
+    void createAppointment_withTenItems_shouldCostTheSameAsOneItem() {
+        assertWithin(6, "createAppointment(10 items)", () -> appointmentService.createAppointment(
+                new AppointmentForm(owner.id(), pet.id(), nextSlot(),
+                        items(bath, grooming, nails, bath, grooming, nails, bath, grooming, nails, bath))));
+    }
+
+    @Test
+    void createAppointmentSeries_shouldNotGrowWithOccurrences() {
+        // owner, pet, uma consulta de conflitos para a série toda, recursos ativos, inserts da série,
+        // dos agendamentos e dos itens em lote
+        assertWithin(7, "createAppointmentSeries(12 weekly, 2 items)", () -> appointmentService.createAppointmentSeries(
+                new AppointmentSeriesForm(owner.id(), pet.id(), farSlot(),
+                        new RecurrenceForm(RecurrenceFrequency.WEEKLY, 1, 12, null), items(bath, grooming))));
+    }
+
+    @Test
+    void rescheduleAppointmentSeries_shouldBeASingleUpdate() {
+        AppointmentSeriesDTO series = newSeries();
+
+        // lock da série, ocorrências à frente com duração, conflitos, recursos ativos, update com
+        // returning, itens para os eventos
+        assertWithin(6, "rescheduleAppointmentSeries(12 weekly)", () -> appointmentService.rescheduleAppointmentSeries(
+                series.id(), new AppointmentSeriesUpdateForm(Duration.ofHours(1))));
+    }
+
+    @Test
+    void cancelAppointmentSeries_shouldBeASingleUpdate() {
+        AppointmentSeriesDTO series = newSeries();
+
+        // lock da série, update com returning, itens para os eventos
+        assertWithin(3, "applySeriesAction(CANCEL, 12 weekly)",
+                () -> appointmentService.applySeriesAction(series.id(), AppointmentSeriesAction.CANCEL));
+    }
+
+    @Test
+    void addAppointmentItems_shouldStayWithinBudget() {
+        AppointmentDTO appointment = newAppointment(owner.id(), pet.id(), bath);
+
+        // select for update, lote de 2 inserts, releitura dos itens, recursos ativos, update do total
+        assertWithin(5, "addAppointmentItems(2 items)",
+                () -> appointmentService.addAppointmentItems(appointment.id(), items(grooming, nails)));
+    }
+
+    @Test
+    void findById_shouldStayWithinBudget() {
+        AppointmentDTO appointment = newAppointment(owner.id(), pet.id(), bath, grooming, nails);
+
+        // agendamento com owner/pet + itens
+        assertWithin(2, "findById", () -> appointmentService.findById(appointment.id()));
+    }
+
+    @Test
+    void listFutureAppointments_shouldNotGrowWithPageSize() {
+        for (int i = 0; i < 5; i++) {
+            newAppointment(owner.id(), pet.id(), bath, grooming);
+        }
+
+        // página, count e itens de todos os agendamentos da página em um único select
+        assertWithin(3, "listFutureAppointments(page of 20)",
+                () -> appointmentService.listFutureAppointments(null, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void listHistory_shouldStayWithinBudget() {
+        assertWithin(3, "listHistory(page of 20)",
+                () -> appointmentService.listHistory(null, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void searchAppointments_shouldBeASingleProjectionQuery() {
+        for (int i = 0; i < 5; i++) {
+            newAppointment(owner.id(), pet.id(), bath, grooming);
+        }
+
+        // só as colunas do resumo, sem count: a próxima página sai do cursor
+        assertWithin(1, "searchAppointments(owner, catalog)", () -> appointmentService.searchAppointments(
+                new AppointmentSearchForm(owner.id(), null, bath, null, null, null, null, null, 20)));
+    }
+
+    @Test
+    void getAgenda_ofLoadedDay_shouldNotTouchTheDatabase() {
+        AppointmentDTO appointment = newAppointment(owner.id(), pet.id(), bath);
+        appointmentService.getAgenda(appointment.scheduledAt().toLocalDate());
+
+        // dia já em memória; o agendamento seguinte entra pelo evento pós-commit
+        newAppointment(owner.id(), pet.id(), grooming);
+        assertWithin(0, "getAgenda(loaded day)",
+                () -> appointmentService.getAgenda(appointment.scheduledAt().toLocalDate()));
+    }
+
+    @Test
+    void applyAction_start_shouldStayWithinBudget() {
+        AppointmentDTO appointment = newAppointment(owner.id(), pet.id(), bath, grooming);
+
+        // select for update, update de status, itens
+        assertWithin(3, "applyAction(START)",
+                () -> appointmentService.applyAction(appointment.id(), AppointmentAction.START));
+    }
+
+    @Test
+    void applyAction_cancel_shouldStayWithinBudget() {
+        AppointmentDTO appointment = newAppointment(owner.id(), pet.id(), bath, grooming);
+
+        assertWithin(3, "applyAction(CANCEL)",
+                () -> appointmentService.applyAction(appointment.id(), AppointmentAction.CANCEL));
+    }
+
+    private AppointmentSeriesDTO newSeries() {
+        return appointmentService.createAppointmentSeries(new AppointmentSeriesForm(owner.id(), pet.id(), farSlot(),
+                new RecurrenceForm(RecurrenceFrequency.WEEKLY, 1, 12, null), items(bath, grooming)));
+    }
+
+    // Longe do alcance de nextSlot(): doze semanas livres para o pet novo
+    private static LocalDateTime farSlot() {
+        return LocalDate.now().plusYears(8).plusDays(System.nanoTime() % 3000).atTime(10, 0);
+    }
+}
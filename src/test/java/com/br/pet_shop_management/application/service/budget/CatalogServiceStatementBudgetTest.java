@@ -0,0 +1,100 @@
+package com.br.pet_shop_management.application.service.budget;
+
+import com.br.pet_shop_management.api.dto.request.CatalogForm;
+import com.br.pet_shop_management.api.dto.request.CatalogPriceAdjustmentForm;
+import com.br.pet_shop_management.api.dto.request.CatalogPriceItemForm;
+import com.br.pet_shop_management.api.dto.request.CatalogPriceVersionForm;
+import com.br.pet_shop_management.api.dto.request.enums.CatalogAction;
+import com.br.pet_shop_management.api.dto.request.enums.PriceAdjustmentType;
+import com.br.pet_shop_management.api.dto.response.CatalogDTO;
+import com.br.pet_shop_management.domain.enums.PetSize;
+import com.br.pet_shop_management.domain.enums.Status;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.br.pet_shop_management.support.StatementBudget.assertWithin;
+
+class CatalogServiceStatementBudgetTest extends PostgresIntegrationTest {
+
+    private CatalogDTO item;
+
+    @BeforeEach
+    void setUp() {
+        item = newCatalogItem();
+        newCatalogItem();
+    }
+
+    @Test
+    void findCatalogItems_fromSnapshot_shouldStayWithinBudget() {
+        // servido pelo snapshot em memória
+        assertWithin(0, "findCatalogItems", () -> catalogService.findCatalogItems(Status.ACTIVE, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void findCatalogItems_sorted_shouldNotGrowWithPageSize() {
+        // página + count
+        assertWithin(2, "findCatalogItems(sorted)", () -> catalogService.findCatalogItems(Status.ACTIVE,
+                PageRequest.of(0, 20, Sort.by("name"))));
+    }
+
+    @Test
+    void findCatalogItemsSlice_shouldStayWithinBudget() {
+        assertWithin(0, "findCatalogItemsSlice",
+                () -> catalogService.findCatalogItemsSlice(null, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void currentCatalogVersion_shouldStayWithinBudget() {
+        assertWithin(0, "currentCatalogVersion", () -> catalogService.currentCatalogVersion());
+    }
+
+    @Test
+    void findById_shouldStayWithinBudget() {
+        assertWithin(1, "findById", () -> catalogService.findById(item.id()));
+    }
+
+    @Test
+    void findPriceAt_shouldStayWithinBudget() {
+        assertWithin(0, "findPriceAt",
+                () -> catalogService.findPriceAt(item.id(), PetSize.LARGE, LocalDateTime.now()));
+    }
+
+    @Test
+    void saveCatalogItem_shouldStayWithinBudget() {
+        // escritas incluem o incremento de catalog_version e a recarga do snapshot após o commit
+        assertWithin(7, "saveCatalogItem", () -> catalogService.saveCatalogItem(new CatalogForm(
+                "Tosa " + item.id(), null, 45,
+                new BigDecimal("40.00"), new BigDecimal("55.00"), new BigDecimal("70.00"))));
+    }
+
+    @Test
+    void applyAction_shouldStayWithinBudget() {
+        assertWithin(6, "applyAction(DEACTIVATE)", () -> catalogService.applyAction(item.id(), CatalogAction.DEACTIVATE));
+    }
+
+    @Test
+    void registerPriceVersion_shouldStayWithinBudget() {
+        assertWithin(5, "registerPriceVersion", () -> catalogService.registerPriceVersion(new CatalogPriceVersionForm(
+                LocalDateTime.now().plusDays(30),
+                List.of(new CatalogPriceItemForm(item.id(),
+                        new BigDecimal("52.00"), new BigDecimal("63.00"), new BigDecimal("79.00"))))));
+    }
+
+    @Test
+    void adjustPrices_shouldStayWithinBudget() {
+        assertWithin(6, "adjustPrices", () -> catalogService.adjustPrices(new CatalogPriceAdjustmentForm(
+                PriceAdjustmentType.PERCENTAGE, new BigDecimal("10"), null, List.of(item.id()))));
+    }
+
+    @Test
+    void deleteCatalogItem_shouldStayWithinBudget() {
+        assertWithin(7, "deleteCatalogItem", () -> catalogService.deleteCatalogItem(item.id()));
+    }
+}
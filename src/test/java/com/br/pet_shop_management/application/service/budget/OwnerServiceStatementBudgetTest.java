@@ -0,0 +1,71 @@
+package com.br.pet_shop_management.application.service.budget;
+
+import com.br.pet_shop_management.api.dto.request.OwnerForm;
+import com.br.pet_shop_management.api.dto.request.OwnerUpdateForm;
+import com.br.pet_shop_management.api.dto.request.enums.OwnerAction;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import static com.br.pet_shop_management.support.StatementBudget.assertWithin;
+
+class OwnerServiceStatementBudgetTest extends PostgresIntegrationTest {
+
+    private OwnerDTO owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = newOwner();
+        newPet(owner.id());
+        newPet(owner.id());
+    }
+
+    @Test
+    void findAll_shouldStayWithinBudget() {
+        // página + count
+        assertWithin(2, "findAll", () -> ownerService.findAll(PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void findAllSlice_shouldStayWithinBudget() {
+        assertWithin(1, "findAllSlice", () -> ownerService.findAllSlice(PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void findByCpf_shouldStayWithinBudget() {
+        assertWithin(1, "findByCpf", () -> ownerService.findByCpf(owner.cpf()));
+    }
+
+    @Test
+    void findById_shouldStayWithinBudget() {
+        assertWithin(1, "findById", () -> ownerService.findById(owner.id()));
+    }
+
+    @Test
+    void findVersionById_shouldStayWithinBudget() {
+        assertWithin(1, "findVersionById", () -> ownerService.findVersionById(owner.id()));
+    }
+
+    @Test
+    void saveOwner_shouldStayWithinBudget() {
+        // checagem de CPF, insert
+        assertWithin(2, "saveOwner", () -> ownerService.saveOwner(new OwnerForm(
+                "Maria Souza", String.format("%011d", owner.id() + 90_000_000_000L), "11912345678", null, null)));
+    }
+
+    @Test
+    void updateOwnerContact_shouldStayWithinBudget() {
+        // sem transação no serviço: select, select do merge da entidade destacada e update
+        assertWithin(3, "updateOwnerContact", () -> ownerService.updateOwnerContact(owner.cpf(),
+                new OwnerUpdateForm("(11) 98888-7777", "novo@email.com", null)));
+    }
+
+    @Test
+    void applyAction_deactivateAndActivate_shouldNotGrowWithPets() {
+        // status dos pets sincronizado em um único update em lote
+        assertWithin(4, "applyAction(DEACTIVATE)", () -> ownerService.applyAction(owner.cpf(), OwnerAction.DEACTIVATE));
+        assertWithin(3, "applyAction(ACTIVATE)", () -> ownerService.applyAction(owner.cpf(), OwnerAction.ACTIVATE));
+    }
+}
@@ -0,0 +1,42 @@
+package com.br.pet_shop_management.application.service.budget;
+
+import com.br.pet_shop_management.api.dto.request.PaymentForm;
+import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.api.dto.response.PetDTO;
+import com.br.pet_shop_management.application.service.PaymentService;
+import com.br.pet_shop_management.domain.enums.PaymentMethod;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static com.br.pet_shop_management.support.StatementBudget.assertWithin;
+
+class PaymentServiceStatementBudgetTest extends PostgresIntegrationTest {
+
+    @Autowired
+    PaymentService paymentService;
+
+    private AppointmentDTO appointment;
+
+    @BeforeEach
+    void setUp() {
+        OwnerDTO owner = newOwner();
+        PetDTO pet = newPet(owner.id());
+        appointment = newAppointmentWaitingPayment(owner.id(), pet.id(), newCatalogItem().id(), newCatalogItem().id());
+    }
+
+    @Test
+    void registerPayment_pix_shouldStayWithinBudget() {
+        // select for update, pagamento existente, insert do pagamento, update de status
+        assertWithin(4, "registerPayment(PIX)",
+                () -> paymentService.registerPayment(appointment.id(), new PaymentForm(PaymentMethod.PIX, null)));
+    }
+
+    @Test
+    void registerPayment_card_shouldStayWithinBudget() {
+        assertWithin(4, "registerPayment(CARD)",
+                () -> paymentService.registerPayment(appointment.id(), new PaymentForm(PaymentMethod.CARD, 3)));
+    }
+}
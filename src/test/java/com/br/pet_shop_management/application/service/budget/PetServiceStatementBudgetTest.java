@@ -0,0 +1,66 @@
+package com.br.pet_shop_management.application.service.budget;
+
+import com.br.pet_shop_management.api.dto.request.PetForm;
+import com.br.pet_shop_management.api.dto.request.PetUpdateForm;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.api.dto.response.PetDTO;
+import com.br.pet_shop_management.domain.enums.Breed;
+import com.br.pet_shop_management.domain.enums.PetSize;
+import com.br.pet_shop_management.domain.enums.Species;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import static com.br.pet_shop_management.support.StatementBudget.assertWithin;
+
+class PetServiceStatementBudgetTest extends PostgresIntegrationTest {
+
+    private OwnerDTO owner;
+    private PetDTO pet;
+
+    @BeforeEach
+    void setUp() {
+        owner = newOwner();
+        pet = newPet(owner.id());
+        newPet(owner.id());
+    }
+
+    @Test
+    void findPets_shouldNotGrowWithPageSize() {
+        // página + count, sem carregar owners
+        assertWithin(2, "findPets", () -> petService.findPets(Species.DOG, null, null, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void findPetsSlice_shouldNotGrowWithPageSize() {
+        assertWithin(1, "findPetsSlice", () -> petService.findPetsSlice(null, null, owner.id(), PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void findById_shouldStayWithinBudget() {
+        assertWithin(1, "findById", () -> petService.findById(pet.id()));
+    }
+
+    @Test
+    void findVersionById_shouldStayWithinBudget() {
+        assertWithin(1, "findVersionById", () -> petService.findVersionById(pet.id()));
+    }
+
+    @Test
+    void savePet_shouldStayWithinBudget() {
+        // owner, insert com flush imediato
+        assertWithin(2, "savePet", () -> petService.savePet(new PetForm(
+                owner.id(), "Thor", Species.DOG, Breed.BEAGLE, PetSize.SMALL, null, null, null)));
+    }
+
+    @Test
+    void patchPet_shouldStayWithinBudget() {
+        assertWithin(2, "patchPet", () -> petService.patchPet(pet.id(), new PetUpdateForm("Calmo", "Nenhuma")));
+    }
+
+    @Test
+    void deletePet_shouldStayWithinBudget() {
+        assertWithin(2, "deletePet", () -> petService.deletePet(pet.id()));
+    }
+}
@@ -0,0 +1,60 @@
+package com.br.pet_shop_management.application.service.budget;
+
+import com.br.pet_shop_management.api.dto.request.AppointmentForm;
+import com.br.pet_shop_management.api.dto.request.ResourceForm;
+import com.br.pet_shop_management.api.dto.request.enums.ResourceAction;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.api.dto.response.ResourceDTO;
+import com.br.pet_shop_management.application.service.ResourceService;
+import com.br.pet_shop_management.domain.enums.ResourceType;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.br.pet_shop_management.support.StatementBudget.assertWithin;
+
+class ResourceServiceStatementBudgetTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ResourceService resourceService;
+
+    private List<ResourceDTO> resources;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        resources = List.of(newResource(ResourceType.STAFF), newResource(ResourceType.STAFF), newResource(ResourceType.STATION));
+        day = LocalDate.now().plusYears(11).plusDays(System.nanoTime() % 3000);
+        Long bath = newCatalogItem().id();
+        for (int hour = 9; hour < 12; hour++) {
+            OwnerDTO owner = newOwner();
+            appointmentService.createAppointment(new AppointmentForm(owner.id(), newPet(owner.id()).id(), day.atTime(hour, 0), items(bath)));
+        }
+    }
+
+    // Recursos valem para todos os agendamentos: desativados ao fim para não limitar as outras classes
+    @AfterEach
+    void tearDown() {
+        resources.forEach(resource -> resourceService.applyAction(resource.id(), ResourceAction.DEACTIVATE));
+    }
+
+    @Test
+    void getUtilization_shouldNotGrowWithResourcesOrAppointments() {
+        // recursos + ocupação do dia (agendamentos e itens agregados numa consulta)
+        assertWithin(2, "getUtilization", () -> resourceService.getUtilization(day));
+    }
+
+    @Test
+    void findResources_shouldStayWithinBudget() {
+        assertWithin(1, "findResources", () -> resourceService.findResources(null));
+    }
+
+    private ResourceDTO newResource(ResourceType type) {
+        return resourceService.saveResource(new ResourceForm(type + " " + System.nanoTime() % 1_000_000_000L, type));
+    }
+}
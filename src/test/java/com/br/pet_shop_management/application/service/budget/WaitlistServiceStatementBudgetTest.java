@@ -0,0 +1,60 @@
+package com.br.pet_shop_management.application.service.budget;
+
+import com.br.pet_shop_management.api.dto.request.WaitlistForm;
+import com.br.pet_shop_management.api.dto.request.enums.WaitlistAction;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.api.dto.response.WaitlistEntryDTO;
+import com.br.pet_shop_management.application.service.WaitlistService;
+import com.br.pet_shop_management.domain.enums.PreferredWindow;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+
+import static com.br.pet_shop_management.support.StatementBudget.assertWithin;
+
+class WaitlistServiceStatementBudgetTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    private OwnerDTO owner;
+    private Long petId;
+    private Long bath;
+    private Long grooming;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        owner = newOwner();
+        petId = newPet(owner.id()).id();
+        bath = newCatalogItem().id();
+        grooming = newCatalogItem().id();
+        day = LocalDate.now().plusYears(9).plusDays(System.nanoTime() % 3000);
+    }
+
+    @Test
+    void joinWaitlist_shouldStayWithinBudget() {
+        // owner, pet, insert da entrada, itens num lote só; catálogo vem do snapshot
+        assertWithin(4, "joinWaitlist", () -> join());
+    }
+
+    @Test
+    void listWaitlist_fromMemory_shouldStayWithinBudget() {
+        join();
+        assertWithin(0, "listWaitlist", () -> waitlistService.listWaitlist(day));
+    }
+
+    @Test
+    void cancelEntry_shouldStayWithinBudget() {
+        WaitlistEntryDTO entry = join();
+        // select for update com owner e pet + update
+        assertWithin(2, "cancelWaitlistEntry", () -> waitlistService.applyAction(entry.id(), WaitlistAction.CANCEL));
+    }
+
+    private WaitlistEntryDTO join() {
+        return waitlistService.joinWaitlist(new WaitlistForm(owner.id(), petId, day, PreferredWindow.ANY, items(bath, grooming)));
+    }
+}
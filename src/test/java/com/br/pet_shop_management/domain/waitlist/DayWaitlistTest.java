@@ -0,0 +1,92 @@
+package com.br.pet_shop_management.domain.waitlist;
+
+import com.br.pet_shop_management.domain.enums.PreferredWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayWaitlistTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 3, 10);
+    private static final LocalTime TEN = LocalTime.of(10, 0);
+
+    private final DayWaitlist waitlist = new DayWaitlist(DAY);
+    private long sequence;
+
+    @Test
+    void pollBest_shouldSkipLongerEntriesAndKeepThemQueued() {
+        WaitlistCandidate longest = candidate(PreferredWindow.MORNING, 120);
+        WaitlistCandidate longer = candidate(PreferredWindow.ANY, 90);
+        WaitlistCandidate fits = candidate(PreferredWindow.MORNING, 30);
+        WaitlistCandidate laterFits = candidate(PreferredWindow.ANY, 30);
+
+        assertThat(waitlist.pollBest(TEN, 30)).contains(fits);
+        assertThat(waitlist.pollBest(TEN, 30)).contains(laterFits);
+        assertThat(waitlist.pollBest(TEN, 30)).isEmpty();
+        assertThat(waitlist.candidates()).containsExactly(longest, longer);
+    }
+
+    @Test
+    void pollBest_shouldPickTheOldestAcrossTheSlotWindowAndAny() {
+        candidate(PreferredWindow.AFTERNOON, 15);
+        WaitlistCandidate any = candidate(PreferredWindow.ANY, 60);
+        WaitlistCandidate morning = candidate(PreferredWindow.MORNING, 15);
+
+        assertThat(waitlist.pollBest(TEN, 60)).contains(any);
+        assertThat(waitlist.pollBest(TEN, 60)).contains(morning);
+        assertThat(waitlist.pollBest(TEN, 60)).isEmpty();
+    }
+
+    @Test
+    void pollBest_withDurationPastTheLastBucket_shouldOnlyServeWhenItFits() {
+        WaitlistCandidate huge = candidate(PreferredWindow.ANY, 3000);
+
+        assertThat(waitlist.pollBest(TEN, 2500)).isEmpty();
+        assertThat(waitlist.pollBest(TEN, 3000)).contains(huge);
+    }
+
+    @Test
+    void remove_shouldTakeTheEntryOutOfItsBucket() {
+        WaitlistCandidate first = candidate(PreferredWindow.MORNING, 30);
+        WaitlistCandidate second = candidate(PreferredWindow.MORNING, 30);
+
+        assertThat(waitlist.remove(first.entryId())).isTrue();
+        assertThat(waitlist.candidates()).containsExactly(second);
+        assertThat(waitlist.pollBest(TEN, 30)).contains(second);
+    }
+
+    @Test
+    void restore_afterRemovalWhilePolled_shouldKeepTheEntryOut() {
+        WaitlistCandidate canceled = candidate(PreferredWindow.MORNING, 30);
+        WaitlistCandidate blocked = candidate(PreferredWindow.MORNING, 30);
+        waitlist.pollBest(TEN, 30);
+        waitlist.pollBest(TEN, 30);
+
+        assertThat(waitlist.remove(canceled.entryId())).isTrue();
+
+        assertThat(waitlist.restore(canceled)).isFalse();
+        assertThat(waitlist.restore(blocked)).isTrue();
+        assertThat(waitlist.candidates()).containsExactly(blocked);
+    }
+
+    @Test
+    void isEmpty_shouldWaitForPolledEntriesToSettle() {
+        WaitlistCandidate booked = candidate(PreferredWindow.MORNING, 30);
+        waitlist.pollBest(TEN, 30);
+        assertThat(waitlist.isEmpty()).isFalse();
+
+        waitlist.settle(booked.entryId());
+        assertThat(waitlist.isEmpty()).isTrue();
+    }
+
+    private WaitlistCandidate candidate(PreferredWindow window, int minutes) {
+        long id = ++sequence;
+        WaitlistCandidate candidate = new WaitlistCandidate(id, id, id, DAY, window, minutes,
+                DAY.minusDays(1).atStartOfDay().plusMinutes(id));
+        waitlist.add(candidate);
+        return candidate;
+    }
+}
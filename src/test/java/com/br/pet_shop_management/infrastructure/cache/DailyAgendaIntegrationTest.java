@@ -0,0 +1,114 @@
+package com.br.pet_shop_management.infrastructure.cache;
+
+import com.br.pet_shop_management.api.dto.request.AppointmentForm;
+import com.br.pet_shop_management.api.dto.request.PaymentForm;
+import com.br.pet_shop_management.api.dto.request.enums.AppointmentAction;
+import com.br.pet_shop_management.api.dto.response.AgendaDTO;
+import com.br.pet_shop_management.api.dto.response.AgendaEntryDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.api.dto.response.PetDTO;
+import com.br.pet_shop_management.application.event.AppointmentChangedEvent;
+import com.br.pet_shop_management.application.event.AppointmentChangedEvent.ChangeType;
+import com.br.pet_shop_management.application.exception.DomainRuleException;
+import com.br.pet_shop_management.application.service.PaymentService;
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.domain.enums.PaymentMethod;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static com.br.pet_shop_management.support.StatementBudget.assertWithin;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A agenda do dia é lida do banco uma vez e depois segue as transições confirmadas sem
+ * nenhuma consulta na leitura.
+ */
+class DailyAgendaIntegrationTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private DailyAgendaHolder dailyAgendaHolder;
+
+    private OwnerDTO owner;
+    private PetDTO pet;
+    private Long bath;
+    private Long grooming;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        owner = newOwner();
+        pet = newPet(owner.id());
+        bath = newCatalogItem().id();
+        grooming = newCatalogItem().id();
+        // dia distante e único por execução: nenhum outro teste agenda nele
+        day = LocalDate.now().plusYears(5).plusDays(System.nanoTime() % 3000);
+    }
+
+    @Test
+    void agenda_shouldFollowCommittedTransitionsWithoutQueries() {
+        AppointmentDTO late = create(LocalTime.of(11, 0), bath);
+        assertThat(appointmentService.getAgenda(day).entries()).extracting(AgendaEntryDTO::appointmentId)
+                .containsExactly(late.id());
+
+        AppointmentDTO early = create(LocalTime.of(9, 30), bath);
+        appointmentService.addAppointmentItems(late.id(), items(grooming));
+        appointmentService.applyAction(early.id(), AppointmentAction.START);
+        appointmentService.applyAction(early.id(), AppointmentAction.CLOSE_FOR_PAYMENT);
+        paymentService.registerPayment(early.id(), new PaymentForm(PaymentMethod.PIX, null));
+
+        AgendaDTO agenda = assertWithin(0, "getAgenda(loaded day)", () -> appointmentService.getAgenda(day));
+
+        assertThat(agenda.entries()).extracting(AgendaEntryDTO::appointmentId).containsExactly(early.id(), late.id());
+        AgendaEntryDTO paid = agenda.entries().get(0);
+        assertThat(paid.time()).isEqualTo(LocalTime.of(9, 30));
+        assertThat(paid.status()).isEqualTo(AppointmentStatus.COMPLETED);
+        assertThat(paid.itemNames()).hasSize(1);
+        AgendaEntryDTO withMoreItems = agenda.entries().get(1);
+        assertThat(withMoreItems.itemNames()).hasSize(2);
+        assertThat(withMoreItems.totalGross()).isEqualByComparingTo(
+                appointmentService.findById(late.id()).totalGross());
+    }
+
+    @Test
+    void agenda_shouldIgnoreRolledBackChanges() {
+        AppointmentDTO appointment = create(LocalTime.of(14, 0), bath);
+        appointmentService.applyAction(appointment.id(), AppointmentAction.CANCEL);
+        List<AgendaEntryDTO> before = appointmentService.getAgenda(day).entries();
+
+        assertThatThrownBy(() -> appointmentService.applyAction(appointment.id(), AppointmentAction.START))
+                .isInstanceOf(DomainRuleException.class);
+
+        assertThat(appointmentService.getAgenda(day).entries()).isEqualTo(before);
+        assertThat(before.get(0).status()).isEqualTo(AppointmentStatus.CANCELED);
+    }
+
+    @Test
+    void agenda_shouldIgnoreEventsOlderThanTheCachedEntry() {
+        AppointmentDTO appointment = create(LocalTime.of(16, 0), bath);
+        appointmentService.applyAction(appointment.id(), AppointmentAction.START);
+
+        // o evento da criação chegando depois do START, como quando os commits terminam fora de ordem
+        dailyAgendaHolder.onAppointmentChanged(new AppointmentChangedEvent(ChangeType.CREATED, appointment.id(), 0L,
+                owner.id(), pet.id(), day.atTime(16, 0), AppointmentStatus.SCHEDULED, appointment.totalGross(),
+                List.of("Banho"), null));
+
+        assertThat(appointmentService.getAgenda(day).entries()).singleElement()
+                .extracting(AgendaEntryDTO::status).isEqualTo(AppointmentStatus.IN_PROGRESS);
+    }
+
+    private AppointmentDTO create(LocalTime time, Long... catalogIds) {
+        return appointmentService.createAppointment(
+                new AppointmentForm(owner.id(), pet.id(), day.atTime(time), items(catalogIds)));
+    }
+}
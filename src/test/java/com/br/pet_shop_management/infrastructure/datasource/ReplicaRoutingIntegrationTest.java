@@ -0,0 +1,121 @@
+package com.br.pet_shop_management.infrastructure.datasource;
+
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.infrastructure.web.ReplicaRoutingInterceptor;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uma instância atrás de dois pools, cada um com seu application_name: o nome visto pela
+ * sessão mostra para qual pool a transação foi roteada.
+ */
+@TestPropertySource(properties = {
+        "read-replica.enabled=true",
+        "spring.datasource.hikari.data-source-properties.ApplicationName=petshop-primary",
+        "read-replica.hikari.data-source-properties.ApplicationName=petshop-replica"
+})
+class ReplicaRoutingIntegrationTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clearRouting() {
+        RoutingContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(applicationName(true)).isEqualTo("petshop-replica");
+        assertThat(inTransaction(true, "show transaction_read_only")).isEqualTo("on");
+    }
+
+    @Test
+    void readWriteTransactionGoesToPrimary() {
+        assertThat(applicationName(false)).isEqualTo("petshop-primary");
+    }
+
+    @Test
+    void pinnedThreadReadsFromPrimary() {
+        RoutingContext.pinToPrimary();
+
+        assertThat(applicationName(true)).isEqualTo("petshop-primary");
+    }
+
+    @Test
+    void serviceWritesStillLandOnPrimary() {
+        OwnerDTO owner = newOwner();
+
+        assertThat(ownerService.findById(owner.id()).cpf()).isEqualTo(owner.cpf());
+    }
+
+    @Test
+    void writeRequestPinsAndOpensReadYourWritesWindow() throws Exception {
+        ReplicaRoutingInterceptor interceptor = new ReplicaRoutingInterceptor(
+                new ReadYourWritesTracker(Duration.ofMinutes(1)), "X-Client-Id");
+
+        MockHttpServletRequest write = request("POST", "client-a");
+        interceptor.preHandle(write, new MockHttpServletResponse(), null);
+        assertThat(applicationName(true)).isEqualTo("petshop-primary");
+        interceptor.afterCompletion(write, new MockHttpServletResponse(), null, null);
+        assertThat(RoutingContext.isPinnedToPrimary()).isFalse();
+
+        MockHttpServletRequest sameClientRead = request("GET", "client-a");
+        interceptor.preHandle(sameClientRead, new MockHttpServletResponse(), null);
+        assertThat(applicationName(true)).isEqualTo("petshop-primary");
+        interceptor.afterCompletion(sameClientRead, new MockHttpServletResponse(), null, null);
+
+        MockHttpServletRequest otherClientRead = request("GET", "client-b");
+        interceptor.preHandle(otherClientRead, new MockHttpServletResponse(), null);
+        assertThat(applicationName(true)).isEqualTo("petshop-replica");
+        interceptor.afterCompletion(otherClientRead, new MockHttpServletResponse(), null, null);
+    }
+
+    @Test
+    void failedWriteDoesNotOpenWindow() throws Exception {
+        ReplicaRoutingInterceptor interceptor = new ReplicaRoutingInterceptor(
+                new ReadYourWritesTracker(Duration.ofMinutes(1)), "X-Client-Id");
+
+        MockHttpServletRequest write = request("PUT", "client-c");
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        rejected.setStatus(409);
+        interceptor.preHandle(write, rejected, null);
+        interceptor.afterCompletion(write, rejected, null, null);
+
+        MockHttpServletRequest read = request("GET", "client-c");
+        interceptor.preHandle(read, new MockHttpServletResponse(), null);
+        assertThat(applicationName(true)).isEqualTo("petshop-replica");
+        interceptor.afterCompletion(read, new MockHttpServletResponse(), null, null);
+    }
+
+    private String applicationName(boolean readOnly) {
+        return inTransaction(readOnly, "select current_setting('application_name')");
+    }
+
+    private String inTransaction(boolean readOnly, String sql) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject(sql, String.class));
+    }
+
+    private static MockHttpServletRequest request(String method, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/appointments");
+        request.addHeader("X-Client-Id", clientId);
+        return request;
+    }
+}
@@ -0,0 +1,89 @@
+package com.br.pet_shop_management.infrastructure.feed;
+
+import com.br.pet_shop_management.application.event.AppointmentChangedEvent;
+import com.br.pet_shop_management.application.event.AppointmentChangedEvent.ChangeType;
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.infrastructure.config.AppointmentFeedProperties;
+import com.br.pet_shop_management.infrastructure.web.AdmissionRejectedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AppointmentFeedTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 3, 10);
+
+    // Executor manual: as tarefas de envio só rodam quando o teste mandar, simulando um cliente parado
+    private final List<Runnable> pendingSends = new ArrayList<>();
+    private AppointmentFeedProperties properties;
+    private AppointmentFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AppointmentFeedProperties();
+        properties.setQueueCapacity(3);
+        properties.setMaxSubscribers(2);
+        feed = new AppointmentFeed(properties, pendingSends::add, null);
+    }
+
+    @Test
+    void onAppointmentChanged_shouldScheduleSendOnlyForSubscribersOfThatDay() {
+        feed.subscribe(DAY);
+
+        feed.onAppointmentChanged(event(DAY.plusDays(1)));
+        assertThat(pendingSends).isEmpty();
+
+        feed.onAppointmentChanged(event(DAY));
+        feed.onAppointmentChanged(event(DAY));
+        assertThat(pendingSends).hasSize(1);
+
+        pendingSends.removeFirst().run();
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onAppointmentChanged_shouldDropSubscriberWhenQueueIsFull() {
+        feed.subscribe(DAY);
+
+        for (int i = 0; i < properties.getQueueCapacity(); i++) {
+            feed.onAppointmentChanged(event(DAY));
+        }
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+
+        feed.onAppointmentChanged(event(DAY));
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    @Test
+    void heartbeat_shouldAlsoCountAgainstTheQueue() {
+        feed.subscribe(DAY);
+
+        for (int i = 0; i <= properties.getQueueCapacity(); i++) {
+            feed.heartbeat();
+        }
+
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    @Test
+    void subscribe_shouldRejectAboveMaxSubscribers() {
+        feed.subscribe(DAY);
+        feed.subscribe(DAY);
+
+        assertThatThrownBy(() -> feed.subscribe(DAY))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .hasMessage("Appointment feed is at capacity.");
+    }
+
+    private static AppointmentChangedEvent event(LocalDate date) {
+        return new AppointmentChangedEvent(ChangeType.STATUS_CHANGED, 1L, 1L, 2L, 3L, date.atTime(10, 0),
+                AppointmentStatus.IN_PROGRESS, new BigDecimal("50.00"), List.of("Banho"), null);
+    }
+}
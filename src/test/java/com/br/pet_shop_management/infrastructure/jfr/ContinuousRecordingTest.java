@@ -0,0 +1,53 @@
+package com.br.pet_shop_management.infrastructure.jfr;
+
+import com.br.pet_shop_management.infrastructure.config.JfrProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContinuousRecordingTest {
+
+    @TempDir
+    Path directory;
+
+    private ContinuousRecording recording;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JfrProperties properties = new JfrProperties();
+        properties.setDumpDirectory(directory);
+        properties.setMaxDumps(2);
+        recording = new ContinuousRecording(properties);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.stop();
+    }
+
+    @Test
+    void dump_shouldKeepOnlyTheNewestFiles() throws Exception {
+        Path unrelated = Files.writeString(directory.resolve("notes.txt"), "kept");
+        List<String> dumped = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            dumped.add(recording.dump().file());
+            // o nome leva o timestamp em milissegundos
+            Thread.sleep(5);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(path -> path.toAbsolutePath().toString()))
+                    .containsExactlyInAnyOrder(dumped.get(2), dumped.get(3), unrelated.toAbsolutePath().toString());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.br.pet_shop_management.infrastructure.jfr;
+
+import com.br.pet_shop_management.api.dto.request.enums.AppointmentAction;
+import com.br.pet_shop_management.api.dto.request.enums.OwnerAction;
+import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.application.exception.DomainRuleException;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OperationEventIntegrationTest extends PostgresIntegrationTest {
+
+    private static final String APPOINTMENT_EVENT = "com.br.pet_shop_management.AppointmentOperation";
+    private static final String OWNER_EVENT = "com.br.pet_shop_management.OwnerOperation";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void serviceOperations_shouldCommitEventsAfterTheTransaction() throws Exception {
+        OwnerDTO owner = newOwner();
+        Long petId = newPet(owner.id()).id();
+        Long bath = newCatalogItem().id();
+
+        AppointmentDTO created;
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(AppointmentOperationEvent.class);
+            recording.enable(OwnerOperationEvent.class);
+            recording.start();
+
+            created = newAppointment(owner.id(), petId, bath);
+            // cancelar duas vezes: a segunda quebra a regra de estado e desfaz a transação
+            appointmentService.applyAction(created.id(), AppointmentAction.CANCEL);
+            assertThatThrownBy(() -> appointmentService.applyAction(created.id(), AppointmentAction.CANCEL))
+                    .isInstanceOf(DomainRuleException.class);
+            ownerService.applyAction(owner.cpf(), OwnerAction.DEACTIVATE);
+
+            recording.stop();
+            Path file = directory.resolve("operations.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        List<RecordedEvent> appointmentEvents = events.stream()
+                .filter(event -> event.getEventType().getName().equals(APPOINTMENT_EVENT))
+                .filter(event -> event.getLong("appointmentId") == created.id())
+                .toList();
+        assertThat(appointmentEvents)
+                .extracting(event -> event.getString("operation") + ":" + event.getString("action") + ":" + event.getString("outcome"))
+                .containsExactly("createAppointment:null:COMMITTED", "applyAction:CANCEL:COMMITTED", "applyAction:CANCEL:ROLLED_BACK");
+        assertThat(appointmentEvents.getFirst().getLong("statements")).isPositive();
+        assertThat(appointmentEvents.getFirst().getInt("itemsCount")).isEqualTo(1);
+
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals(OWNER_EVENT))
+                .filteredOn(event -> event.getLong("ownerId") == owner.id())
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("action")).isEqualTo("DEACTIVATE");
+                    assertThat(event.getString("outcome")).isEqualTo("COMMITTED");
+                });
+    }
+}
@@ -0,0 +1,77 @@
+package com.br.pet_shop_management.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggerRateSamplingFilterTest {
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("com.br.pet_shop_management.application.service.AppointmentService");
+    private final LoggerRateSamplingFilter filter = new LoggerRateSamplingFilter(now::get);
+
+    @BeforeEach
+    void setUp() {
+        logger.setLevel(Level.DEBUG);
+        filter.setMaxInfoPerSecond(3);
+        filter.setLoggerPrefix("com.br.pet_shop_management");
+        filter.start();
+    }
+
+    @Test
+    void decide_pastTheLimitWithinOneSecond_shouldDenyTheRest() {
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        now.addAndGet(900);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.DENY);
+        assertThat(filter.getDropped()).isEqualTo(2);
+
+        Logger other = context.getLogger("com.br.pet_shop_management.application.service.WaitlistService");
+        assertThat(decide(other, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void decide_inTheNextSecond_shouldResetTheCount() {
+        for (int i = 0; i < 3; i++) {
+            decide(logger, Level.INFO);
+        }
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+
+        now.addAndGet(1000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        }
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(filter.getDropped()).isEqualTo(2);
+    }
+
+    @Test
+    void decide_forWarnAndError_shouldAlwaysPass() {
+        for (int i = 0; i < 3; i++) {
+            decide(logger, Level.INFO);
+        }
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(logger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(logger, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+        }
+        assertThat(filter.getDropped()).isEqualTo(1);
+    }
+
+    private FilterReply decide(Logger target, Level level) {
+        return filter.decide(null, target, level, "line {}", new Object[]{1}, null);
+    }
+}
@@ -0,0 +1,129 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.api.dto.request.AppointmentForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentSearchForm;
+import com.br.pet_shop_management.api.dto.request.enums.AppointmentAction;
+import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentSearchDTO;
+import com.br.pet_shop_management.api.dto.response.AppointmentSummaryDTO;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.api.dto.response.PetDTO;
+import com.br.pet_shop_management.application.exception.InvalidInputException;
+import com.br.pet_shop_management.domain.enums.AppointmentStatus;
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A busca pagina por cursor (scheduledAt, id): instantes repetidos não podem pular nem
+ * repetir linhas entre páginas.
+ */
+class AppointmentSearchIntegrationTest extends PostgresIntegrationTest {
+
+    private OwnerDTO owner;
+    private Long bath;
+    private Long grooming;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        owner = newOwner();
+        bath = newCatalogItem().id();
+        grooming = newCatalogItem().id();
+        // faixa distante e única por execução, fora do alcance de nextSlot()
+        base = LocalDateTime.now().plusYears(6).plusDays(System.nanoTime() % 3000).withHour(8).withMinute(0)
+                .withSecond(0).withNano(0);
+    }
+
+    @Test
+    void search_shouldWalkAllPagesWithoutGapsOrRepeats() {
+        List<Long> expected = new ArrayList<>();
+        // três pets no mesmo instante forçam o desempate pelo id
+        for (int slot = 0; slot < 3; slot++) {
+            for (int p = 0; p < 3; p++) {
+                PetDTO pet = newPet(owner.id());
+                expected.add(create(pet, base.plusHours(slot), bath).id());
+            }
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            AppointmentSearchDTO page = appointmentService.searchAppointments(
+                    new AppointmentSearchForm(owner.id(), null, null, null, base, base.plusDays(1), null, cursor, 2));
+            page.content().forEach(summary -> seen.add(summary.id()));
+            cursor = page.nextCursor();
+            assertThat(page.hasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(5);
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void search_descending_shouldReturnLatestFirst() {
+        PetDTO pet = newPet(owner.id());
+        AppointmentDTO first = create(pet, base, bath);
+        AppointmentDTO second = create(pet, base.plusHours(1), bath);
+        AppointmentDTO third = create(pet, base.plusHours(2), bath);
+
+        AppointmentSearchDTO page = appointmentService.searchAppointments(
+                new AppointmentSearchForm(null, pet.id(), null, null, null, null, Sort.Direction.DESC, null, 2));
+        AppointmentSearchDTO next = appointmentService.searchAppointments(
+                new AppointmentSearchForm(null, pet.id(), null, null, null, null, Sort.Direction.DESC, page.nextCursor(), 2));
+
+        assertThat(page.content()).extracting(AppointmentSummaryDTO::id).containsExactly(third.id(), second.id());
+        assertThat(next.content()).extracting(AppointmentSummaryDTO::id).containsExactly(first.id());
+        assertThat(next.hasNext()).isFalse();
+    }
+
+    @Test
+    void search_byCatalogAndStatuses_shouldMatchEachAppointmentOnce() {
+        PetDTO pet = newPet(owner.id());
+        AppointmentDTO twiceBath = create(pet, base, bath, bath);
+        AppointmentDTO groomingOnly = create(pet, base.plusHours(1), grooming);
+        AppointmentDTO canceledBath = create(pet, base.plusHours(2), bath);
+        appointmentService.applyAction(canceledBath.id(), AppointmentAction.CANCEL);
+
+        AppointmentSearchDTO byCatalog = appointmentService.searchAppointments(
+                new AppointmentSearchForm(owner.id(), null, bath, null, null, null, null, null, null));
+        AppointmentSearchDTO byCatalogAndStatus = appointmentService.searchAppointments(
+                new AppointmentSearchForm(owner.id(), null, bath, Set.of(AppointmentStatus.CANCELED), null, null, null, null, null));
+        AppointmentSearchDTO byStatuses = appointmentService.searchAppointments(
+                new AppointmentSearchForm(owner.id(), null, null,
+                        Set.of(AppointmentStatus.SCHEDULED, AppointmentStatus.CANCELED), null, null, null, null, null));
+
+        assertThat(byCatalog.content()).extracting(AppointmentSummaryDTO::id)
+                .containsExactly(twiceBath.id(), canceledBath.id());
+        assertThat(byCatalogAndStatus.content()).extracting(AppointmentSummaryDTO::id)
+                .containsExactly(canceledBath.id());
+        assertThat(byStatuses.content()).extracting(AppointmentSummaryDTO::id)
+                .containsExactly(twiceBath.id(), groomingOnly.id(), canceledBath.id());
+    }
+
+    @Test
+    void search_withMalformedCursorOrInvertedRange_shouldReject() {
+        assertThatThrownBy(() -> appointmentService.searchAppointments(
+                new AppointmentSearchForm(null, null, null, null, null, null, null, "not-a-cursor", null)))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> appointmentService.searchAppointments(
+                new AppointmentSearchForm(null, null, null, null, base.plusDays(1), base, null, null, null)))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    private AppointmentDTO create(PetDTO pet, LocalDateTime scheduledAt, Long... catalogIds) {
+        return appointmentService.createAppointment(
+                new AppointmentForm(owner.id(), pet.id(), scheduledAt, items(catalogIds)));
+    }
+}
@@ -0,0 +1,147 @@
+package com.br.pet_shop_management.infrastructure.persistence;
+
+import com.br.pet_shop_management.support.PostgresIntegrationTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que cada consulta quente tem um índice das migrações que o planner escolhe.
+ * Cada caso semeia uma distribuição parecida com a real e roda ANALYZE dentro de uma
+ * transação desfeita no fim; o seq scan fica desligado porque, nesse volume, ler a tabela
+ * inteira ainda venceria. A medição com volume real está no README.
+ */
+class HotQueryIndexUsageTest extends PostgresIntegrationTest {
+
+    // Ids bem acima dos gerados pelas sequences, para não colidir com o que os outros testes criam
+    private static final String[] SEED = {
+            """
+            insert into owners (id, version, cpf, name, phone, status)
+            select 900000000 + g, 0, 'seed-' || g, 'Owner ' || g, '11900000000', 'ACTIVE'
+            from generate_series(1, 2000) g""",
+            """
+            insert into pets (id, version, owner_id, name, normalized_name, owner_status, species, breed, size)
+            select 900000000 + g, 0, 900000000 + (g % 2000) + 1, 'Pet ' || g, 'pet ' || g, 'ACTIVE', 'DOG', 'POODLE', 'MEDIUM'
+            from generate_series(1, 4000) g""",
+            """
+            insert into catalog (id, version, name, status, duration_minutes, price_small, price_medium, price_large)
+            select 900000000 + g, 0, 'Service ' || g, case when g % 10 = 0 then 'INACTIVE' else 'ACTIVE' end, 30, 50, 60, 75
+            from generate_series(1, 200) g""",
+            """
+            insert into appointments (id, version, owner_id, pet_id, scheduled_at, status, total_gross)
+            select 900000000 + g, 0, 900000000 + (g % 4000 % 2000) + 1, 900000000 + (g % 4000) + 1,
+                   timestamp '2029-01-01 08:00' + (g % 1460) * interval '1 day' + (g % 20) * interval '30 minutes',
+                   case when g % 1460 >= 730 then (array['SCHEDULED','SCHEDULED','SCHEDULED','CANCELED'])[g % 4 + 1]
+                        else (array['COMPLETED','COMPLETED','COMPLETED','CANCELED','WAITING_PAYMENT'])[g % 5 + 1] end,
+                   50
+            from generate_series(1, 20000) g""",
+            """
+            insert into appointment_items (id, version, appointment_id, catalog_id, catalog_name, quantity, unit_price_applied, subtotal)
+            select 900000000 + g, 0, 900000000 + (g % 20000) + 1, 900000000 + (g % 200) + 1, 'Service', 1, 50, 50
+            from generate_series(1, 30000) g""",
+            """
+            insert into payments (id, version, appointment_id, method, status, installments, final_amount, created_at)
+            select 900000000 + g, 0, 900000000 + g, 'PIX', 'APPROVED', 1, 50, timestamp '2029-01-01'
+            from generate_series(1, 10000) g""",
+            """
+            insert into resources (id, version, name, type, status, created_at)
+            select 900000000 + g, 0, 'Seed resource ' || g, case when g <= 5 then 'STAFF' else 'STATION' end, 'ACTIVE',
+                   timestamp '2029-01-01'
+            from generate_series(1, 8) g""",
+            """
+            update appointments set staff_id = 900000000 + (id % 5) + 1,
+                                    station_id = case when id % 2 = 0 then 900000006 + (id % 3) end
+             where id > 900000000 and id % 4 <> 0""",
+            "analyze owners, pets, catalog, appointments, appointment_items, payments, resources"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("pet slot conflict", """
+                        select a.id from appointments a where a.pet_id = 900000042
+                          and a.scheduled_at = timestamp '2030-06-01 10:00'
+                          and a.status in ('SCHEDULED','IN_PROGRESS','WAITING_PAYMENT')
+                        fetch first 1 rows only""",
+                        List.of("idx_appointments_pet_scheduled_status")),
+                Arguments.of("future agenda", """
+                        select a.id from appointments a where a.scheduled_at > timestamp '2031-01-01 10:00'
+                          and a.status in ('SCHEDULED','IN_PROGRESS','WAITING_PAYMENT')
+                        order by a.scheduled_at, a.id fetch first 20 rows only""",
+                        // quase todo futuro está ativo: varrer (scheduled_at, id) já em ordem e filtrar o status também serve
+                        List.of("idx_appointments_status_scheduled_id", "idx_appointments_scheduled_id")),
+                Arguments.of("history", """
+                        select a.id from appointments a where a.scheduled_at < timestamp '2031-01-01 10:00'
+                          and a.status in ('WAITING_PAYMENT')
+                        order by a.scheduled_at desc, a.id desc fetch first 20 rows only""",
+                        List.of("idx_appointments_status_scheduled_id")),
+                Arguments.of("owner active appointments", """
+                        select a.id from appointments a where a.owner_id = 900000042
+                          and a.status in ('SCHEDULED','IN_PROGRESS','WAITING_PAYMENT')
+                        fetch first 1 rows only""",
+                        List.of("idx_appointments_owner_status")),
+                Arguments.of("items by appointment", """
+                        select i.id from appointment_items i where i.appointment_id in (900000001, 900000002, 900000003)""",
+                        List.of("idx_appointment_items_appointment_id")),
+                Arguments.of("payment by appointment", """
+                        select p.id from payments p where p.appointment_id = 900000042 fetch first 1 rows only""",
+                        List.of("idx_payments_appointment_id")),
+                Arguments.of("pets by owner", """
+                        select p.id from pets p where p.owner_id = 900000042""",
+                        List.of("idx_pets_owner_id_owner_status", "uk_pets_owner_normalized_name")),
+                Arguments.of("catalog by status", """
+                        select c.id from catalog c where c.status = 'ACTIVE'""",
+                        List.of("idx_catalog_status")),
+                Arguments.of("search by range", """
+                        select a.id from appointments a where a.scheduled_at >= timestamp '2030-06-01'
+                          and a.scheduled_at < timestamp '2030-06-08'
+                        order by a.scheduled_at, a.id fetch first 21 rows only""",
+                        List.of("idx_appointments_scheduled_id")),
+                Arguments.of("search by owner", """
+                        select a.id from appointments a where a.owner_id = 900000042
+                          and a.scheduled_at >= timestamp '2029-01-01'
+                        order by a.scheduled_at, a.id fetch first 21 rows only""",
+                        List.of("idx_appointments_owner_scheduled_id")),
+                Arguments.of("search by catalog", """
+                        select a.id from appointments a where exists (
+                          select i.id from appointment_items i where i.appointment_id = a.id and i.catalog_id = 900000042)
+                        order by a.scheduled_at, a.id fetch first 21 rows only""",
+                        List.of("idx_appointment_items_catalog_appointment")),
+                Arguments.of("resource occupancy", """
+                        select a.id, sum(c.duration_minutes * i.quantity) from appointment_items i
+                          join appointments a on a.id = i.appointment_id join catalog c on c.id = i.catalog_id
+                         where cast(a.scheduled_at as date) in (date '2030-05-31', date '2030-06-01', date '2030-06-07', date '2030-06-08')
+                           and a.status in ('SCHEDULED','IN_PROGRESS','WAITING_PAYMENT')
+                           and (a.staff_id is not null or a.station_id is not null)
+                         group by a.id""",
+                        List.of("idx_appointments_staff_day")));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesIndex(String name, String sql, List<String> expectedIndexes) {
+        String plan = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            for (String statement : SEED) {
+                jdbcTemplate.execute(statement);
+            }
+            jdbcTemplate.execute("set local enable_seqscan = off");
+            return String.join("\n", jdbcTemplate.queryForList("explain (costs off) " + sql, String.class));
+        });
+
+        assertThat(expectedIndexes).as("plan for %s:%n%s", name, plan).anyMatch(plan::contains);
+    }
+}
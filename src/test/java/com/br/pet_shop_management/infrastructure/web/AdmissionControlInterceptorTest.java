@@ -0,0 +1,63 @@
+package com.br.pet_shop_management.infrastructure.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlInterceptorTest {
+
+    private final AdmissionLimiter limiter = new AdmissionLimiter(1, 0, Duration.ZERO);
+    private final AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(limiter, Duration.ofSeconds(1), null);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void asyncRequest_shouldReleaseOnceAcrossAsyncStartAndCompletion() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        assertThat(interceptor.preHandle(request, response, null)).isTrue();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+
+        // a thread original sai: a vaga volta já aqui
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        assertThat(limiter.inFlight()).isZero();
+
+        // o dispatch assíncrono passa pelo interceptor de novo sem pedir vaga e o fim não devolve outra
+        assertThat(interceptor.preHandle(request, response, null)).isTrue();
+        interceptor.afterCompletion(request, response, null, null);
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void syncRequest_shouldReleaseOnCompletion() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, null);
+
+        interceptor.afterCompletion(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void rejectedRequest_shouldNotReleaseAPermitItNeverHad() {
+        MockHttpServletRequest admitted = new MockHttpServletRequest();
+        MockHttpServletRequest rejected = new MockHttpServletRequest();
+        interceptor.preHandle(admitted, response, null);
+
+        assertThatThrownBy(() -> interceptor.preHandle(rejected, response, null))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .extracting(ex -> ((AdmissionRejectedException) ex).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(1));
+        interceptor.afterCompletion(rejected, response, null, null);
+
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+}
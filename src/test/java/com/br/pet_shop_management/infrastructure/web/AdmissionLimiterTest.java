@@ -0,0 +1,76 @@
+package com.br.pet_shop_management.infrastructure.web;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionLimiterTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void tryAcquire_whenNoPermitFreesUp_shouldFailAfterMaxWait() {
+        AdmissionLimiter limiter = new AdmissionLimiter(1, 1, Duration.ofMillis(200));
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        long startedAt = System.nanoTime();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+        assertThat(limiter.waiting()).isZero();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_withFullQueue_shouldRejectWithoutWaiting() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(1, 1, Duration.ofSeconds(10));
+        assertThat(limiter.tryAcquire()).isTrue();
+        Future<Boolean> waiter = executor.submit(limiter::tryAcquire);
+        awaitWaiting(limiter, 1);
+
+        long startedAt = System.nanoTime();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        assertThat(limiter.waiting()).isEqualTo(1);
+        limiter.release();
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void release_shouldHandThePermitToTheNextWaiter() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(1, 2, Duration.ofSeconds(10));
+        assertThat(limiter.tryAcquire()).isTrue();
+        Future<Boolean> waiter = executor.submit(limiter::tryAcquire);
+        awaitWaiting(limiter, 1);
+        assertThatThrownBy(() -> waiter.get(100, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        limiter.release();
+
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+        assertThat(limiter.waiting()).isZero();
+    }
+
+    private static void awaitWaiting(AdmissionLimiter limiter, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.waiting() < expected) {
+            assertThat(System.nanoTime()).as("waiters in the admission queue").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.br.pet_shop_management.support;
+
+import com.br.pet_shop_management.api.dto.request.AppointmentForm;
+import com.br.pet_shop_management.api.dto.request.AppointmentItemForm;
+import com.br.pet_shop_management.api.dto.request.CatalogForm;
+import com.br.pet_shop_management.api.dto.request.OwnerForm;
+import com.br.pet_shop_management.api.dto.request.PetForm;
+import com.br.pet_shop_management.api.dto.request.enums.AppointmentAction;
+import com.br.pet_shop_management.api.dto.response.AppointmentDTO;
+import com.br.pet_shop_management.api.dto.response.CatalogDTO;
+import com.br.pet_shop_management.api.dto.response.OwnerDTO;
+import com.br.pet_shop_management.api.dto.response.PetDTO;
+import com.br.pet_shop_management.application.service.AppointmentService;
+import com.br.pet_shop_management.application.service.CatalogService;
+import com.br.pet_shop_management.application.service.OwnerService;
+import com.br.pet_shop_management.application.service.PetService;
+import com.br.pet_shop_management.domain.enums.Breed;
+import com.br.pet_shop_management.domain.enums.PetSize;
+import com.br.pet_shop_management.domain.enums.Species;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base dos testes de integração: contexto completo contra um PostgreSQL real
+ * (um container por JVM, compartilhado entre as classes). Ignorado quando não há Docker.
+ * O schema vem das migrações Flyway e é validado contra o mapeamento JPA na subida.
+ */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:17-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.nanoTime() % 1_000_000_000L);
+
+    @Autowired
+    protected OwnerService ownerService;
+
+    @Autowired
+    protected PetService petService;
+
+    @Autowired
+    protected CatalogService catalogService;
+
+    @Autowired
+    protected AppointmentService appointmentService;
+
+    protected OwnerDTO newOwner() {
+        long n = SEQUENCE.incrementAndGet();
+        return ownerService.saveOwner(new OwnerForm(
+                "Owner " + n,
+                String.format("%011d", n),
+                "11987654321",
+                "owner" + n + "@email.com",
+                "Rua X, " + n));
+    }
+
+    protected PetDTO newPet(Long ownerId) {
+        return petService.savePet(new PetForm(
+                ownerId, "Pet " + SEQUENCE.incrementAndGet(), Species.DOG, Breed.POODLE, PetSize.MEDIUM,
+                null, null, null));
+    }
+
+    protected CatalogDTO newCatalogItem() {
+        return catalogService.saveCatalogItem(new CatalogForm(
+                "Service " + SEQUENCE.incrementAndGet(), null, 30,
+                new BigDecimal("50.00"), new BigDecimal("60.00"), new BigDecimal("75.00")));
+    }
+
+    protected AppointmentDTO newAppointment(Long ownerId, Long petId, Long... catalogIds) {
+        return appointmentService.createAppointment(new AppointmentForm(ownerId, petId, nextSlot(), items(catalogIds)));
+    }
+
+    protected AppointmentDTO newAppointmentWaitingPayment(Long ownerId, Long petId, Long... catalogIds) {
+        AppointmentDTO appointment = newAppointment(ownerId, petId, catalogIds);
+        appointmentService.applyAction(appointment.id(), AppointmentAction.START);
+        return appointmentService.applyAction(appointment.id(), AppointmentAction.CLOSE_FOR_PAYMENT);
+    }
+
+    protected static LocalDateTime nextSlot() {
+        return LocalDateTime.now().plusDays(1).plusMinutes(SEQUENCE.incrementAndGet() % 100_000)
+                .truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    protected static List<AppointmentItemForm> items(Long... catalogIds) {
+        return Arrays.stream(catalogIds).map(id -> new AppointmentItemForm(id, 1)).toList();
+    }
+}
@@ -0,0 +1,34 @@
+package com.br.pet_shop_management.support;
+
+import com.br.pet_shop_management.infrastructure.metrics.StatementCountingInspector;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Conta os comandos SQL emitidos pelo Hibernate durante um trecho (mesma thread, incluindo
+ * o que roda após o commit) e falha se passar do orçamento. Os {@code nextval} das sequences pooled
+ * ficam fora da conta, porque dependem de onde o bloco de ids está e não da operação.
+ */
+public final class StatementBudget {
+    private StatementBudget() {}
+
+    public static <T> T assertWithin(long budget, String operation, Supplier<T> action) {
+        StatementCountingInspector.reset();
+        T result = action.get();
+        long executed = StatementCountingInspector.current() - StatementCountingInspector.sequenceFetches();
+
+        assertThat(executed)
+                .as("SQL statements executed by %s (budget %d)", operation, budget)
+                .isLessThanOrEqualTo(budget);
+        return result;
+    }
+
+    public static void assertWithin(long budget, String operation, Runnable action) {
+        assertWithin(budget, operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+}